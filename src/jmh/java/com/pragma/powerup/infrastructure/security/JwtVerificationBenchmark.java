@@ -0,0 +1,75 @@
+package com.pragma.powerup.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-request CPU cost of turning a bearer token into an authenticated principal.
+ *
+ * <p>{@code legacy*} reproduces what {@link JwtAuthenticationFilter} did before the single-parse
+ * path: {@code isValid}, {@code extractUserId}, {@code extractEmail} and {@code extractRole}, each
+ * rebuilding the key and parser. {@code singleParse} is the current {@link JwtValidator#verify}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+  private static final String SECRET = "benchmark-secret-for-hexagonal-architecture-microservices";
+
+  private JwtValidator validator;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    validator = new JwtValidator(SECRET);
+    token =
+        Jwts.builder()
+            .subject("owner@example.com")
+            .claim("userId", 42L)
+            .claim("roles", List.of(RoleConstants.OWNER))
+            .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(2)))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+  }
+
+  @Benchmark
+  public void legacyFourParsesRebuildingParser(Blackhole bh) {
+    bh.consume(legacyParse(token));
+    bh.consume(legacyParse(token).get("userId"));
+    bh.consume(legacyParse(token).getSubject());
+    bh.consume(legacyParse(token).get("roles"));
+  }
+
+  @Benchmark
+  public void legacyFourParsesCachedParser(Blackhole bh) {
+    bh.consume(validator.isValid(token));
+    bh.consume(validator.extractUserId(token));
+    bh.consume(validator.extractEmail(token));
+    bh.consume(validator.extractRole(token));
+  }
+
+  @Benchmark
+  public JwtPrincipal singleParse() {
+    return validator.verify(token);
+  }
+
+  private static Claims legacyParse(String token) {
+    SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+  }
+}
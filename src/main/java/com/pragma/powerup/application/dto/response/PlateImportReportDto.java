@@ -0,0 +1,15 @@
+package com.pragma.powerup.application.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlateImportReportDto {
+  private int created;
+  private int rejected;
+  private List<PlateImportRowResultDto> rows;
+}
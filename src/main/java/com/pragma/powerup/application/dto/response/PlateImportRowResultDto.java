@@ -0,0 +1,19 @@
+package com.pragma.powerup.application.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlateImportRowResultDto {
+  private int line;
+  private String name;
+
+  /** CREATED or REJECTED. */
+  private String status;
+
+  private Long plateId;
+  private String error;
+}
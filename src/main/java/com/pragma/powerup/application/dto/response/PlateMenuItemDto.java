@@ -0,0 +1,25 @@
+package com.pragma.powerup.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pragma.powerup.domain.model.PlateCategory;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlateMenuItemDto {
+  private Long id;
+  private String name;
+  private Integer price;
+
+  // Ausente en la vista SUMMARY
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String description;
+
+  private String imageUrl;
+  private PlateCategory category;
+  private boolean active;
+  private Long restaurantId;
+}
@@ -0,0 +1,18 @@
+package com.pragma.powerup.application.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One page of a listing. {@code nextCursor} is only set by seek-paginated listings and is null on
+ * the last page; {@code approximateTotal} is null unless the client asked for it.
+ */
+@Getter
+@AllArgsConstructor
+public class SliceDto<T> {
+  private final List<T> items;
+  private final boolean hasNext;
+  private final String nextCursor;
+  private final Long approximateTotal;
+}
@@ -3,9 +3,11 @@ package com.pragma.powerup.application.handler;
 import com.pragma.powerup.application.dto.request.PlateCreateRequestDto;
 import com.pragma.powerup.application.dto.request.PlateStatusUpdateRequestDto;
 import com.pragma.powerup.application.dto.request.PlateUpdateRequestDto;
+import com.pragma.powerup.application.dto.response.PlateMenuItemDto;
 import com.pragma.powerup.application.dto.response.PlateResponseDto;
+import com.pragma.powerup.application.dto.response.SliceDto;
 import com.pragma.powerup.domain.model.PlateCategory;
-import java.util.List;
+import com.pragma.powerup.domain.model.PlateMenuView;
 
 public interface IPlateHandler {
   PlateResponseDto create(PlateCreateRequestDto requestDto, Long ownerId);
@@ -14,6 +16,19 @@ public interface IPlateHandler {
 
   PlateResponseDto updateStatus(Long plateId, PlateStatusUpdateRequestDto requestDto, Long ownerId);
 
-  List<PlateResponseDto> listByRestaurant(
-      Long restaurantId, PlateCategory category, int page, int size);
+  SliceDto<PlateMenuItemDto> listByRestaurant(
+      Long restaurantId,
+      PlateCategory category,
+      PlateMenuView view,
+      int page,
+      int size,
+      boolean withTotal);
+
+  SliceDto<PlateMenuItemDto> listByRestaurantAfter(
+      Long restaurantId,
+      PlateCategory category,
+      PlateMenuView view,
+      String cursor,
+      int size,
+      boolean withTotal);
 }
@@ -0,0 +1,10 @@
+package com.pragma.powerup.application.handler;
+
+import com.pragma.powerup.application.dto.response.PlateImportReportDto;
+import com.pragma.powerup.application.importer.PlateImportFormat;
+import java.io.InputStream;
+
+public interface IPlateImportHandler {
+  PlateImportReportDto importMenu(
+      Long restaurantId, PlateImportFormat format, InputStream body, Long ownerId);
+}
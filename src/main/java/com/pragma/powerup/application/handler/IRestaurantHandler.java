@@ -3,12 +3,14 @@ package com.pragma.powerup.application.handler;
 import com.pragma.powerup.application.dto.request.RestaurantCreateRequestDto;
 import com.pragma.powerup.application.dto.response.RestaurantListItemDto;
 import com.pragma.powerup.application.dto.response.RestaurantResponseDto;
-import java.util.List;
+import com.pragma.powerup.application.dto.response.SliceDto;
 
 public interface IRestaurantHandler {
   RestaurantResponseDto create(RestaurantCreateRequestDto requestDto);
 
-  List<RestaurantListItemDto> list(int page, int size);
+  SliceDto<RestaurantListItemDto> list(int page, int size, boolean withTotal);
+
+  SliceDto<RestaurantListItemDto> listAfter(String cursor, int size, boolean withTotal);
 
   RestaurantResponseDto findById(Long restaurantId);
 }
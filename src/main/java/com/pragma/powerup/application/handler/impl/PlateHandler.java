@@ -3,15 +3,21 @@ package com.pragma.powerup.application.handler.impl;
 import com.pragma.powerup.application.dto.request.PlateCreateRequestDto;
 import com.pragma.powerup.application.dto.request.PlateStatusUpdateRequestDto;
 import com.pragma.powerup.application.dto.request.PlateUpdateRequestDto;
+import com.pragma.powerup.application.dto.response.PlateMenuItemDto;
 import com.pragma.powerup.application.dto.response.PlateResponseDto;
+import com.pragma.powerup.application.dto.response.SliceDto;
 import com.pragma.powerup.application.handler.IPlateHandler;
+import com.pragma.powerup.application.mapper.IPlateMenuItemMapper;
 import com.pragma.powerup.application.mapper.IPlateRequestMapper;
 import com.pragma.powerup.application.mapper.IPlateResponseMapper;
+import com.pragma.powerup.application.util.CursorCodec;
 import com.pragma.powerup.domain.api.IPlateQueryServicePort;
 import com.pragma.powerup.domain.api.IPlateServicePort;
+import com.pragma.powerup.domain.model.KeysetCursor;
 import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateMenuItem;
+import com.pragma.powerup.domain.model.PlateMenuView;
 import com.pragma.powerup.domain.model.PlateModel;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +31,7 @@ public class PlateHandler implements IPlateHandler {
   private final IPlateQueryServicePort plateQueryServicePort;
   private final IPlateRequestMapper requestMapper;
   private final IPlateResponseMapper responseMapper;
+  private final IPlateMenuItemMapper menuItemMapper;
 
   @Override
   public PlateResponseDto create(PlateCreateRequestDto requestDto, Long ownerId) {
@@ -47,10 +54,50 @@ public class PlateHandler implements IPlateHandler {
     return responseMapper.toDto(updated);
   }
 
+  // Lecturas: sesión Hibernate read-only y FlushMode.MANUAL, sin snapshots ni flush al commit
   @Override
-  public List<PlateResponseDto> listByRestaurant(
-      Long restaurantId, PlateCategory category, int page, int size) {
-    var models = plateQueryServicePort.listActiveByRestaurant(restaurantId, category, page, size);
-    return models.stream().map(responseMapper::toDto).toList();
+  @Transactional(readOnly = true)
+  public SliceDto<PlateMenuItemDto> listByRestaurant(
+      Long restaurantId,
+      PlateCategory category,
+      PlateMenuView view,
+      int page,
+      int size,
+      boolean withTotal) {
+    var slice =
+        plateQueryServicePort.listActiveByRestaurant(restaurantId, category, view, page, size);
+    return new SliceDto<>(
+        menuItemMapper.toDtoList(slice.items()),
+        slice.hasNext(),
+        null,
+        total(restaurantId, category, withTotal));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public SliceDto<PlateMenuItemDto> listByRestaurantAfter(
+      Long restaurantId,
+      PlateCategory category,
+      PlateMenuView view,
+      String cursor,
+      int size,
+      boolean withTotal) {
+    var slice =
+        plateQueryServicePort.listActiveByRestaurant(
+            restaurantId, category, view, CursorCodec.decode(cursor), size);
+    String nextCursor = null;
+    if (slice.hasNext()) {
+      PlateMenuItem last = slice.items().get(slice.items().size() - 1);
+      nextCursor = CursorCodec.encode(new KeysetCursor(last.name(), last.id()));
+    }
+    return new SliceDto<>(
+        menuItemMapper.toDtoList(slice.items()),
+        slice.hasNext(),
+        nextCursor,
+        total(restaurantId, category, withTotal));
+  }
+
+  private Long total(Long restaurantId, PlateCategory category, boolean withTotal) {
+    return withTotal ? plateQueryServicePort.approximateActiveCount(restaurantId, category) : null;
   }
 }
@@ -0,0 +1,45 @@
+package com.pragma.powerup.application.handler.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.application.dto.response.PlateImportReportDto;
+import com.pragma.powerup.application.handler.IPlateImportHandler;
+import com.pragma.powerup.application.importer.CsvPlateImportReader;
+import com.pragma.powerup.application.importer.NdjsonPlateImportReader;
+import com.pragma.powerup.application.importer.PlateImportFormat;
+import com.pragma.powerup.application.importer.PlateImportReader;
+import com.pragma.powerup.application.mapper.IPlateImportReportMapper;
+import com.pragma.powerup.application.mapper.IPlateRequestMapper;
+import com.pragma.powerup.domain.api.IPlateServicePort;
+import jakarta.validation.Validator;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class PlateImportHandler implements IPlateImportHandler {
+
+  private final IPlateServicePort plateServicePort;
+  private final IPlateRequestMapper requestMapper;
+  private final IPlateImportReportMapper reportMapper;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+
+  // Sin transacción envolvente: cada lote se confirma en la suya y la sesión no retiene el menú
+  // entero
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public PlateImportReportDto importMenu(
+      Long restaurantId, PlateImportFormat format, InputStream body, Long ownerId) {
+    PlateImportReader rows =
+        switch (format) {
+          case NDJSON ->
+              new NdjsonPlateImportReader(
+                  body, objectMapper, restaurantId, validator, requestMapper);
+          case CSV -> new CsvPlateImportReader(body, restaurantId, validator, requestMapper);
+        };
+    return reportMapper.toDto(plateServicePort.importPlates(restaurantId, rows, ownerId));
+  }
+}
@@ -3,14 +3,18 @@ package com.pragma.powerup.application.handler.impl;
 import com.pragma.powerup.application.dto.request.RestaurantCreateRequestDto;
 import com.pragma.powerup.application.dto.response.RestaurantListItemDto;
 import com.pragma.powerup.application.dto.response.RestaurantResponseDto;
+import com.pragma.powerup.application.dto.response.SliceDto;
 import com.pragma.powerup.application.handler.IRestaurantHandler;
 import com.pragma.powerup.application.mapper.IRestaurantListItemMapper;
 import com.pragma.powerup.application.mapper.IRestaurantRequestMapper;
 import com.pragma.powerup.application.mapper.IRestaurantResponseMapper;
+import com.pragma.powerup.application.util.CursorCodec;
 import com.pragma.powerup.domain.api.IRestaurantQueryServicePort;
 import com.pragma.powerup.domain.api.IRestaurantServicePort;
 import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.KeysetCursor;
 import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.model.RestaurantSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,12 +37,32 @@ public class RestaurantHandler implements IRestaurantHandler {
   }
 
   @Override
-  public java.util.List<RestaurantListItemDto> list(int page, int size) {
-    var models = restaurantQueryServicePort.listRestaurants(page, size);
-    return listItemMapper.toDtoList(models);
+  @Transactional(readOnly = true)
+  public SliceDto<RestaurantListItemDto> list(int page, int size, boolean withTotal) {
+    var slice = restaurantQueryServicePort.listRestaurants(page, size);
+    return new SliceDto<>(
+        listItemMapper.toDtoList(slice.items()), slice.hasNext(), null, total(withTotal));
   }
 
   @Override
+  @Transactional(readOnly = true)
+  public SliceDto<RestaurantListItemDto> listAfter(String cursor, int size, boolean withTotal) {
+    var slice = restaurantQueryServicePort.listRestaurants(CursorCodec.decode(cursor), size);
+    String nextCursor = null;
+    if (slice.hasNext()) {
+      RestaurantSummary last = slice.items().get(slice.items().size() - 1);
+      nextCursor = CursorCodec.encode(new KeysetCursor(last.name(), last.id()));
+    }
+    return new SliceDto<>(
+        listItemMapper.toDtoList(slice.items()), slice.hasNext(), nextCursor, total(withTotal));
+  }
+
+  private Long total(boolean withTotal) {
+    return withTotal ? restaurantQueryServicePort.approximateCount() : null;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
   public RestaurantResponseDto findById(Long restaurantId) {
     RestaurantModel model = restaurantQueryServicePort.findById(restaurantId);
     if (model == null) {
@@ -0,0 +1,57 @@
+package com.pragma.powerup.application.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Line reader that never buffers more than {@code maxLength} characters: the rest of an oversized
+ * line is skipped and the line is reported as too long instead of growing a string without bound.
+ */
+final class BoundedLineReader {
+
+  record Line(int number, String text, boolean tooLong) {}
+
+  private final Reader reader;
+  private final int maxLength;
+  private final StringBuilder buffer = new StringBuilder();
+  private int number;
+  private boolean eof;
+
+  BoundedLineReader(Reader reader, int maxLength) {
+    this.reader = reader;
+    this.maxLength = maxLength;
+  }
+
+  /** Next line without its terminator, or {@code null} at the end of the document. */
+  Line next() throws IOException {
+    if (eof) {
+      return null;
+    }
+    buffer.setLength(0);
+    boolean tooLong = false;
+    int c;
+    while ((c = reader.read()) != -1 && c != '\n') {
+      if (buffer.length() < maxLength) {
+        buffer.append((char) c);
+      } else {
+        tooLong = true;
+      }
+    }
+    if (c == -1) {
+      eof = true;
+      if (buffer.isEmpty() && !tooLong) {
+        return null;
+      }
+    }
+    number++;
+    int length = buffer.length();
+    if (length > 0 && buffer.charAt(length - 1) == '\r') {
+      buffer.setLength(length - 1);
+    }
+    // BOM de editores de hojas de cálculo al inicio del documento
+    if (number == 1 && !buffer.isEmpty() && buffer.charAt(0) == '\uFEFF') {
+      buffer.deleteCharAt(0);
+    }
+    return new Line(number, tooLong ? null : buffer.toString(), tooLong);
+  }
+}
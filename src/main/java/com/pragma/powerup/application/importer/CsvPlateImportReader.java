@@ -0,0 +1,117 @@
+package com.pragma.powerup.application.importer;
+
+import com.pragma.powerup.application.dto.request.PlateCreateRequestDto;
+import com.pragma.powerup.application.mapper.IPlateRequestMapper;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.PlateCategory;
+import jakarta.validation.Validator;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV with a header row naming the columns {@code name, price, description, imageUrl, category} in
+ * any order. Fields may be double-quoted (with {@code ""} as an escaped quote) to hold commas; a
+ * record must fit on one line.
+ */
+public class CsvPlateImportReader extends PlateImportReader {
+
+  private static final List<String> COLUMNS =
+      List.of("name", "price", "description", "imageurl", "category");
+
+  private Map<String, Integer> columns;
+  private int width;
+
+  public CsvPlateImportReader(
+      InputStream body, Long restaurantId, Validator validator, IPlateRequestMapper requestMapper) {
+    super(body, restaurantId, validator, requestMapper);
+  }
+
+  @Override
+  protected PlateCreateRequestDto parse(String line) {
+    if (columns == null) {
+      width = split(line).size();
+      columns = header(line);
+      return null;
+    }
+    List<String> fields = split(line);
+    if (fields.size() != width) {
+      throw new IllegalArgumentException(
+          "expected " + width + " fields but found " + fields.size());
+    }
+    PlateCreateRequestDto dto = new PlateCreateRequestDto();
+    dto.setName(field(fields, "name"));
+    dto.setDescription(field(fields, "description"));
+    dto.setImageUrl(field(fields, "imageurl"));
+    String price = field(fields, "price");
+    if (price != null) {
+      try {
+        dto.setPrice(Integer.valueOf(price.trim()));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("invalid price: " + price);
+      }
+    }
+    String category = field(fields, "category");
+    if (category != null) {
+      try {
+        dto.setCategory(PlateCategory.valueOf(category.trim().toUpperCase(Locale.ROOT)));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("invalid category: " + category);
+      }
+    }
+    return dto;
+  }
+
+  private static Map<String, Integer> header(String line) {
+    Map<String, Integer> indexes = new HashMap<>();
+    List<String> names = split(line);
+    for (int i = 0; i < names.size(); i++) {
+      indexes.put(names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+    }
+    if (!indexes.keySet().containsAll(COLUMNS)) {
+      // Sin cabecera válida no hay forma de interpretar ninguna fila: se rechaza el documento
+      throw new DomainException(
+          "csv header must include name, price, description, imageUrl and category");
+    }
+    return indexes;
+  }
+
+  private String field(List<String> fields, String column) {
+    String value = fields.get(columns.get(column));
+    return value.isEmpty() ? null : value;
+  }
+
+  static List<String> split(String line) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    if (quoted) {
+      throw new IllegalArgumentException("unterminated quoted field");
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+}
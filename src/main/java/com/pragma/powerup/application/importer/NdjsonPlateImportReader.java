@@ -0,0 +1,37 @@
+package com.pragma.powerup.application.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.pragma.powerup.application.dto.request.PlateCreateRequestDto;
+import com.pragma.powerup.application.mapper.IPlateRequestMapper;
+import jakarta.validation.Validator;
+import java.io.InputStream;
+
+/** One JSON object per line, with the same fields as {@code POST /api/v1/plates}. */
+public class NdjsonPlateImportReader extends PlateImportReader {
+
+  private final ObjectMapper objectMapper;
+
+  public NdjsonPlateImportReader(
+      InputStream body,
+      ObjectMapper objectMapper,
+      Long restaurantId,
+      Validator validator,
+      IPlateRequestMapper requestMapper) {
+    super(body, restaurantId, validator, requestMapper);
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected PlateCreateRequestDto parse(String line) {
+    try {
+      return objectMapper.readValue(line, PlateCreateRequestDto.class);
+    } catch (InvalidFormatException e) {
+      String field = e.getPath().isEmpty() ? "value" : e.getPath().get(0).getFieldName();
+      throw new IllegalArgumentException("invalid " + field + ": " + e.getValue());
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("malformed JSON");
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.pragma.powerup.application.importer;
+
+import com.pragma.powerup.domain.exception.DomainException;
+import org.springframework.http.MediaType;
+
+/** Document formats accepted by the menu import, keyed by request content type. */
+public enum PlateImportFormat {
+  NDJSON,
+  CSV;
+
+  public static final String NDJSON_VALUE = "application/x-ndjson";
+  public static final String CSV_VALUE = "text/csv";
+
+  public static PlateImportFormat fromContentType(String contentType) {
+    MediaType mediaType = MediaType.parseMediaType(contentType);
+    if (mediaType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+      return NDJSON;
+    }
+    if (mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+      return CSV;
+    }
+    throw new DomainException("unsupported import format: " + contentType);
+  }
+}
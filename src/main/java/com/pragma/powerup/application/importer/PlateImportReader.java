@@ -0,0 +1,119 @@
+package com.pragma.powerup.application.importer;
+
+import com.pragma.powerup.application.dto.request.PlateCreateRequestDto;
+import com.pragma.powerup.application.mapper.IPlateRequestMapper;
+import com.pragma.powerup.domain.model.PlateImportRow;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the rows of a menu import, one line at a time.
+ *
+ * <p>Only the current line is held in memory (at most {@link #MAX_LINE_LENGTH} characters). Each
+ * line is parsed by the format subclass and checked with the same bean constraints as {@code POST
+ * /api/v1/plates}, so a bad row becomes a {@link PlateImportRow#malformed} entry instead of failing
+ * the import. Blank lines are skipped.
+ */
+public abstract class PlateImportReader implements Iterator<PlateImportRow> {
+
+  public static final int MAX_LINE_LENGTH = 8_192;
+
+  private final BoundedLineReader lines;
+  private final Long restaurantId;
+  private final Validator validator;
+  private final IPlateRequestMapper requestMapper;
+  private PlateImportRow next;
+
+  protected PlateImportReader(
+      InputStream body, Long restaurantId, Validator validator, IPlateRequestMapper requestMapper) {
+    this.lines =
+        new BoundedLineReader(
+            new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)),
+            MAX_LINE_LENGTH);
+    this.restaurantId = restaurantId;
+    this.validator = validator;
+    this.requestMapper = requestMapper;
+  }
+
+  /**
+   * Parses one non-blank line. Returns {@code null} for lines that are not rows (a CSV header) and
+   * throws {@link IllegalArgumentException} with the reason for malformed ones.
+   */
+  protected abstract PlateCreateRequestDto parse(String line);
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = readRow();
+    }
+    return next != null;
+  }
+
+  @Override
+  public PlateImportRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    PlateImportRow row = next;
+    next = null;
+    return row;
+  }
+
+  private PlateImportRow readRow() {
+    try {
+      BoundedLineReader.Line line;
+      while ((line = lines.next()) != null) {
+        if (line.tooLong()) {
+          return PlateImportRow.malformed(
+              line.number(), "line exceeds " + MAX_LINE_LENGTH + " characters");
+        }
+        if (line.text().isBlank()) {
+          continue;
+        }
+        PlateImportRow row = toRow(line);
+        if (row != null) {
+          return row;
+        }
+      }
+      return null;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private PlateImportRow toRow(BoundedLineReader.Line line) {
+    PlateCreateRequestDto dto;
+    try {
+      dto = parse(line.text());
+    } catch (IllegalArgumentException e) {
+      return PlateImportRow.malformed(line.number(), e.getMessage());
+    }
+    if (dto == null) {
+      return null;
+    }
+    dto.setRestaurantId(restaurantId);
+    var violations = validator.validate(dto);
+    if (!violations.isEmpty()) {
+      String error =
+          violations.stream()
+              .map(PlateImportReader::describe)
+              .sorted()
+              .collect(Collectors.joining("; "));
+      return PlateImportRow.malformed(line.number(), error);
+    }
+    return PlateImportRow.parsed(line.number(), requestMapper.toModel(dto));
+  }
+
+  private static String describe(ConstraintViolation<PlateCreateRequestDto> violation) {
+    return violation.getPropertyPath() + " " + violation.getMessage();
+  }
+}
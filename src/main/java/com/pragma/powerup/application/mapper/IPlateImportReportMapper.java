@@ -0,0 +1,20 @@
+package com.pragma.powerup.application.mapper;
+
+import com.pragma.powerup.application.dto.response.PlateImportReportDto;
+import com.pragma.powerup.application.dto.response.PlateImportRowResultDto;
+import com.pragma.powerup.domain.model.PlateImportReport;
+import com.pragma.powerup.domain.model.PlateImportResult;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE,
+    unmappedSourcePolicy = ReportingPolicy.IGNORE)
+public interface IPlateImportReportMapper {
+  PlateImportReportDto toDto(PlateImportReport report);
+
+  @Mapping(target = "status", expression = "java(result.created() ? \"CREATED\" : \"REJECTED\")")
+  PlateImportRowResultDto toDto(PlateImportResult result);
+}
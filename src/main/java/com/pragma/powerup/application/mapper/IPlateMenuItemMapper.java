@@ -0,0 +1,17 @@
+package com.pragma.powerup.application.mapper;
+
+import com.pragma.powerup.application.dto.response.PlateMenuItemDto;
+import com.pragma.powerup.domain.model.PlateMenuItem;
+import java.util.List;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE,
+    unmappedSourcePolicy = ReportingPolicy.IGNORE)
+public interface IPlateMenuItemMapper {
+  PlateMenuItemDto toDto(PlateMenuItem item);
+
+  List<PlateMenuItemDto> toDtoList(List<PlateMenuItem> items);
+}
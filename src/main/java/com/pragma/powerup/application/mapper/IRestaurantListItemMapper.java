@@ -1,7 +1,7 @@
 package com.pragma.powerup.application.mapper;
 
 import com.pragma.powerup.application.dto.response.RestaurantListItemDto;
-import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.model.RestaurantSummary;
 import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -15,7 +15,7 @@ public interface IRestaurantListItemMapper {
 
   @Mapping(target = "name", source = "name")
   @Mapping(target = "logoUrl", source = "logoUrl")
-  RestaurantListItemDto toDto(RestaurantModel model);
+  RestaurantListItemDto toDto(RestaurantSummary summary);
 
-  List<RestaurantListItemDto> toDtoList(List<RestaurantModel> models);
+  List<RestaurantListItemDto> toDtoList(List<RestaurantSummary> summaries);
 }
@@ -0,0 +1,39 @@
+package com.pragma.powerup.application.util;
+
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.KeysetCursor;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for seek pagination: base64url of {@code id:name} of the last row returned. Clients
+ * must treat it as an opaque token and send it back unchanged.
+ */
+public final class CursorCodec {
+
+  private CursorCodec() {}
+
+  public static String encode(KeysetCursor cursor) {
+    String raw = cursor.id() + ":" + cursor.name();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return the decoded position, or null for a missing cursor (first page)
+   */
+  public static KeysetCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(':');
+      return new KeysetCursor(
+          raw.substring(separator + 1), Long.parseLong(raw.substring(0, separator)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new DomainException("invalid cursor");
+    }
+  }
+}
@@ -1,10 +1,17 @@
 package com.pragma.powerup.domain.api;
 
+import com.pragma.powerup.domain.model.KeysetCursor;
 import com.pragma.powerup.domain.model.PlateCategory;
-import com.pragma.powerup.domain.model.PlateModel;
-import java.util.List;
+import com.pragma.powerup.domain.model.PlateMenuItem;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.domain.model.SliceModel;
 
 public interface IPlateQueryServicePort {
-  List<PlateModel> listActiveByRestaurant(
-      Long restaurantId, PlateCategory category, int page, int size);
+  SliceModel<PlateMenuItem> listActiveByRestaurant(
+      Long restaurantId, PlateCategory category, PlateMenuView view, int page, int size);
+
+  SliceModel<PlateMenuItem> listActiveByRestaurant(
+      Long restaurantId, PlateCategory category, PlateMenuView view, KeysetCursor after, int size);
+
+  long approximateActiveCount(Long restaurantId, PlateCategory category);
 }
@@ -1,6 +1,9 @@
 package com.pragma.powerup.domain.api;
 
+import com.pragma.powerup.domain.model.PlateImportReport;
+import com.pragma.powerup.domain.model.PlateImportRow;
 import com.pragma.powerup.domain.model.PlateModel;
+import java.util.Iterator;
 
 public interface IPlateServicePort {
   PlateModel createPlate(PlateModel plate, Long ownerId);
@@ -8,4 +11,10 @@ public interface IPlateServicePort {
   PlateModel updatePlate(Long plateId, Integer price, String description, Long ownerId);
 
   PlateModel setPlateActive(Long plateId, boolean active, Long ownerId);
+
+  /**
+   * Creates the plates read from {@code rows} in the restaurant, consuming the iterator once. Rows
+   * that fail validation are reported and skipped; the rest are inserted in batches.
+   */
+  PlateImportReport importPlates(Long restaurantId, Iterator<PlateImportRow> rows, Long ownerId);
 }
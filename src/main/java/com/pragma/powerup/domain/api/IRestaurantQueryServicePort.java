@@ -1,10 +1,16 @@
 package com.pragma.powerup.domain.api;
 
+import com.pragma.powerup.domain.model.KeysetCursor;
 import com.pragma.powerup.domain.model.RestaurantModel;
-import java.util.List;
+import com.pragma.powerup.domain.model.RestaurantSummary;
+import com.pragma.powerup.domain.model.SliceModel;
 
 public interface IRestaurantQueryServicePort {
-  List<RestaurantModel> listRestaurants(int page, int size);
+  SliceModel<RestaurantSummary> listRestaurants(int page, int size);
+
+  SliceModel<RestaurantSummary> listRestaurants(KeysetCursor after, int size);
+
+  long approximateCount();
 
   RestaurantModel findById(Long restaurantId);
 }
@@ -0,0 +1,7 @@
+package com.pragma.powerup.domain.model;
+
+/**
+ * Position after the last row of a listing ordered by {@code (name, id)}; the next page starts at
+ * the first row strictly greater than this pair.
+ */
+public record KeysetCursor(String name, Long id) {}
@@ -0,0 +1,6 @@
+package com.pragma.powerup.domain.model;
+
+import java.util.List;
+
+/** Per-row results of a menu import, in source line order. */
+public record PlateImportReport(int created, int rejected, List<PlateImportResult> rows) {}
@@ -0,0 +1,9 @@
+package com.pragma.powerup.domain.model;
+
+/** Outcome of one import row: the new plate id when created, otherwise the rejection reason. */
+public record PlateImportResult(int line, String name, Long plateId, String error) {
+
+  public boolean created() {
+    return plateId != null;
+  }
+}
@@ -0,0 +1,16 @@
+package com.pragma.powerup.domain.model;
+
+/**
+ * One row of a menu import: the parsed plate, or the reason it could not be parsed. {@code line} is
+ * the 1-based line of the source document and is echoed in the report.
+ */
+public record PlateImportRow(int line, PlateModel plate, String error) {
+
+  public static PlateImportRow parsed(int line, PlateModel plate) {
+    return new PlateImportRow(line, plate, null);
+  }
+
+  public static PlateImportRow malformed(int line, String error) {
+    return new PlateImportRow(line, null, error);
+  }
+}
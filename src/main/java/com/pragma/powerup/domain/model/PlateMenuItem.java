@@ -0,0 +1,27 @@
+package com.pragma.powerup.domain.model;
+
+/**
+ * Read-only menu row of an active plate, projected straight from the query with the same fields as
+ * the plate response, so the menu listing never hydrates managed entities.
+ */
+public record PlateMenuItem(
+    Long id,
+    String name,
+    Integer price,
+    String description,
+    String imageUrl,
+    PlateCategory category,
+    boolean active,
+    Long restaurantId) {
+
+  /** Row of the {@link PlateMenuView#SUMMARY} view: no description, and only active plates. */
+  public PlateMenuItem(
+      Long id,
+      String name,
+      Integer price,
+      String imageUrl,
+      PlateCategory category,
+      Long restaurantId) {
+    this(id, name, price, null, imageUrl, category, true, restaurantId);
+  }
+}
@@ -0,0 +1,10 @@
+package com.pragma.powerup.domain.model;
+
+/**
+ * Fields of a menu listing: {@code FULL} is the documented plate schema; {@code SUMMARY} leaves the
+ * description out, so the rows can be read from the menu indexes alone.
+ */
+public enum PlateMenuView {
+  FULL,
+  SUMMARY
+}
@@ -0,0 +1,4 @@
+package com.pragma.powerup.domain.model;
+
+/** Directory row: the columns the restaurant listing shows plus the id used as keyset tie-break. */
+public record RestaurantSummary(Long id, String name, String logoUrl) {}
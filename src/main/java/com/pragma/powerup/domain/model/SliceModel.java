@@ -0,0 +1,9 @@
+package com.pragma.powerup.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a listing without a total: {@code hasNext} comes from reading one row past the page,
+ * so no {@code COUNT(*)} is needed.
+ */
+public record SliceModel<T>(List<T> items, boolean hasNext) {}
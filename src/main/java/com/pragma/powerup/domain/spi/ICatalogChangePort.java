@@ -0,0 +1,14 @@
+package com.pragma.powerup.domain.spi;
+
+/**
+ * Tells the catalog read side that data changed, so copies kept outside the database are dropped on
+ * this instance and on every other one sharing the database.
+ */
+public interface ICatalogChangePort {
+
+  /** The restaurant's menu changed; applied once the current transaction, if any, commits. */
+  void menuChanged(Long restaurantId);
+
+  /** The restaurant itself was created or changed; applied like {@link #menuChanged}. */
+  void restaurantChanged(Long restaurantId);
+}
@@ -0,0 +1,13 @@
+package com.pragma.powerup.domain.spi;
+
+import com.pragma.powerup.domain.model.PlateCategory;
+
+/**
+ * Approximate catalog sizes for clients that want a total; may lag writes by a refresh interval.
+ */
+public interface ICatalogStatisticsPort {
+  long approximateRestaurantCount();
+
+  /** Active plates of the restaurant, in {@code category} or in all categories when null. */
+  long approximateActivePlateCount(Long restaurantId, PlateCategory category);
+}
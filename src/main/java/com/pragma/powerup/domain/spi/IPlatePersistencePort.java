@@ -1,11 +1,35 @@
 package com.pragma.powerup.domain.spi;
 
 import com.pragma.powerup.domain.model.PlateModel;
+import java.util.List;
+import java.util.Set;
 
 public interface IPlatePersistencePort {
-  boolean existsByNameAndRestaurantId(String name, Long restaurantId);
+  /** Names of every plate of the restaurant, for checking a whole import against one query. */
+  Set<String> findNamesByRestaurantId(Long restaurantId);
 
+  /**
+   * Inserts or updates the plate in one round trip; a name already used in the restaurant is
+   * rejected by the database and surfaces as {@code DomainException("plate name already exists in
+   * restaurant")}.
+   */
   PlateModel save(PlateModel plate);
 
+  /**
+   * Inserts the plates together (JDBC batches) and returns them with their generated ids. The batch
+   * is all or nothing: one duplicated name rejects it with the same error as {@link #save}.
+   */
+  List<PlateModel> saveAll(List<PlateModel> plates);
+
+  /**
+   * Sets price and description with one conditional UPDATE that only matches a plate of a
+   * restaurant owned by {@code ownerId}; returns the updated plate, or null when nothing matched.
+   */
+  PlateModel updatePriceAndDescription(
+      Long plateId, Integer price, String description, Long ownerId);
+
+  /** Same single conditional UPDATE for the active flag; null when nothing matched. */
+  PlateModel updateActive(Long plateId, boolean active, Long ownerId);
+
   PlateModel findById(Long id);
 }
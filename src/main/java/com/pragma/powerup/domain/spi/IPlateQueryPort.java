@@ -1,10 +1,16 @@
 package com.pragma.powerup.domain.spi;
 
+import com.pragma.powerup.domain.model.KeysetCursor;
 import com.pragma.powerup.domain.model.PlateCategory;
-import com.pragma.powerup.domain.model.PlateModel;
-import java.util.List;
+import com.pragma.powerup.domain.model.PlateMenuItem;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.domain.model.SliceModel;
 
 public interface IPlateQueryPort {
-  List<PlateModel> findActiveByRestaurant(
-      Long restaurantId, PlateCategory category, int page, int size);
+  SliceModel<PlateMenuItem> findActiveByRestaurant(
+      Long restaurantId, PlateCategory category, PlateMenuView view, int page, int size);
+
+  /** Seek pagination ordered by (name, id); {@code after} null returns the first page. */
+  SliceModel<PlateMenuItem> findActiveByRestaurantAfter(
+      Long restaurantId, PlateCategory category, PlateMenuView view, KeysetCursor after, int size);
 }
@@ -0,0 +1,9 @@
+package com.pragma.powerup.domain.spi;
+
+/** Index restaurantId → ownerId used to authorize owner writes without loading the restaurant. */
+public interface IRestaurantOwnershipPort {
+  /** Returns the owner of the restaurant, or {@code null} when the restaurant does not exist. */
+  Long findOwnerId(Long restaurantId);
+
+  void registerOwner(Long restaurantId, Long ownerId);
+}
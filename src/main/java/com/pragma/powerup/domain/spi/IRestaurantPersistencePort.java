@@ -3,7 +3,9 @@ package com.pragma.powerup.domain.spi;
 import com.pragma.powerup.domain.model.RestaurantModel;
 
 public interface IRestaurantPersistencePort {
-  boolean existsByNit(String nit);
-
+  /**
+   * Inserts or updates the restaurant in one round trip; a NIT that is already registered is
+   * rejected by the database and surfaces as {@code DomainException("NIT already exists")}.
+   */
   RestaurantModel save(RestaurantModel restaurant);
 }
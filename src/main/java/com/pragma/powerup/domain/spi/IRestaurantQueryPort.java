@@ -1,9 +1,15 @@
 package com.pragma.powerup.domain.spi;
 
+import com.pragma.powerup.domain.model.KeysetCursor;
 import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.model.RestaurantSummary;
+import com.pragma.powerup.domain.model.SliceModel;
 
 public interface IRestaurantQueryPort {
   RestaurantModel findById(Long restaurantId);
 
-  java.util.List<RestaurantModel> findAllOrderedByName(int page, int size);
+  SliceModel<RestaurantSummary> findAllOrderedByName(int page, int size);
+
+  /** Seek pagination ordered by (name, id); {@code after} null returns the first page. */
+  SliceModel<RestaurantSummary> findAllOrderedByNameAfter(KeysetCursor after, int size);
 }
@@ -0,0 +1,17 @@
+package com.pragma.powerup.domain.usecase;
+
+/**
+ * Page size rules shared by the catalog listings: sizes are clamped to at least one row and at most
+ * {@link #MAX_SIZE} instead of being rejected. The adapters read one extra row and the caches keep
+ * whole pages, so an unbounded size would overflow the limit or pin huge pages in memory.
+ */
+final class PageSizes {
+
+  static final int MAX_SIZE = 100;
+
+  private PageSizes() {}
+
+  static int of(int size) {
+    return Math.max(Math.min(size, MAX_SIZE), 1);
+  }
+}
@@ -1,24 +1,42 @@
 package com.pragma.powerup.domain.usecase;
 
 import com.pragma.powerup.domain.api.IPlateQueryServicePort;
+import com.pragma.powerup.domain.model.KeysetCursor;
 import com.pragma.powerup.domain.model.PlateCategory;
-import com.pragma.powerup.domain.model.PlateModel;
+import com.pragma.powerup.domain.model.PlateMenuItem;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.domain.model.SliceModel;
+import com.pragma.powerup.domain.spi.ICatalogStatisticsPort;
 import com.pragma.powerup.domain.spi.IPlateQueryPort;
-import java.util.List;
 
 public class PlateQueryUseCase implements IPlateQueryServicePort {
 
   private final IPlateQueryPort plateQueryPort;
+  private final ICatalogStatisticsPort catalogStatisticsPort;
 
-  public PlateQueryUseCase(IPlateQueryPort plateQueryPort) {
+  public PlateQueryUseCase(
+      IPlateQueryPort plateQueryPort, ICatalogStatisticsPort catalogStatisticsPort) {
     this.plateQueryPort = plateQueryPort;
+    this.catalogStatisticsPort = catalogStatisticsPort;
   }
 
   @Override
-  public List<PlateModel> listActiveByRestaurant(
-      Long restaurantId, PlateCategory category, int page, int size) {
+  public SliceModel<PlateMenuItem> listActiveByRestaurant(
+      Long restaurantId, PlateCategory category, PlateMenuView view, int page, int size) {
     int p = Math.max(page, 0);
-    int s = Math.max(size, 1);
-    return plateQueryPort.findActiveByRestaurant(restaurantId, category, p, s);
+    int s = PageSizes.of(size);
+    return plateQueryPort.findActiveByRestaurant(restaurantId, category, view, p, s);
+  }
+
+  @Override
+  public SliceModel<PlateMenuItem> listActiveByRestaurant(
+      Long restaurantId, PlateCategory category, PlateMenuView view, KeysetCursor after, int size) {
+    int s = PageSizes.of(size);
+    return plateQueryPort.findActiveByRestaurantAfter(restaurantId, category, view, after, s);
+  }
+
+  @Override
+  public long approximateActiveCount(Long restaurantId, PlateCategory category) {
+    return catalogStatisticsPort.approximateActivePlateCount(restaurantId, category);
   }
 }
@@ -2,61 +2,55 @@ package com.pragma.powerup.domain.usecase;
 
 import com.pragma.powerup.domain.api.IPlateServicePort;
 import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.PlateImportReport;
+import com.pragma.powerup.domain.model.PlateImportResult;
+import com.pragma.powerup.domain.model.PlateImportRow;
 import com.pragma.powerup.domain.model.PlateModel;
-import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.spi.ICatalogChangePort;
 import com.pragma.powerup.domain.spi.IPlatePersistencePort;
-import com.pragma.powerup.domain.spi.IRestaurantQueryPort;
+import com.pragma.powerup.domain.spi.IRestaurantOwnershipPort;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 
 public class PlateUseCase implements IPlateServicePort {
 
+  /** Plates per saveAll call (one transaction each) during an import. */
+  static final int IMPORT_BATCH_SIZE = 500;
+
   private final IPlatePersistencePort platePersistencePort;
-  private final IRestaurantQueryPort restaurantQueryPort;
+  private final IRestaurantOwnershipPort restaurantOwnershipPort;
+  private final ICatalogChangePort catalogChangePort;
 
   public PlateUseCase(
-      IPlatePersistencePort platePersistencePort, IRestaurantQueryPort restaurantQueryPort) {
+      IPlatePersistencePort platePersistencePort,
+      IRestaurantOwnershipPort restaurantOwnershipPort,
+      ICatalogChangePort catalogChangePort) {
     this.platePersistencePort = platePersistencePort;
-    this.restaurantQueryPort = restaurantQueryPort;
+    this.restaurantOwnershipPort = restaurantOwnershipPort;
+    this.catalogChangePort = catalogChangePort;
   }
 
   @Override
   public PlateModel createPlate(PlateModel plate, Long ownerId) {
-    if (plate == null) {
-      throw new DomainException("plate is required");
-    }
-    if (plate.getName() == null || plate.getName().isBlank()) {
-      throw new DomainException("name is required");
-    }
-    if (plate.getPrice() == null || plate.getPrice() <= 0) {
-      throw new DomainException("price must be a positive integer");
-    }
-    if (plate.getDescription() == null || plate.getDescription().isBlank()) {
-      throw new DomainException("description is required");
-    }
-    if (plate.getImageUrl() == null || plate.getImageUrl().isBlank()) {
-      throw new DomainException("imageUrl is required");
-    }
-    if (plate.getCategory() == null) {
-      throw new DomainException("category is required");
-    }
-    if (plate.getRestaurantId() == null) {
-      throw new DomainException("restaurantId is required");
-    }
+    validateNewPlate(plate);
 
-    RestaurantModel restaurant = restaurantQueryPort.findById(plate.getRestaurantId());
-    if (restaurant == null) {
+    Long restaurantOwnerId = restaurantOwnershipPort.findOwnerId(plate.getRestaurantId());
+    if (restaurantOwnerId == null) {
       throw new DomainException("restaurant not found");
     }
-    if (!restaurant.getOwnerId().equals(ownerId)) {
+    if (!restaurantOwnerId.equals(ownerId)) {
       throw new DomainException("only the restaurant owner can create plates");
     }
 
-    if (platePersistencePort.existsByNameAndRestaurantId(
-        plate.getName(), plate.getRestaurantId())) {
-      throw new DomainException("plate name already exists in restaurant");
-    }
-
+    // El nombre duplicado lo rechaza la restricción única en el mismo INSERT
     plate.setActive(true);
-    return platePersistencePort.save(plate);
+    PlateModel saved = platePersistencePort.save(plate);
+    catalogChangePort.menuChanged(saved.getRestaurantId());
+    return saved;
   }
 
   @Override
@@ -64,19 +58,6 @@ public class PlateUseCase implements IPlateServicePort {
     if (plateId == null) {
       throw new DomainException("plateId is required");
     }
-    PlateModel existing = platePersistencePort.findById(plateId);
-    if (existing == null) {
-      throw new DomainException("plate not found");
-    }
-
-    RestaurantModel restaurant = restaurantQueryPort.findById(existing.getRestaurantId());
-    if (restaurant == null) {
-      throw new DomainException("restaurant not found");
-    }
-    if (!restaurant.getOwnerId().equals(ownerId)) {
-      throw new DomainException("only the restaurant owner can update plates");
-    }
-
     if (price == null || price <= 0) {
       throw new DomainException("price must be a positive integer");
     }
@@ -84,10 +65,14 @@ public class PlateUseCase implements IPlateServicePort {
       throw new DomainException("description is required");
     }
 
-    existing.setPrice(price);
-    existing.setDescription(description);
-
-    return platePersistencePort.save(existing);
+    // Un solo UPDATE condicionado al dueño; el motivo solo se consulta si no afectó ninguna fila
+    PlateModel updated =
+        platePersistencePort.updatePriceAndDescription(plateId, price, description, ownerId);
+    if (updated == null) {
+      throw notUpdated(plateId);
+    }
+    catalogChangePort.menuChanged(updated.getRestaurantId());
+    return updated;
   }
 
   @Override
@@ -95,20 +80,145 @@ public class PlateUseCase implements IPlateServicePort {
     if (plateId == null) {
       throw new DomainException("plateId is required");
     }
+
+    PlateModel updated = platePersistencePort.updateActive(plateId, active, ownerId);
+    if (updated == null) {
+      throw notUpdated(plateId);
+    }
+    catalogChangePort.menuChanged(updated.getRestaurantId());
+    return updated;
+  }
+
+  private DomainException notUpdated(Long plateId) {
     PlateModel existing = platePersistencePort.findById(plateId);
     if (existing == null) {
-      throw new DomainException("plate not found");
+      return new DomainException("plate not found");
+    }
+    if (restaurantOwnershipPort.findOwnerId(existing.getRestaurantId()) == null) {
+      return new DomainException("restaurant not found");
     }
+    return new DomainException("only the restaurant owner can update plates");
+  }
 
-    RestaurantModel restaurant = restaurantQueryPort.findById(existing.getRestaurantId());
-    if (restaurant == null) {
+  @Override
+  public PlateImportReport importPlates(
+      Long restaurantId, Iterator<PlateImportRow> rows, Long ownerId) {
+    if (restaurantId == null) {
+      throw new DomainException("restaurantId is required");
+    }
+    // Una sola comprobación de propiedad y una sola consulta de nombres para toda la importación
+    Long restaurantOwnerId = restaurantOwnershipPort.findOwnerId(restaurantId);
+    if (restaurantOwnerId == null) {
       throw new DomainException("restaurant not found");
     }
-    if (!restaurant.getOwnerId().equals(ownerId)) {
-      throw new DomainException("only the restaurant owner can update plates");
+    if (!restaurantOwnerId.equals(ownerId)) {
+      throw new DomainException("only the restaurant owner can create plates");
     }
+    Set<String> names = new HashSet<>(platePersistencePort.findNamesByRestaurantId(restaurantId));
+
+    List<PlateImportResult> results = new ArrayList<>();
+    List<PlateModel> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+    List<Integer> batchLines = new ArrayList<>(IMPORT_BATCH_SIZE);
+    while (rows.hasNext()) {
+      PlateImportRow row = rows.next();
+      PlateModel plate = row.plate();
+      String error = row.error();
+      if (error == null) {
+        plate.setRestaurantId(restaurantId);
+        error = validationError(plate);
+      }
+      if (error == null && !names.add(plate.getName())) {
+        error = "plate name already exists in restaurant";
+      }
+      if (error != null) {
+        results.add(
+            new PlateImportResult(row.line(), plate == null ? null : plate.getName(), null, error));
+        continue;
+      }
+      plate.setActive(true);
+      batch.add(plate);
+      batchLines.add(row.line());
+      if (batch.size() == IMPORT_BATCH_SIZE) {
+        saveBatch(batch, batchLines, results);
+      }
+    }
+    saveBatch(batch, batchLines, results);
+
+    results.sort(Comparator.comparingInt(PlateImportResult::line));
+    int created = (int) results.stream().filter(PlateImportResult::created).count();
+    return new PlateImportReport(created, results.size() - created, results);
+  }
+
+  private void saveBatch(
+      List<PlateModel> batch, List<Integer> batchLines, List<PlateImportResult> results) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    Long restaurantId = batch.get(0).getRestaurantId();
+    int first = results.size();
+    try {
+      List<PlateModel> saved = platePersistencePort.saveAll(batch);
+      for (int i = 0; i < saved.size(); i++) {
+        PlateModel plate = saved.get(i);
+        results.add(new PlateImportResult(batchLines.get(i), plate.getName(), plate.getId(), null));
+      }
+    } catch (RuntimeException e) {
+      // Un lote fallido no deshace los anteriores. Se reintenta fila a fila para salvar las
+      // válidas (p. ej. si un plato con el mismo nombre se creó durante la importación)
+      for (int i = 0; i < batch.size(); i++) {
+        results.add(saveRow(batchLines.get(i), batch.get(i)));
+      }
+    }
+    // Cada lote ya está confirmado: el menú cambia aunque la importación falle más adelante.
+    // Un lote sin filas guardadas no cambia el menú y no se anuncia
+    if (results.subList(first, results.size()).stream().anyMatch(PlateImportResult::created)) {
+      catalogChangePort.menuChanged(restaurantId);
+    }
+    batch.clear();
+    batchLines.clear();
+  }
 
-    existing.setActive(active);
-    return platePersistencePort.save(existing);
+  private PlateImportResult saveRow(int line, PlateModel plate) {
+    try {
+      PlateModel saved = platePersistencePort.save(plate);
+      return new PlateImportResult(line, saved.getName(), saved.getId(), null);
+    } catch (DomainException e) {
+      return new PlateImportResult(line, plate.getName(), null, e.getMessage());
+    } catch (RuntimeException e) {
+      return new PlateImportResult(line, plate.getName(), null, "plate could not be saved");
+    }
+  }
+
+  private static String validationError(PlateModel plate) {
+    try {
+      validateNewPlate(plate);
+      return null;
+    } catch (DomainException e) {
+      return e.getMessage();
+    }
+  }
+
+  private static void validateNewPlate(PlateModel plate) {
+    if (plate == null) {
+      throw new DomainException("plate is required");
+    }
+    if (plate.getName() == null || plate.getName().isBlank()) {
+      throw new DomainException("name is required");
+    }
+    if (plate.getPrice() == null || plate.getPrice() <= 0) {
+      throw new DomainException("price must be a positive integer");
+    }
+    if (plate.getDescription() == null || plate.getDescription().isBlank()) {
+      throw new DomainException("description is required");
+    }
+    if (plate.getImageUrl() == null || plate.getImageUrl().isBlank()) {
+      throw new DomainException("imageUrl is required");
+    }
+    if (plate.getCategory() == null) {
+      throw new DomainException("category is required");
+    }
+    if (plate.getRestaurantId() == null) {
+      throw new DomainException("restaurantId is required");
+    }
   }
 }
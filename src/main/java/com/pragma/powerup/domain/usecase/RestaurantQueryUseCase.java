@@ -1,25 +1,42 @@
 package com.pragma.powerup.domain.usecase;
 
 import com.pragma.powerup.domain.api.IRestaurantQueryServicePort;
+import com.pragma.powerup.domain.model.KeysetCursor;
 import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.model.RestaurantSummary;
+import com.pragma.powerup.domain.model.SliceModel;
+import com.pragma.powerup.domain.spi.ICatalogStatisticsPort;
 import com.pragma.powerup.domain.spi.IRestaurantQueryPort;
-import java.util.List;
 
 public class RestaurantQueryUseCase implements IRestaurantQueryServicePort {
 
   private final IRestaurantQueryPort restaurantQueryPort;
+  private final ICatalogStatisticsPort catalogStatisticsPort;
 
-  public RestaurantQueryUseCase(IRestaurantQueryPort restaurantQueryPort) {
+  public RestaurantQueryUseCase(
+      IRestaurantQueryPort restaurantQueryPort, ICatalogStatisticsPort catalogStatisticsPort) {
     this.restaurantQueryPort = restaurantQueryPort;
+    this.catalogStatisticsPort = catalogStatisticsPort;
   }
 
   @Override
-  public List<RestaurantModel> listRestaurants(int page, int size) {
+  public SliceModel<RestaurantSummary> listRestaurants(int page, int size) {
     int p = Math.max(page, 0);
-    int s = Math.max(size, 1);
+    int s = PageSizes.of(size);
     return restaurantQueryPort.findAllOrderedByName(p, s);
   }
 
+  @Override
+  public SliceModel<RestaurantSummary> listRestaurants(KeysetCursor after, int size) {
+    int s = PageSizes.of(size);
+    return restaurantQueryPort.findAllOrderedByNameAfter(after, s);
+  }
+
+  @Override
+  public long approximateCount() {
+    return catalogStatisticsPort.approximateRestaurantCount();
+  }
+
   @Override
   public RestaurantModel findById(Long restaurantId) {
     return restaurantQueryPort.findById(restaurantId);
@@ -3,6 +3,8 @@ package com.pragma.powerup.domain.usecase;
 import com.pragma.powerup.domain.api.IRestaurantServicePort;
 import com.pragma.powerup.domain.exception.DomainException;
 import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.spi.ICatalogChangePort;
+import com.pragma.powerup.domain.spi.IRestaurantOwnershipPort;
 import com.pragma.powerup.domain.spi.IRestaurantPersistencePort;
 import com.pragma.powerup.domain.spi.IUserServicePort;
 import java.util.regex.Pattern;
@@ -11,14 +13,21 @@ public class RestaurantUseCase implements IRestaurantServicePort {
 
   private final IRestaurantPersistencePort restaurantPersistencePort;
   private final IUserServicePort userServicePort;
+  private final IRestaurantOwnershipPort restaurantOwnershipPort;
+  private final ICatalogChangePort catalogChangePort;
 
   private static final Pattern ONLY_DIGITS = Pattern.compile("^\\d+$");
   private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+?\\d{1,13}$");
 
   public RestaurantUseCase(
-      IRestaurantPersistencePort restaurantPersistencePort, IUserServicePort userServicePort) {
+      IRestaurantPersistencePort restaurantPersistencePort,
+      IUserServicePort userServicePort,
+      IRestaurantOwnershipPort restaurantOwnershipPort,
+      ICatalogChangePort catalogChangePort) {
     this.restaurantPersistencePort = restaurantPersistencePort;
     this.userServicePort = userServicePort;
+    this.restaurantOwnershipPort = restaurantOwnershipPort;
+    this.catalogChangePort = catalogChangePort;
   }
 
   @Override
@@ -41,10 +50,10 @@ public class RestaurantUseCase implements IRestaurantServicePort {
       throw new DomainException("invalid phone");
     }
 
-    if (restaurantPersistencePort.existsByNit(restaurant.getNit())) {
-      throw new DomainException("NIT already exists");
-    }
-
-    return restaurantPersistencePort.save(restaurant);
+    // El NIT duplicado lo rechaza la restricción única en el mismo INSERT ("NIT already exists")
+    RestaurantModel saved = restaurantPersistencePort.save(restaurant);
+    restaurantOwnershipPort.registerOwner(saved.getId(), saved.getOwnerId());
+    catalogChangePort.restaurantChanged(saved.getId());
+    return saved;
   }
 }
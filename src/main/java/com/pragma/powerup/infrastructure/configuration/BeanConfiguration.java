@@ -4,8 +4,10 @@ import com.pragma.powerup.domain.api.IPlateQueryServicePort;
 import com.pragma.powerup.domain.api.IPlateServicePort;
 import com.pragma.powerup.domain.api.IRestaurantQueryServicePort;
 import com.pragma.powerup.domain.api.IRestaurantServicePort;
+import com.pragma.powerup.domain.spi.ICatalogChangePort;
+import com.pragma.powerup.domain.spi.ICatalogStatisticsPort;
 import com.pragma.powerup.domain.spi.IPlatePersistencePort;
-import com.pragma.powerup.domain.spi.IPlateQueryPort;
+import com.pragma.powerup.domain.spi.IRestaurantOwnershipPort;
 import com.pragma.powerup.domain.spi.IRestaurantPersistencePort;
 import com.pragma.powerup.domain.spi.IRestaurantQueryPort;
 import com.pragma.powerup.domain.spi.IUserFeignPort;
@@ -14,6 +16,9 @@ import com.pragma.powerup.domain.usecase.PlateQueryUseCase;
 import com.pragma.powerup.domain.usecase.PlateUseCase;
 import com.pragma.powerup.domain.usecase.RestaurantQueryUseCase;
 import com.pragma.powerup.domain.usecase.RestaurantUseCase;
+import com.pragma.powerup.infrastructure.out.cache.CachingPlateQueryAdapter;
+import com.pragma.powerup.infrastructure.out.cache.CatalogStatisticsSnapshotAdapter;
+import com.pragma.powerup.infrastructure.out.cache.RestaurantOwnershipIndexAdapter;
 import com.pragma.powerup.infrastructure.out.jpa.adapter.PlateJpaAdapter;
 import com.pragma.powerup.infrastructure.out.jpa.adapter.PlateQueryJpaAdapter;
 import com.pragma.powerup.infrastructure.out.jpa.adapter.RestaurantJpaAdapter;
@@ -22,8 +27,12 @@ import com.pragma.powerup.infrastructure.out.jpa.mapper.IPlateEntityMapper;
 import com.pragma.powerup.infrastructure.out.jpa.mapper.IRestaurantEntityMapper;
 import com.pragma.powerup.infrastructure.out.jpa.repository.IPlateRepository;
 import com.pragma.powerup.infrastructure.out.jpa.repository.IRestaurantRepository;
+import com.pragma.powerup.infrastructure.out.jpa.routing.CatalogReadRouting;
 import com.pragma.powerup.infrastructure.out.users.UsersServiceAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -38,6 +47,17 @@ public class BeanConfiguration {
 
   private final IUserFeignPort userFeignPort;
 
+  private final MeterRegistry meterRegistry;
+
+  @Value("${catalog.datasource.read-your-writes.window:5s}")
+  private Duration readYourWritesWindow;
+
+  @Value("${catalog.menu-cache.maximum-size:10000}")
+  private long menuCacheMaximumSize;
+
+  @Value("${catalog.menu-cache.ttl:60s}")
+  private Duration menuCacheTtl;
+
   @Bean
   public IRestaurantPersistencePort restaurantPersistencePort() {
     return new RestaurantJpaAdapter(restaurantRepository, restaurantEntityMapper);
@@ -49,38 +69,67 @@ public class BeanConfiguration {
   }
 
   @Bean
-  public IRestaurantServicePort restaurantServicePort() {
-    return new RestaurantUseCase(restaurantPersistencePort(), userServicePort());
+  public IRestaurantServicePort restaurantServicePort(ICatalogChangePort catalogChangePort) {
+    return new RestaurantUseCase(
+        restaurantPersistencePort(),
+        userServicePort(),
+        restaurantOwnershipPort(),
+        catalogChangePort);
+  }
+
+  @Bean
+  public IRestaurantOwnershipPort restaurantOwnershipPort() {
+    return new RestaurantOwnershipIndexAdapter(restaurantRepository, meterRegistry);
   }
 
   // added beans
   @Bean
   public IRestaurantQueryPort restaurantQueryPort() {
-    return new RestaurantQueryJpaAdapter(restaurantRepository, restaurantEntityMapper);
+    return new RestaurantQueryJpaAdapter(
+        restaurantRepository, restaurantEntityMapper, catalogReadRouting());
   }
 
   @Bean
   public IPlatePersistencePort platePersistencePort() {
-    return new PlateJpaAdapter(plateRepository, plateEntityMapper);
+    return new PlateJpaAdapter(plateRepository, plateEntityMapper, catalogReadRouting());
+  }
+
+  @Bean
+  public IPlateServicePort plateServicePort(ICatalogChangePort catalogChangePort) {
+    return new PlateUseCase(platePersistencePort(), restaurantOwnershipPort(), catalogChangePort);
+  }
+
+  // Caché del menú: el CatalogChangeBus la invalida tras las escrituras de esta y otras instancias
+  @Bean
+  public CachingPlateQueryAdapter plateQueryPort() {
+    return new CachingPlateQueryAdapter(
+        new PlateQueryJpaAdapter(plateRepository, catalogReadRouting()),
+        meterRegistry,
+        menuCacheMaximumSize,
+        menuCacheTtl);
   }
 
   @Bean
-  public IPlateServicePort plateServicePort() {
-    return new PlateUseCase(platePersistencePort(), restaurantQueryPort());
+  public CatalogReadRouting catalogReadRouting() {
+    return new CatalogReadRouting(readYourWritesWindow);
   }
 
   @Bean
-  public IPlateQueryPort plateQueryPort() {
-    return new PlateQueryJpaAdapter(plateRepository, plateEntityMapper);
+  public ICatalogStatisticsPort catalogStatisticsPort(
+      @Value("${catalog.statistics.refresh-interval:60s}") Duration refreshInterval) {
+    return new CatalogStatisticsSnapshotAdapter(
+        restaurantRepository, plateRepository, refreshInterval, meterRegistry);
   }
 
   @Bean
-  public IPlateQueryServicePort plateQueryServicePort() {
-    return new PlateQueryUseCase(plateQueryPort());
+  public IPlateQueryServicePort plateQueryServicePort(
+      ICatalogStatisticsPort catalogStatisticsPort) {
+    return new PlateQueryUseCase(plateQueryPort(), catalogStatisticsPort);
   }
 
   @Bean
-  public IRestaurantQueryServicePort restaurantQueryServicePort() {
-    return new RestaurantQueryUseCase(restaurantQueryPort());
+  public IRestaurantQueryServicePort restaurantQueryServicePort(
+      ICatalogStatisticsPort catalogStatisticsPort) {
+    return new RestaurantQueryUseCase(restaurantQueryPort(), catalogStatisticsPort);
   }
 }
@@ -0,0 +1,62 @@
+package com.pragma.powerup.infrastructure.configuration;
+
+import com.pragma.powerup.infrastructure.out.bus.CatalogChangeBus;
+import com.pragma.powerup.infrastructure.out.bus.CatalogChangeListener;
+import com.pragma.powerup.infrastructure.out.bus.CatalogVersions;
+import com.pragma.powerup.infrastructure.out.bus.PostgresNotificationListener;
+import com.pragma.powerup.infrastructure.out.jpa.routing.CatalogReadRouting;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Cross-instance catalog invalidation: the change table is always polled; on PostgreSQL, and unless
+ * {@code catalog.change-bus.notify.enabled} is false, changes are also pushed with {@code NOTIFY}
+ * over a connection opened from {@code spring.datasource.*}. {@link CatalogVersions} follows the
+ * versions the bus carries, for the catalog ETags.
+ */
+@Configuration
+public class CatalogChangeBusConfiguration {
+
+  @Bean
+  public CatalogVersions catalogVersions(JdbcTemplate jdbcTemplate) {
+    return new CatalogVersions(jdbcTemplate);
+  }
+
+  @Bean
+  public CatalogChangeBus catalogChangeBus(
+      JdbcTemplate jdbcTemplate,
+      DataSourceProperties properties,
+      ObjectProvider<CatalogChangeListener> listeners,
+      CatalogVersions catalogVersions,
+      CatalogReadRouting catalogReadRouting,
+      MeterRegistry meterRegistry,
+      @Value("${catalog.change-bus.poll-interval:1s}") Duration pollInterval,
+      @Value("${catalog.change-bus.lookback:30s}") Duration lookback,
+      @Value("${catalog.change-bus.retention:1h}") Duration retention,
+      @Value("${catalog.change-bus.notify.enabled:true}") boolean notifyEnabled) {
+    PostgresNotificationListener notifications = null;
+    String url = properties.determineUrl();
+    if (notifyEnabled && DatabaseDriver.fromJdbcUrl(url) == DatabaseDriver.POSTGRESQL) {
+      notifications =
+          new PostgresNotificationListener(
+              url, properties.determineUsername(), properties.determinePassword());
+    }
+    return new CatalogChangeBus(
+        jdbcTemplate,
+        listeners,
+        catalogVersions,
+        catalogReadRouting,
+        notifications,
+        pollInterval,
+        lookback,
+        retention,
+        meterRegistry);
+  }
+}
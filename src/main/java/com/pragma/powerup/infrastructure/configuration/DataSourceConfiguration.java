@@ -0,0 +1,99 @@
+package com.pragma.powerup.infrastructure.configuration;
+
+import com.pragma.powerup.infrastructure.out.jpa.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Connection pools behind a {@link LazyConnectionDataSourceProxy}: a transaction takes a pooled
+ * connection only when it runs its first statement, so a read answered from a cache inside a
+ * {@code @Transactional} handler never checks one out. Read-replica routing sits behind the same
+ * proxy when {@code catalog.datasource.replicas.urls} lists at least one replica.
+ *
+ * <p>The primary pool is built from {@code spring.datasource.*} and tuned by {@code
+ * spring.datasource.hikari.*}, as Spring Boot's own pool would be. Replicas reuse its driver and,
+ * by default, its credentials, and are tuned by {@code catalog.datasource.replicas.hikari.*}. Every
+ * pool reports {@code hikaricp.*} under its own {@code pool} tag. Flyway and all writes go through
+ * the primary.
+ */
+@Configuration
+public class DataSourceConfiguration {
+
+  static final String REPLICA_HIKARI_PREFIX = "catalog.datasource.replicas.hikari";
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(
+      DataSourceProperties properties, MeterRegistry meterRegistry) {
+    HikariDataSource primary =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+    primary.setMetricRegistry(meterRegistry);
+    return primary;
+  }
+
+  @Bean
+  @ConditionalOnExpression("!'${catalog.datasource.replicas.urls:}'.isBlank()")
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      HikariDataSource primaryDataSource,
+      DataSourceProperties properties,
+      MeterRegistry meterRegistry,
+      Environment environment,
+      @Value("${catalog.datasource.replicas.urls}") List<String> urls,
+      @Value("${catalog.datasource.replicas.username:${spring.datasource.username:}}")
+          String username,
+      @Value("${catalog.datasource.replicas.password:${spring.datasource.password:}}")
+          String password,
+      @Value("${catalog.datasource.replicas.health-check-interval:5s}")
+          Duration healthCheckInterval) {
+    Binder binder = Binder.get(environment);
+    List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+    for (String url : urls) {
+      String name = "replica-" + replicas.size();
+      HikariDataSource pool =
+          DataSourceBuilder.create()
+              .type(HikariDataSource.class)
+              .driverClassName(properties.determineDriverClassName())
+              .url(url.trim())
+              .username(username)
+              .password(password)
+              .build();
+      // Un prefijo común a todas las réplicas; nombre, solo lectura y arranque se fijan después
+      binder.bind(REPLICA_HIKARI_PREFIX, Bindable.ofInstance(pool));
+      pool.setPoolName(name);
+      pool.setReadOnly(true);
+      // Sin conexión inicial: una réplica caída al arrancar no debe impedir el arranque
+      pool.setInitializationFailTimeout(-1);
+      pool.setMetricRegistry(meterRegistry);
+      replicas.add(new ReplicaRoutingDataSource.Replica(name, pool));
+    }
+    return new ReplicaRoutingDataSource(
+        primaryDataSource, replicas, healthCheckInterval, meterRegistry);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      HikariDataSource primaryDataSource,
+      ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource) {
+    DataSource routing = replicaRoutingDataSource.getIfAvailable();
+    return new LazyConnectionDataSourceProxy(routing != null ? routing : primaryDataSource);
+  }
+}
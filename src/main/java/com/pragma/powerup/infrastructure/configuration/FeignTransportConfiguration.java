@@ -0,0 +1,32 @@
+package com.pragma.powerup.infrastructure.configuration;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics for the pooled Apache HC5 transport that Spring Cloud OpenFeign builds from {@code
+ * spring.cloud.openfeign.httpclient.*}.
+ *
+ * <p>Publishes {@code httpcomponents.httpclient.pool.*} (leased, available, pending and max
+ * connections) tagged {@code httpclient=feign}. Per-endpoint latency comes from the Feign
+ * Micrometer capability as {@code http.client.requests}.
+ */
+@Configuration
+public class FeignTransportConfiguration {
+
+  @Bean
+  public MeterBinder feignConnectionPoolMetrics(
+      ObjectProvider<HttpClientConnectionManager> connectionManager) {
+    // Sin pool (hc5 deshabilitado) no hay nada que publicar
+    return registry -> {
+      if (connectionManager.getIfAvailable() instanceof PoolingHttpClientConnectionManager pool) {
+        new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign").bindTo(registry);
+      }
+    };
+  }
+}
@@ -0,0 +1,95 @@
+package com.pragma.powerup.infrastructure.configuration;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bulkhead and circuit breaker guarding the calls to users-service.
+ *
+ * <p>The semaphore bulkhead never queues: once {@code max-concurrent-calls} requests are waiting on
+ * users-service the next one fails immediately instead of holding a Tomcat worker. The breaker
+ * opens on failed or slow calls; 4xx answers and bulkhead rejections are not counted as failures.
+ * Meters: {@code resilience4j.circuitbreaker.*}, {@code resilience4j.bulkhead.*} and {@code
+ * users.service.circuit.transitions{from,to}}.
+ */
+@Slf4j
+@Configuration
+public class UsersServiceResilienceConfiguration {
+
+  public static final String USERS_SERVICE = "users-service";
+
+  @Bean
+  public CircuitBreaker usersServiceCircuitBreaker(
+      MeterRegistry meterRegistry,
+      @Value("${feign.clients.users-service.resilience.failure-rate-threshold:50}")
+          float failureRateThreshold,
+      @Value("${feign.clients.users-service.resilience.slow-call-duration:1s}")
+          Duration slowCallDuration,
+      @Value("${feign.clients.users-service.resilience.sliding-window-size:20}")
+          int slidingWindowSize,
+      @Value("${feign.clients.users-service.resilience.minimum-number-of-calls:10}")
+          int minimumNumberOfCalls,
+      @Value("${feign.clients.users-service.resilience.wait-in-open-state:10s}")
+          Duration waitInOpenState) {
+    CircuitBreakerConfig config =
+        CircuitBreakerConfig.custom()
+            .failureRateThreshold(failureRateThreshold)
+            .slowCallRateThreshold(failureRateThreshold)
+            .slowCallDurationThreshold(slowCallDuration)
+            .slidingWindowSize(slidingWindowSize)
+            .minimumNumberOfCalls(minimumNumberOfCalls)
+            .waitDurationInOpenState(waitInOpenState)
+            .automaticTransitionFromOpenToHalfOpenEnabled(true)
+            .ignoreExceptions(
+                FeignException.FeignClientException.class, BulkheadFullException.class)
+            .build();
+    CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+    CircuitBreaker circuitBreaker = registry.circuitBreaker(USERS_SERVICE);
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    circuitBreaker
+        .getEventPublisher()
+        .onStateTransition(
+            event -> {
+              CircuitBreaker.StateTransition transition = event.getStateTransition();
+              log.warn("Circuit breaker {} moved {}", USERS_SERVICE, transition);
+              Counter.builder("users.service.circuit.transitions")
+                  .description("State transitions of the users-service circuit breaker")
+                  .tag("from", transition.getFromState().name().toLowerCase())
+                  .tag("to", transition.getToState().name().toLowerCase())
+                  .register(meterRegistry)
+                  .increment();
+            });
+    return circuitBreaker;
+  }
+
+  @Bean
+  public Bulkhead usersServiceBulkhead(
+      MeterRegistry meterRegistry,
+      @Value("${feign.clients.users-service.resilience.max-concurrent-calls:20}")
+          int maxConcurrentCalls) {
+    BulkheadConfig config =
+        BulkheadConfig.custom()
+            .maxConcurrentCalls(maxConcurrentCalls)
+            .maxWaitDuration(Duration.ZERO)
+            .build();
+    BulkheadRegistry registry = BulkheadRegistry.of(config);
+    Bulkhead bulkhead = registry.bulkhead(USERS_SERVICE);
+    TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+    return bulkhead;
+  }
+}
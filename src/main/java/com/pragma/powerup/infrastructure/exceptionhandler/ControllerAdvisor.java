@@ -35,6 +35,8 @@ public class ControllerAdvisor {
       status = HttpStatus.NOT_FOUND;
     } else if (msg.toLowerCase().contains("only the restaurant owner can")) {
       status = HttpStatus.FORBIDDEN;
+    } else if (msg.contains("users service unavailable")) {
+      status = HttpStatus.SERVICE_UNAVAILABLE;
     }
     return ResponseEntity.status(status).body(Collections.singletonMap(MESSAGE, msg));
   }
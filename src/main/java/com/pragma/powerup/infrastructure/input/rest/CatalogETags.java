@@ -0,0 +1,62 @@
+package com.pragma.powerup.infrastructure.input.rest;
+
+import com.pragma.powerup.infrastructure.out.bus.CatalogVersions;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * ETags y Cache-Control de las lecturas del catálogo. Los ETag son fuertes y salen de las versiones
+ * en memoria (directorio y restaurante), así que un If-None-Match que coincide se responde 304 sin ir
+ * a la base ni serializar. Sin versión conocida (restaurante inexistente o aún no recibido) no hay
+ * ETag y la petición sigue como siempre.
+ */
+@Component
+public class CatalogETags {
+
+    private final CatalogVersions catalogVersions;
+    private final CacheControl publicCacheControl;
+    private final CacheControl privateCacheControl;
+
+    public CatalogETags(CatalogVersions catalogVersions,
+            @Value("${catalog.http-cache.max-age:0s}") Duration maxAge) {
+        this.catalogVersions = catalogVersions;
+        // must-revalidate: pasado max-age, la caché intermedia revalida con el ETag en lugar de servir lo guardado
+        this.publicCacheControl = CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
+        this.privateCacheControl = CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+
+    /** ETag del listado de restaurantes. */
+    public String directory() {
+        return "\"directory-" + catalogVersions.directoryVersion() + "\"";
+    }
+
+    /** ETag de un restaurante y de su menú, o null si no se conoce su versión. */
+    public String restaurant(Long restaurantId) {
+        Long version = catalogVersions.restaurantVersion(restaurantId);
+        return version == null ? null : "\"restaurant-" + restaurantId + "-" + version + "\"";
+    }
+
+    /** Cache-Control para respuestas anónimas, que una caché compartida puede guardar. */
+    public CacheControl publicCacheControl() {
+        return publicCacheControl;
+    }
+
+    /** Cache-Control para respuestas autenticadas: solo la caché del cliente. */
+    public CacheControl privateCacheControl() {
+        return privateCacheControl;
+    }
+
+    /** true si el cliente ya tiene la representación con este ETag; null nunca coincide. */
+    static boolean notModified(WebRequest request, String etag) {
+        return etag != null && request.checkNotModified(etag);
+    }
+
+    static <T> ResponseEntity<T> notModifiedResponse(String etag, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.pragma.powerup.infrastructure.input.rest;
+
+import com.pragma.powerup.application.dto.response.PlateImportReportDto;
+import com.pragma.powerup.application.handler.IPlateImportHandler;
+import com.pragma.powerup.application.importer.PlateImportFormat;
+import com.pragma.powerup.application.util.JwtSecurityUtils;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/plates")
+@RequiredArgsConstructor
+public class PlateImportRestController {
+
+    private final IPlateImportHandler plateImportHandler;
+    private final JwtSecurityUtils jwtSecurityUtils;
+
+    /** Importación del menú completo: el cuerpo (NDJSON o CSV) se lee en streaming, fila a fila */
+    @PostMapping(
+            value = "/restaurant/{id}/import",
+            consumes = {PlateImportFormat.NDJSON_VALUE, PlateImportFormat.CSV_VALUE})
+    @PreAuthorize("hasAuthority('ROLE_OWNER')")
+    public ResponseEntity<PlateImportReportDto> importMenu(
+            @PathVariable("id") Long restaurantId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+
+        Long ownerId = jwtSecurityUtils.getCurrentUserId();
+        PlateImportReportDto report = plateImportHandler.importMenu(
+                restaurantId, PlateImportFormat.fromContentType(contentType), body, ownerId);
+        return ResponseEntity.ok(report);
+    }
+}
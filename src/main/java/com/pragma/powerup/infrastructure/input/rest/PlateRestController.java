@@ -3,10 +3,12 @@ package com.pragma.powerup.infrastructure.input.rest;
 import com.pragma.powerup.application.dto.request.PlateCreateRequestDto;
 import com.pragma.powerup.application.dto.request.PlateStatusUpdateRequestDto;
 import com.pragma.powerup.application.dto.request.PlateUpdateRequestDto;
+import com.pragma.powerup.application.dto.response.PlateMenuItemDto;
 import com.pragma.powerup.application.dto.response.PlateResponseDto;
 import com.pragma.powerup.application.handler.IPlateHandler;
 import com.pragma.powerup.application.util.JwtSecurityUtils;
 import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateMenuView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
 @RestController
@@ -29,6 +32,7 @@ public class PlateRestController {
 
     private final IPlateHandler plateHandler;
     private final JwtSecurityUtils jwtSecurityUtils;
+    private final CatalogETags catalogETags;
 
     @PostMapping
     @PreAuthorize("hasAuthority('ROLE_OWNER')")
@@ -62,14 +66,50 @@ public class PlateRestController {
         return ResponseEntity.ok(response);
     }
 
-    @GetMapping("/restaurant/{id}")
-    public ResponseEntity<java.util.List<PlateResponseDto>> listByRestaurant(
+    /**
+     * Listado por página (sin COUNT): X-Has-Next indica si hay más; withTotal=true añade un total aproximado.
+     * view=SUMMARY omite la descripción de cada plato.
+     * ETag por versión del restaurante: If-None-Match coincidente responde 304 sin consultar (salvo withTotal,
+     * cuyo total cambia por su cuenta)
+     */
+    @GetMapping(value = "/restaurant/{id}", params = "page")
+    public ResponseEntity<java.util.List<PlateMenuItemDto>> listByRestaurant(
             @PathVariable("id") Long restaurantId,
             @RequestParam(name = "category", required = false) PlateCategory category,
+            @RequestParam(name = "view", defaultValue = "FULL") PlateMenuView view,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal,
+            WebRequest request) {
 
-        var response = plateHandler.listByRestaurant(restaurantId, category, page, size);
-        return ResponseEntity.ok(response);
+        String etag = withTotal ? null : catalogETags.restaurant(restaurantId);
+        if (CatalogETags.notModified(request, etag)) {
+            return CatalogETags.notModifiedResponse(etag, catalogETags.publicCacheControl());
+        }
+        return SliceResponses.ok(plateHandler.listByRestaurant(restaurantId, category, view, page, size, withTotal),
+                etag, catalogETags.publicCacheControl());
+    }
+
+    /**
+     * Listado por cursor (sin page): el siguiente cursor viaja en la cabecera X-Next-Cursor. Mismo ETag por
+     * versión del restaurante que el listado por página: el ETag es por URL y el cursor forma parte de ella
+     */
+    @GetMapping(value = "/restaurant/{id}", params = "!page")
+    public ResponseEntity<java.util.List<PlateMenuItemDto>> listByRestaurantCursor(
+            @PathVariable("id") Long restaurantId,
+            @RequestParam(name = "category", required = false) PlateCategory category,
+            @RequestParam(name = "view", defaultValue = "FULL") PlateMenuView view,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal,
+            WebRequest request) {
+
+        String etag = withTotal ? null : catalogETags.restaurant(restaurantId);
+        if (CatalogETags.notModified(request, etag)) {
+            return CatalogETags.notModifiedResponse(etag, catalogETags.publicCacheControl());
+        }
+        return SliceResponses.ok(
+                plateHandler.listByRestaurantAfter(restaurantId, category, view, cursor, size, withTotal),
+                etag, catalogETags.publicCacheControl());
     }
 }
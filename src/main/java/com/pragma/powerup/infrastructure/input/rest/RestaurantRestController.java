@@ -11,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /** Restaurant REST Controller - HU-002: Crear Restaurante (ADMIN) */
@@ -20,6 +21,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class RestaurantRestController {
 
     private final IRestaurantHandler restaurantHandler;
+    private final CatalogETags catalogETags;
 
     /** POST /api/v1/restaurants - HU-002: Crear Restaurante (ADMIN) */
     @PostMapping
@@ -34,20 +36,60 @@ public class RestaurantRestController {
                 .body(response);
     }
 
-    /** GET /api/v1/restaurants - Listar restaurantes */
-    @GetMapping
+    /**
+     * GET /api/v1/restaurants?page= - Listar restaurantes por página (OFFSET, compatibilidad); sin
+     * COUNT: X-Has-Next indica si hay más y withTotal=true añade un total aproximado. ETag por versión
+     * del directorio (salvo withTotal): If-None-Match coincidente responde 304 sin consultar
+     */
+    @GetMapping(params = "page")
     public ResponseEntity<List<RestaurantListItemDto>> list(
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "10") int size) {
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal,
+            WebRequest request) {
 
-        List<RestaurantListItemDto> response = restaurantHandler.list(page, size);
-        return ResponseEntity.ok(response);
+        String etag = withTotal ? null : catalogETags.directory();
+        if (CatalogETags.notModified(request, etag)) {
+            return CatalogETags.notModifiedResponse(etag, catalogETags.publicCacheControl());
+        }
+        return SliceResponses.ok(restaurantHandler.list(page, size, withTotal), etag,
+                catalogETags.publicCacheControl());
     }
 
-    /** GET /api/v1/restaurants/{id} - Obtener restaurante por ID */
+    /**
+     * GET /api/v1/restaurants?cursor= - Listar restaurantes por cursor; el siguiente cursor viaja en
+     * la cabecera X-Next-Cursor y no aparece en la última página. Mismo ETag por versión del
+     * directorio que el listado por página (salvo withTotal)
+     */
+    @GetMapping(params = "!page")
+    public ResponseEntity<List<RestaurantListItemDto>> listByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal,
+            WebRequest request) {
+
+        String etag = withTotal ? null : catalogETags.directory();
+        if (CatalogETags.notModified(request, etag)) {
+            return CatalogETags.notModifiedResponse(etag, catalogETags.publicCacheControl());
+        }
+        return SliceResponses.ok(restaurantHandler.listAfter(cursor, size, withTotal), etag,
+                catalogETags.publicCacheControl());
+    }
+
+    /**
+     * GET /api/v1/restaurants/{id} - Obtener restaurante por ID; ETag por versión del restaurante
+     * (autenticado: Cache-Control private)
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<RestaurantResponseDto> findById(@PathVariable Long id) {
+    public ResponseEntity<RestaurantResponseDto> findById(@PathVariable Long id, WebRequest request) {
+        String etag = catalogETags.restaurant(id);
+        if (CatalogETags.notModified(request, etag)) {
+            return CatalogETags.notModifiedResponse(etag, catalogETags.privateCacheControl());
+        }
         RestaurantResponseDto response = restaurantHandler.findById(id);
-        return ResponseEntity.ok(response);
+        if (etag == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(catalogETags.privateCacheControl()).body(response);
     }
 }
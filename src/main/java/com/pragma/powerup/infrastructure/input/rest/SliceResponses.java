@@ -0,0 +1,36 @@
+package com.pragma.powerup.infrastructure.input.rest;
+
+import com.pragma.powerup.application.dto.response.SliceDto;
+import java.util.List;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Respuestas de listados: el cuerpo sigue siendo un array y la paginación viaja en cabeceras.
+ * X-Has-Next siempre; X-Next-Cursor solo en listados por cursor con más filas; X-Approximate-Total
+ * solo si se pidió withTotal.
+ */
+final class SliceResponses {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String HAS_NEXT_HEADER = "X-Has-Next";
+    static final String APPROXIMATE_TOTAL_HEADER = "X-Approximate-Total";
+
+    private SliceResponses() {}
+
+    /** ETag y Cache-Control solo si se indica un ETag. */
+    static <T> ResponseEntity<List<T>> ok(SliceDto<T> slice, String etag, CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder response =
+                ResponseEntity.ok().header(HAS_NEXT_HEADER, String.valueOf(slice.isHasNext()));
+        if (etag != null) {
+            response.eTag(etag).cacheControl(cacheControl);
+        }
+        if (slice.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, slice.getNextCursor());
+        }
+        if (slice.getApproximateTotal() != null) {
+            response.header(APPROXIMATE_TOTAL_HEADER, String.valueOf(slice.getApproximateTotal()));
+        }
+        return response.body(slice.getItems());
+    }
+}
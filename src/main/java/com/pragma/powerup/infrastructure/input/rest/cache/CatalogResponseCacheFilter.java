@@ -0,0 +1,245 @@
+package com.pragma.powerup.infrastructure.input.rest.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.powerup.infrastructure.out.bus.CatalogVersions;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Serves repeated menu listings ({@code GET /api/v1/plates/restaurant/{id}}) from the JSON bytes of
+ * an earlier response, skipping the handler, MapStruct and Jackson.
+ *
+ * <p>Entries are keyed by path, sorted query parameters and the restaurant's version from {@link
+ * CatalogVersions}: a menu change bumps the version, so older bytes are never served again and
+ * simply age out; restaurants without a known version are not cached. Only {@code 200} responses
+ * are stored, together with the headers the controller set (pagination, {@code ETag}, {@code
+ * Cache-Control}); a hit whose {@code ETag} matches {@code If-None-Match} is answered {@code 304}.
+ * {@code withTotal=true} is not cached because its total refreshes on its own schedule. Bodies of
+ * at least {@code gzipMinSize} are also stored gzipped and sent as such to clients that accept it,
+ * with the {@code ETag} made weak since the bytes differ. The cache is bounded by {@code
+ * maximumSize} bytes of stored bodies. Publishes {@code cache.*} meters tagged {@code
+ * cache=catalog.response} and {@code catalog.response.cache.bytes}.
+ */
+@Component
+public class CatalogResponseCacheFilter extends OncePerRequestFilter {
+
+  static final String CACHE_NAME = "catalog.response";
+
+  private static final RequestMatcher MENU_LISTINGS =
+      AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/plates/restaurant/*");
+  private static final String GZIP = "gzip";
+
+  private final CatalogVersions catalogVersions;
+  private final Cache<ResponseKey, CachedResponse> responses;
+  private final int gzipMinSize;
+
+  @Autowired
+  public CatalogResponseCacheFilter(
+      CatalogVersions catalogVersions,
+      MeterRegistry meterRegistry,
+      @Value("${catalog.response-cache.maximum-size:64MB}") DataSize maximumSize,
+      @Value("${catalog.response-cache.ttl:60s}") Duration ttl,
+      @Value("${catalog.response-cache.gzip-min-size:1KB}") DataSize gzipMinSize) {
+    this(catalogVersions, meterRegistry, maximumSize, ttl, gzipMinSize, ForkJoinPool.commonPool());
+  }
+
+  public CatalogResponseCacheFilter(
+      CatalogVersions catalogVersions,
+      MeterRegistry meterRegistry,
+      DataSize maximumSize,
+      Duration ttl,
+      DataSize gzipMinSize,
+      Executor maintenanceExecutor) {
+    this.catalogVersions = catalogVersions;
+    this.gzipMinSize = (int) gzipMinSize.toBytes();
+    this.responses =
+        Caffeine.newBuilder()
+            .maximumWeight(maximumSize.toBytes())
+            .weigher((ResponseKey key, CachedResponse response) -> response.weight())
+            .expireAfterWrite(ttl)
+            .executor(maintenanceExecutor)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+    Gauge.builder(
+            "catalog.response.cache.bytes",
+            responses,
+            cache -> cache.policy().eviction().orElseThrow().weightedSize().orElse(0L))
+        .description("Bytes of response bodies held by the catalog response cache")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return !MENU_LISTINGS.matches(request)
+        || Boolean.parseBoolean(request.getParameter("withTotal"));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+
+    // La versión se lee antes de la consulta: una respuesta que cruce un cambio queda bajo la
+    // versión anterior, que ya nadie pide
+    Long version = catalogVersions.restaurantVersion(restaurantId(request));
+    if (version == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    ResponseKey key = new ResponseKey(request.getRequestURI(), query(request), version);
+    boolean acceptsGzip = acceptsGzip(request);
+    CachedResponse cached = responses.getIfPresent(key);
+    if (cached != null) {
+      String etag = cached.etag(acceptsGzip);
+      if (etag != null && new ServletWebRequest(request, response).checkNotModified(etag)) {
+        cached.writeNotModified(response);
+        return;
+      }
+      cached.writeTo(response, acceptsGzip);
+      return;
+    }
+
+    Set<String> headersBefore = Set.copyOf(response.getHeaderNames());
+    ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+    filterChain.doFilter(request, wrapper);
+    if (wrapper.getStatus() != HttpServletResponse.SC_OK || response.isCommitted()) {
+      wrapper.copyBodyToResponse();
+      return;
+    }
+    CachedResponse fresh = capture(wrapper, headersBefore);
+    responses.put(key, fresh);
+    fresh.writeBodyTo(response, acceptsGzip);
+  }
+
+  private static Long restaurantId(HttpServletRequest request) {
+    try {
+      String uri = request.getRequestURI();
+      return Long.valueOf(uri.substring(uri.lastIndexOf('/') + 1));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  // Mismos parámetros en otro orden comparten entrada
+  private static String query(HttpServletRequest request) {
+    Map<String, String[]> sorted = new TreeMap<>(request.getParameterMap());
+    StringBuilder query = new StringBuilder();
+    sorted.forEach(
+        (name, values) -> {
+          for (String value : values) {
+            query.append(name).append('=').append(value).append('&');
+          }
+        });
+    return query.toString();
+  }
+
+  private static boolean acceptsGzip(HttpServletRequest request) {
+    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    return acceptEncoding != null && acceptEncoding.contains(GZIP);
+  }
+
+  private CachedResponse capture(ContentCachingResponseWrapper wrapper, Set<String> headersBefore)
+      throws IOException {
+    Map<String, String> headers = new LinkedHashMap<>();
+    for (String name : wrapper.getHeaderNames()) {
+      // Tipo y longitud se fijan al escribir, según la codificación elegida
+      if (!headersBefore.contains(name)
+          && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)
+          && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+        headers.put(name, wrapper.getHeader(name));
+      }
+    }
+    byte[] body = wrapper.getContentAsByteArray();
+    byte[] gzipped = body.length >= gzipMinSize ? gzip(body) : null;
+    return new CachedResponse(wrapper.getContentType(), headers, body, gzipped);
+  }
+
+  private static byte[] gzip(byte[] body) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+      gzip.write(body);
+    }
+    return buffer.toByteArray();
+  }
+
+  private record ResponseKey(String path, String query, long version) {}
+
+  private record CachedResponse(
+      String contentType, Map<String, String> headers, byte[] body, byte[] gzipped) {
+
+    int weight() {
+      return body.length + (gzipped == null ? 0 : gzipped.length);
+    }
+
+    String etag(boolean acceptsGzip) {
+      String etag = headers.get(HttpHeaders.ETAG);
+      if (etag == null || !acceptsGzip || gzipped == null || etag.startsWith("W/")) {
+        return etag;
+      }
+      return "W/" + etag;
+    }
+
+    // El 304 lleva las mismas cabeceras de caché que la respuesta completa
+    void writeNotModified(HttpServletResponse response) {
+      String cacheControl = headers.get(HttpHeaders.CACHE_CONTROL);
+      if (cacheControl != null) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+      }
+      response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    void writeTo(HttpServletResponse response, boolean acceptsGzip) throws IOException {
+      response.setStatus(HttpServletResponse.SC_OK);
+      response.setContentType(contentType);
+      headers.forEach(response::setHeader);
+      writeBodyTo(response, acceptsGzip);
+    }
+
+    void writeBodyTo(HttpServletResponse response, boolean acceptsGzip) throws IOException {
+      byte[] bytes = body;
+      if (acceptsGzip && gzipped != null) {
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        String etag = etag(true);
+        if (etag != null) {
+          response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        bytes = gzipped;
+      }
+      response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+      response.setContentLength(bytes.length);
+      response.getOutputStream().write(bytes);
+    }
+  }
+}
@@ -0,0 +1,217 @@
+package com.pragma.powerup.infrastructure.input.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.application.handler.IPlateHandler;
+import com.pragma.powerup.application.handler.IRestaurantHandler;
+import com.pragma.powerup.domain.api.IRestaurantQueryServicePort;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.domain.model.RestaurantSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warms the catalog read path before the instance takes traffic: loads the first menu page of the
+ * top {@code topRestaurants} restaurants (the first ones in directory order) into the menu cache,
+ * by page and by cursor, and reads the first {@code directoryPages} directory pages once. It then
+ * runs {@code iterations} rounds of the cached menu calls plus JSON serialization so the JIT
+ * compiles them; the directory is not cached, so it stays out of the loop. Last, when the embedded
+ * server is up, it requests the same menu pages over loopback ({@code ?page=0&size=} and {@code
+ * ?size=}), so they go through the whole filter chain and land in the response byte cache.
+ *
+ * <p>Runs as an {@link ApplicationRunner}: Spring Boot only switches readiness to {@code
+ * ACCEPTING_TRAFFIC} after the runners return, so {@code /actuator/health/readiness} keeps
+ * answering {@code 503} during the warm-up while liveness is already up. The work runs on its own
+ * thread and is abandoned after {@code timeout}; a failed or late warm-up never fails the startup.
+ * Publishes {@code catalog.warmup} tagged {@code outcome=completed|timed_out|failed}.
+ */
+@Slf4j
+@Component
+public class CatalogWarmUp implements ApplicationRunner {
+
+  private final IRestaurantQueryServicePort restaurantQueryServicePort;
+  private final IRestaurantHandler restaurantHandler;
+  private final IPlateHandler plateHandler;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final int topRestaurants;
+  private final int directoryPages;
+  private final int pageSize;
+  private final int iterations;
+  private final Duration timeout;
+  private final Environment environment;
+  private volatile boolean abandoned;
+
+  public CatalogWarmUp(
+      IRestaurantQueryServicePort restaurantQueryServicePort,
+      IRestaurantHandler restaurantHandler,
+      IPlateHandler plateHandler,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${catalog.warm-up.enabled:true}") boolean enabled,
+      @Value("${catalog.warm-up.top-restaurants:20}") int topRestaurants,
+      @Value("${catalog.warm-up.directory-pages:3}") int directoryPages,
+      @Value("${catalog.warm-up.page-size:10}") int pageSize,
+      @Value("${catalog.warm-up.iterations:2000}") int iterations,
+      @Value("${catalog.warm-up.timeout:30s}") Duration timeout,
+      Environment environment) {
+    this.restaurantQueryServicePort = restaurantQueryServicePort;
+    this.restaurantHandler = restaurantHandler;
+    this.plateHandler = plateHandler;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.topRestaurants = topRestaurants;
+    this.directoryPages = directoryPages;
+    this.pageSize = pageSize;
+    this.iterations = iterations;
+    this.timeout = timeout;
+    this.environment = environment;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!enabled) {
+      return;
+    }
+    ExecutorService executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "catalog-warm-up");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long start = System.nanoTime();
+    String outcome = "completed";
+    try {
+      CompletableFuture.runAsync(this::warmUp, executor)
+          .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      outcome = "timed_out";
+      log.warn("Catalog warm-up did not finish within {}, taking traffic anyway", timeout);
+    } catch (ExecutionException e) {
+      outcome = "failed";
+      log.warn("Catalog warm-up failed, taking traffic anyway", e.getCause());
+    } catch (InterruptedException e) {
+      outcome = "failed";
+      Thread.currentThread().interrupt();
+    } finally {
+      // El hilo comprueba la marca entre llamadas: una consulta en curso termina por su cuenta
+      abandoned = true;
+      executor.shutdownNow();
+    }
+    long elapsed = System.nanoTime() - start;
+    Timer.builder("catalog.warmup")
+        .description("Time spent warming the catalog caches and handlers before taking traffic")
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(elapsed, TimeUnit.NANOSECONDS);
+    log.info("Catalog warm-up {} in {} ms", outcome, TimeUnit.NANOSECONDS.toMillis(elapsed));
+  }
+
+  private void warmUp() {
+    List<Long> restaurantIds = new ArrayList<>();
+    if (topRestaurants > 0) {
+      for (RestaurantSummary restaurant :
+          restaurantQueryServicePort.listRestaurants(0, topRestaurants).items()) {
+        restaurantIds.add(restaurant.id());
+      }
+    }
+    for (Long restaurantId : restaurantIds) {
+      plateHandler.listByRestaurant(restaurantId, null, PlateMenuView.FULL, 0, pageSize, false);
+      plateHandler.listByRestaurantAfter(
+          restaurantId, null, PlateMenuView.FULL, null, pageSize, false);
+    }
+    for (int page = 0; page < directoryPages; page++) {
+      restaurantHandler.list(page, pageSize, false);
+    }
+    restaurantHandler.listAfter(null, pageSize, false);
+    log.info(
+        "Catalog caches warmed for {} restaurants and {} directory pages",
+        restaurantIds.size(),
+        directoryPages);
+
+    // Mismas llamadas que los GET del menú, ya en caché, con la serialización del conversor HTTP
+    for (int i = 0; i < iterations && !restaurantIds.isEmpty() && !abandoned; i++) {
+      Long restaurantId = restaurantIds.get(i % restaurantIds.size());
+      serialize(
+          plateHandler
+              .listByRestaurant(restaurantId, null, PlateMenuView.FULL, 0, pageSize, false)
+              .getItems());
+      serialize(
+          plateHandler
+              .listByRestaurantAfter(restaurantId, null, PlateMenuView.FULL, null, pageSize, false)
+              .getItems());
+    }
+    requestMenus(restaurantIds);
+  }
+
+  // Peticiones reales al propio servidor: filtros, seguridad y MVC, y la caché de respuestas
+  private void requestMenus(List<Long> restaurantIds) {
+    Integer port = environment.getProperty("local.server.port", Integer.class);
+    if (port == null
+        || port <= 0
+        || environment.getProperty("server.ssl.enabled", Boolean.class, false)) {
+      log.debug("No plain HTTP server port, skipping the menu response warm-up");
+      return;
+    }
+    String base =
+        "http://localhost:"
+            + port
+            + environment.getProperty("server.servlet.context-path", "")
+            + "/api/v1/plates/restaurant/";
+    HttpClient client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    for (Long restaurantId : restaurantIds) {
+      if (abandoned) {
+        return;
+      }
+      get(client, base + restaurantId + "?page=0&size=" + pageSize);
+      get(client, base + restaurantId + "?size=" + pageSize);
+    }
+  }
+
+  private void get(HttpClient client, String uri) {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(uri)).timeout(timeout).GET().build();
+    try {
+      int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+      if (status != 200) {
+        log.debug("Warm-up request {} answered {}", uri, status);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      abandoned = true;
+    }
+  }
+
+  private void serialize(Object body) {
+    try {
+      objectMapper.writeValueAsBytes(body);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
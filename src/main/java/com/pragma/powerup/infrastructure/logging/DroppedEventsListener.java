@@ -0,0 +1,15 @@
+package com.pragma.powerup.infrastructure.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+/** Counts events the async appender discarded because its ring buffer was full. */
+public class DroppedEventsListener implements AppenderListener<ILoggingEvent> {
+
+  @Override
+  public void eventAppendFailed(
+      Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+    LoggingPipelineStats.recordDropped();
+  }
+}
@@ -0,0 +1,28 @@
+package com.pragma.powerup.infrastructure.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/** Publishes {@link LoggingPipelineStats} as {@code logging.events.*} counters. */
+@Component
+public class LoggingMetricsBinder implements MeterBinder {
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    FunctionCounter.builder(
+            "logging.events.dropped",
+            LoggingPipelineStats.class,
+            s -> LoggingPipelineStats.dropped())
+        .description("Log events discarded because the async ring buffer was full")
+        .register(registry);
+    FunctionCounter.builder(
+            "logging.events.sampled.out",
+            LoggingPipelineStats.class,
+            s -> LoggingPipelineStats.sampledOut())
+        .description("Log events skipped by per-logger sampling")
+        .register(registry);
+  }
+}
@@ -0,0 +1,31 @@
+package com.pragma.powerup.infrastructure.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters written by the logback pipeline. Logback starts before the Spring context, so the
+ * counters live here and {@link LoggingMetricsBinder} exposes them once a registry exists.
+ */
+public final class LoggingPipelineStats {
+
+  private static final LongAdder DROPPED = new LongAdder();
+  private static final LongAdder SAMPLED_OUT = new LongAdder();
+
+  private LoggingPipelineStats() {}
+
+  static void recordDropped() {
+    DROPPED.increment();
+  }
+
+  static void recordSampledOut() {
+    SAMPLED_OUT.increment();
+  }
+
+  public static long dropped() {
+    return DROPPED.sum();
+  }
+
+  public static long sampledOut() {
+    return SAMPLED_OUT.sum();
+  }
+}
@@ -0,0 +1,75 @@
+package com.pragma.powerup.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps only a fraction of the INFO/DEBUG/TRACE events of high-volume loggers. WARN and ERROR are
+ * never sampled.
+ *
+ * <p>{@code rules} is a comma separated list of {@code loggerPrefix=rate}, where rate is the kept
+ * fraction between 0 and 1. The longest matching prefix wins; loggers without a rule keep
+ * everything.
+ */
+public class SamplingFilter extends Filter<ILoggingEvent> {
+
+  private static final double KEEP_ALL = 1.0;
+
+  private final Map<String, Double> rules = new LinkedHashMap<>();
+  private final Map<String, Double> rateByLogger = new ConcurrentHashMap<>();
+
+  public void setRules(String spec) {
+    rules.clear();
+    rateByLogger.clear();
+    for (String rule : spec.split(",")) {
+      String[] parts = rule.trim().split("=");
+      if (parts.length != 2) {
+        addWarn("Ignoring sampling rule '" + rule + "', expected logger=rate");
+        continue;
+      }
+      double rate;
+      try {
+        rate = Double.parseDouble(parts[1].trim());
+      } catch (NumberFormatException e) {
+        rate = Double.NaN;
+      }
+      if (Double.isNaN(rate)) {
+        addWarn("Ignoring sampling rule '" + rule + "', rate is not a number");
+        continue;
+      }
+      rules.put(parts[0].trim(), Math.max(0.0, Math.min(KEEP_ALL, rate)));
+    }
+  }
+
+  @Override
+  public FilterReply decide(ILoggingEvent event) {
+    if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
+      return FilterReply.NEUTRAL;
+    }
+    double rate = rateByLogger.computeIfAbsent(event.getLoggerName(), this::rateFor);
+    if (rate >= KEEP_ALL || ThreadLocalRandom.current().nextDouble() < rate) {
+      return FilterReply.NEUTRAL;
+    }
+    LoggingPipelineStats.recordSampledOut();
+    return FilterReply.DENY;
+  }
+
+  private double rateFor(String loggerName) {
+    String bestPrefix = null;
+    for (String prefix : rules.keySet()) {
+      boolean matches =
+          loggerName.equals(prefix)
+              || (loggerName.startsWith(prefix) && loggerName.charAt(prefix.length()) == '.');
+      if (matches && (bestPrefix == null || prefix.length() > bestPrefix.length())) {
+        bestPrefix = prefix;
+      }
+    }
+    return bestPrefix == null ? KEEP_ALL : rules.get(bestPrefix);
+  }
+}
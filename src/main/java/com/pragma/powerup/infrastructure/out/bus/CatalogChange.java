@@ -0,0 +1,24 @@
+package com.pragma.powerup.infrastructure.out.bus;
+
+/**
+ * A committed catalog write, as broadcast between instances.
+ *
+ * @param version the restaurant's catalog version after the write
+ * @param directoryVersion the directory version after the write, or 0 if the directory is unchanged
+ * @param origin node id of the instance that made the write
+ * @param publishedAt wall-clock millis at which the writer published it
+ */
+public record CatalogChange(
+    Kind kind,
+    Long restaurantId,
+    long version,
+    long directoryVersion,
+    String origin,
+    long publishedAt) {
+
+  /** What changed in the restaurant. */
+  public enum Kind {
+    MENU,
+    RESTAURANT
+  }
+}
@@ -0,0 +1,351 @@
+package com.pragma.powerup.infrastructure.out.bus;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.powerup.domain.spi.ICatalogChangePort;
+import com.pragma.powerup.infrastructure.out.jpa.routing.CatalogReadRouting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Broadcasts restaurant-level catalog changes to every instance sharing the database.
+ *
+ * <p>Each change bumps the restaurant's catalog version (and, for restaurant changes, the directory
+ * version) and is inserted into {@code catalog_change} inside the writing transaction, so it is
+ * published exactly when the write commits and never for a rolled-back one. The local listeners run
+ * after the commit, followed by {@link CatalogVersions}, so a new version is only handed out once
+ * no cache of this instance holds the older data. A change from another instance first pins the
+ * restaurant's reads to the primary ({@link CatalogReadRouting#recordWrite}): the reload that
+ * follows the invalidation must not cache a lagging replica's data under the new version. Other
+ * instances learn about it through PostgreSQL {@code NOTIFY} (delivered on commit, when a {@link
+ * PostgresNotificationListener} is configured) and, in any case, by polling the table every {@code
+ * pollInterval}; each row is applied once per instance, whichever arrives first. The poller follows
+ * the row id, which only grows; ids are taken before commit, though, so a lower id may become
+ * visible after a higher one. The poll cursor therefore only moves past an id gap once the gap is
+ * filled or has been open for {@code lookback} (a rolled-back write leaves a gap forever), and the
+ * rows above it are re-read until then. Rows published more than {@code retention} ago are purged.
+ * Publishes {@code catalog.change.propagation{transport=notify|polling}}: time from the writer
+ * publishing a change to this instance applying it.
+ */
+@Slf4j
+public class CatalogChangeBus
+    implements ICatalogChangePort, SmartInitializingSingleton, DisposableBean {
+
+  private static final String NOTIFY = "notify";
+  private static final String POLLING = "polling";
+
+  private static final String INSERT =
+      "insert into catalog_change"
+          + " (kind, restaurant_id, version, directory_version, origin, published_at)"
+          + " values (?, ?, ?, ?, ?, ?)";
+  private static final String SELECT_AFTER =
+      "select id, kind, restaurant_id, version, directory_version, origin, published_at"
+          + " from catalog_change where id > ? order by id";
+  private static final Duration PURGE_EVERY = Duration.ofMinutes(1);
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectProvider<CatalogChangeListener> listenerProvider;
+  private final CatalogVersions versions;
+  private final CatalogReadRouting readRouting;
+  private final PostgresNotificationListener notifications;
+  private final Duration pollInterval;
+  private final Duration lookback;
+  private final Duration retention;
+  private final Cache<Long, Boolean> applied;
+  private final Timer notifyLatency;
+  private final Timer pollingLatency;
+  private volatile List<CatalogChangeListener> listeners = List.of();
+  // Todas las filas con id <= cursor se aplicaron o su hueco venció; highest es el mayor id leído
+  private long cursor;
+  private long highest;
+  private final Deque<Mark> marks = new ArrayDeque<>();
+  private long lastPurge;
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * @param notifications PostgreSQL listener, or {@code null} to rely on polling only (other
+   *     databases, or notifications disabled)
+   */
+  public CatalogChangeBus(
+      JdbcTemplate jdbcTemplate,
+      ObjectProvider<CatalogChangeListener> listenerProvider,
+      CatalogVersions versions,
+      CatalogReadRouting readRouting,
+      PostgresNotificationListener notifications,
+      Duration pollInterval,
+      Duration lookback,
+      Duration retention,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.listenerProvider = listenerProvider;
+    this.versions = versions;
+    this.readRouting = readRouting;
+    this.notifications = notifications;
+    this.pollInterval = pollInterval;
+    this.lookback = lookback;
+    this.retention = retention;
+    // Un id sigue en la ventana del poller mientras no lleguen cambios más nuevos: se recuerda
+    // mientras se siga viendo
+    this.applied =
+        Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(lookback.plus(pollInterval).multipliedBy(2))
+            .build();
+    this.notifyLatency = propagation(meterRegistry, NOTIFY);
+    this.pollingLatency = propagation(meterRegistry, POLLING);
+  }
+
+  private static Timer propagation(MeterRegistry meterRegistry, String transport) {
+    return Timer.builder("catalog.change.propagation")
+        .description("Time from a catalog write being published to another instance applying it")
+        .tag("transport", transport)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void menuChanged(Long restaurantId) {
+    publish(CatalogChange.Kind.MENU, restaurantId);
+  }
+
+  @Override
+  public void restaurantChanged(Long restaurantId) {
+    publish(CatalogChange.Kind.RESTAURANT, restaurantId);
+  }
+
+  private void publish(CatalogChange.Kind kind, Long restaurantId) {
+    if (restaurantId == null) {
+      return;
+    }
+    // El UPDATE bloquea la fila hasta el commit: escrituras concurrentes numeran en orden de commit
+    jdbcTemplate.update(
+        "update restaurant set catalog_version = catalog_version + 1 where id = ?", restaurantId);
+    long version =
+        jdbcTemplate
+            .queryForList(
+                "select catalog_version from restaurant where id = ?", Long.class, restaurantId)
+            .stream()
+            .findFirst()
+            .orElse(0L);
+    long directoryVersion = 0;
+    if (kind == CatalogChange.Kind.RESTAURANT) {
+      jdbcTemplate.update("update catalog_directory set version = version + 1 where id = 1");
+      directoryVersion =
+          jdbcTemplate.queryForObject(
+              "select version from catalog_directory where id = 1", Long.class);
+    }
+    CatalogChange change =
+        new CatalogChange(
+            kind, restaurantId, version, directoryVersion, nodeId, System.currentTimeMillis());
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.update(
+        connection -> {
+          PreparedStatement statement = connection.prepareStatement(INSERT, new String[] {"id"});
+          statement.setString(1, kind.name());
+          statement.setLong(2, restaurantId);
+          statement.setLong(3, change.version());
+          statement.setLong(4, change.directoryVersion());
+          statement.setString(5, nodeId);
+          statement.setLong(6, change.publishedAt());
+          return statement;
+        },
+        keyHolder);
+    long id = keyHolder.getKeyAs(Long.class);
+    applied.put(id, Boolean.TRUE);
+    if (notifications != null) {
+      // NOTIFY dentro de la transacción: PostgreSQL lo entrega solo si confirma
+      jdbcTemplate.queryForList(
+          "select pg_notify(?, ?)", PostgresNotificationListener.CHANNEL, payload(id, change));
+    }
+    // Sin transacción real (p. ej. la importación, NOT_SUPPORTED) el cambio ya está confirmado
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      dispatch(change);
+      return;
+    }
+    // Antes del commit otro lector aún cargaría los datos anteriores
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            dispatch(change);
+          }
+        });
+  }
+
+  // id:kind:restaurantId:version:directoryVersion:origin:publishedAt (el id permite descartar la
+  // misma fila al sondear)
+  private static String payload(long id, CatalogChange change) {
+    return String.join(
+        ":",
+        Long.toString(id),
+        change.kind().name(),
+        change.restaurantId().toString(),
+        Long.toString(change.version()),
+        Long.toString(change.directoryVersion()),
+        change.origin(),
+        Long.toString(change.publishedAt()));
+  }
+
+  private void onNotification(String payload) {
+    String[] parts = payload.split(":");
+    receive(
+        Long.parseLong(parts[0]),
+        new CatalogChange(
+            CatalogChange.Kind.valueOf(parts[1]),
+            Long.parseLong(parts[2]),
+            Long.parseLong(parts[3]),
+            Long.parseLong(parts[4]),
+            parts[5],
+            Long.parseLong(parts[6])),
+        notifyLatency);
+  }
+
+  private void poll() {
+    try {
+      List<Row> rows =
+          jdbcTemplate.query(
+              SELECT_AFTER,
+              (rs, rowNum) ->
+                  new Row(
+                      rs.getLong("id"),
+                      new CatalogChange(
+                          CatalogChange.Kind.valueOf(rs.getString("kind")),
+                          rs.getLong("restaurant_id"),
+                          rs.getLong("version"),
+                          rs.getLong("directory_version"),
+                          rs.getString("origin"),
+                          rs.getLong("published_at"))),
+              cursor);
+      long contiguous = cursor;
+      for (Row row : rows) {
+        if (row.id() == contiguous + 1) {
+          contiguous = row.id();
+        }
+        highest = Math.max(highest, row.id());
+        receive(row.id(), row.change(), pollingLatency);
+      }
+      advance(contiguous);
+      purgeIfDue();
+    } catch (DataAccessException e) {
+      log.warn("Catalog change poll failed, retrying in {}", pollInterval, e);
+    }
+  }
+
+  // Sin huecos el cursor avanza al último id contiguo. Un hueco se da por revertido tras lookback:
+  // el cursor alcanza el mayor id que ya se había leído hace lookback
+  private void advance(long contiguous) {
+    long now = System.nanoTime();
+    marks.addLast(new Mark(now, highest));
+    long settled = cursor;
+    while (!marks.isEmpty() && now - marks.peekFirst().at() >= lookback.toNanos()) {
+      settled = marks.pollFirst().highest();
+    }
+    cursor = Math.max(cursor, Math.max(contiguous, settled));
+  }
+
+  private void purgeIfDue() {
+    long now = System.currentTimeMillis();
+    if (now - lastPurge < PURGE_EVERY.toMillis()) {
+      return;
+    }
+    lastPurge = now;
+    int purged =
+        jdbcTemplate.update(
+            "delete from catalog_change where published_at < ? and id <= ?",
+            now - retention.toMillis(),
+            cursor);
+    if (purged > 0) {
+      log.debug("Purged {} catalog changes older than {}", purged, retention);
+    }
+  }
+
+  // Notificación y poller pueden traer el mismo cambio a la vez: se aplica una sola vez
+  private synchronized void receive(long id, CatalogChange change, Timer latency) {
+    if (applied.getIfPresent(id) != null) {
+      return;
+    }
+    applied.put(id, Boolean.TRUE);
+    if (nodeId.equals(change.origin())) {
+      return;
+    }
+    latency.record(
+        Math.max(0, System.currentTimeMillis() - change.publishedAt()), TimeUnit.MILLISECONDS);
+    // Sin transacción: fija el primario ya, antes de que las cachés recarguen
+    readRouting.recordWrite(change.restaurantId());
+    dispatch(change);
+  }
+
+  private void dispatch(CatalogChange change) {
+    for (CatalogChangeListener listener : listeners) {
+      try {
+        listener.onCatalogChange(change);
+      } catch (RuntimeException e) {
+        log.warn("Catalog change listener {} failed for {}", listener, change, e);
+      }
+    }
+    versions.apply(change);
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    listeners = listenerProvider.orderedStream().toList();
+    // Los cambios ya visibles al arrancar no importan: las cachés de esta instancia están vacías.
+    // El cursor queda antes de la primera fila para recoger los huecos que aún confirmen
+    List<Long> visible =
+        jdbcTemplate.queryForList("select id from catalog_change order by id", Long.class);
+    visible.forEach(id -> applied.put(id, Boolean.TRUE));
+    cursor = visible.isEmpty() ? 0 : visible.get(0) - 1;
+    highest = visible.isEmpty() ? 0 : visible.get(visible.size() - 1);
+    marks.addLast(new Mark(System.nanoTime(), highest));
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "catalog-change-poller");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long millis = pollInterval.toMillis();
+    scheduler.scheduleWithFixedDelay(this::poll, millis, millis, TimeUnit.MILLISECONDS);
+    if (notifications != null) {
+      notifications.start(this::onNotification);
+    }
+    log.info(
+        "Catalog change bus {} started (notify: {}, poll every {})",
+        nodeId,
+        notifications != null,
+        pollInterval);
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+    if (notifications != null) {
+      notifications.close();
+    }
+  }
+
+  private record Row(long id, CatalogChange change) {}
+
+  private record Mark(long at, long highest) {}
+}
@@ -0,0 +1,7 @@
+package com.pragma.powerup.infrastructure.out.bus;
+
+/** Drops local copies of catalog data; called for local writes and for other instances' writes. */
+public interface CatalogChangeListener {
+
+  void onCatalogChange(CatalogChange change);
+}
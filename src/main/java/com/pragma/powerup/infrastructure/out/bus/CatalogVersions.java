@@ -0,0 +1,65 @@
+package com.pragma.powerup.infrastructure.out.bus;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * In-memory copy of the catalog versions ({@code restaurant.catalog_version} and {@code
+ * catalog_directory.version}), so ETags are computed without touching the database.
+ *
+ * <p>Loaded once at startup and advanced by {@link CatalogChangeBus} after the caches of this
+ * instance dropped the changed data; versions only move forward. The values come from the database,
+ * so every instance hands out the same version for the same data.
+ */
+@Slf4j
+public class CatalogVersions implements SmartInitializingSingleton {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Map<Long, Long> restaurantVersions = new ConcurrentHashMap<>();
+  private final AtomicLong directoryVersion = new AtomicLong();
+
+  public CatalogVersions(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    jdbcTemplate.query(
+        "select id, catalog_version from restaurant",
+        rs -> {
+          restaurantVersions.merge(rs.getLong("id"), rs.getLong("catalog_version"), Math::max);
+        });
+    Long directory =
+        jdbcTemplate.queryForObject(
+            "select version from catalog_directory where id = 1", Long.class);
+    directoryVersion.accumulateAndGet(directory, Math::max);
+    log.info("Catalog versions loaded for {} restaurants", restaurantVersions.size());
+  }
+
+  /**
+   * Version of the restaurant and its menu, or {@code null} if this instance does not know the
+   * restaurant (unknown id, or created elsewhere and not yet received).
+   */
+  public Long restaurantVersion(Long restaurantId) {
+    return restaurantId == null ? null : restaurantVersions.get(restaurantId);
+  }
+
+  /** Version of the restaurant directory. */
+  public long directoryVersion() {
+    return directoryVersion.get();
+  }
+
+  void apply(CatalogChange change) {
+    // Versión 0: la fila del restaurante no existía al escribir
+    if (change.version() > 0) {
+      restaurantVersions.merge(change.restaurantId(), change.version(), Math::max);
+    }
+    if (change.directoryVersion() > 0) {
+      directoryVersion.accumulateAndGet(change.directoryVersion(), Math::max);
+    }
+  }
+}
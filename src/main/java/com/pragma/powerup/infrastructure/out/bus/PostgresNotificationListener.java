@@ -0,0 +1,107 @@
+package com.pragma.powerup.infrastructure.out.bus;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+/**
+ * Receives PostgreSQL {@code NOTIFY catalog_change} payloads on a dedicated connection outside the
+ * pool (a pooled connection would be handed back between waits and lose its {@code LISTEN}).
+ *
+ * <p>A lost connection is reopened with exponential backoff; notifications sent meanwhile are not
+ * replayed, the change-table poller picks them up.
+ */
+@Slf4j
+public class PostgresNotificationListener implements AutoCloseable {
+
+  public static final String CHANNEL = "catalog_change";
+
+  private static final int WAIT_MILLIS = 500;
+  private static final long MIN_BACKOFF_MILLIS = 100;
+  private static final long MAX_BACKOFF_MILLIS = Duration.ofSeconds(30).toMillis();
+
+  private final String url;
+  private final String username;
+  private final String password;
+  private volatile boolean running;
+  private Thread thread;
+
+  public PostgresNotificationListener(String url, String username, String password) {
+    this.url = url;
+    this.username = username;
+    this.password = password;
+  }
+
+  /** Starts listening on a daemon thread; {@code onPayload} runs on that thread. */
+  public synchronized void start(Consumer<String> onPayload) {
+    running = true;
+    thread = new Thread(() -> listen(onPayload), "catalog-change-listener");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private void listen(Consumer<String> onPayload) {
+    long backoff = MIN_BACKOFF_MILLIS;
+    while (running) {
+      try (Connection connection = DriverManager.getConnection(url, username, password);
+          Statement statement = connection.createStatement()) {
+        statement.execute("LISTEN " + CHANNEL);
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        log.info("Listening for catalog changes on channel {}", CHANNEL);
+        backoff = MIN_BACKOFF_MILLIS;
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(WAIT_MILLIS);
+          if (notifications == null) {
+            continue;
+          }
+          for (PGNotification notification : notifications) {
+            deliver(onPayload, notification.getParameter());
+          }
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          return;
+        }
+        log.warn("Catalog change notifications interrupted, retrying in {} ms", backoff, e);
+        if (!sleep(backoff)) {
+          return;
+        }
+        backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+      }
+    }
+  }
+
+  private static void deliver(Consumer<String> onPayload, String payload) {
+    try {
+      onPayload.accept(payload);
+    } catch (RuntimeException e) {
+      log.warn("Ignoring catalog change notification '{}'", payload, e);
+    }
+  }
+
+  private static boolean sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  @Override
+  public synchronized void close() throws InterruptedException {
+    running = false;
+    if (thread != null) {
+      // Corta la espera entre reintentos; getNotifications vuelve como mucho tras WAIT_MILLIS
+      thread.interrupt();
+      thread.join(WAIT_MILLIS * 2L);
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.powerup.domain.model.KeysetCursor;
+import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateMenuItem;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.domain.model.SliceModel;
+import com.pragma.powerup.domain.spi.IPlateQueryPort;
+import com.pragma.powerup.infrastructure.out.bus.CatalogChange;
+import com.pragma.powerup.infrastructure.out.bus.CatalogChangeListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Read-through cache in front of the menu queries.
+ *
+ * <p>Entries are keyed by restaurant, category, view and page window (page number or keyset cursor,
+ * plus size) and bounded by {@code maximumSize}; {@code ttl} only bounds how long a change goes
+ * unnoticed if the change bus misses it. Each restaurant has a menu generation that is part of the
+ * key: {@link #invalidate} bumps it, so a read that starts after the change was applied never sees
+ * an older menu, not even one put by a load that was still running during the commit. The pages of
+ * each restaurant are also indexed, so an invalidation removes them right away in O(pages of that
+ * restaurant) instead of scanning the whole cache or leaving them to the size bound, where they
+ * would count as evictions. A page put by a load racing the invalidation belongs to an old
+ * generation and goes with the next invalidation or the ttl. Local writes are applied after their
+ * commit, other instances' writes when the bus delivers them. Publishes {@code cache.*} meters
+ * tagged {@code cache=plate.menu} and the {@code plate.menu.cache.invalidations} counter.
+ */
+public class CachingPlateQueryAdapter implements IPlateQueryPort, CatalogChangeListener {
+
+  static final String CACHE_NAME = "plate.menu";
+
+  private final IPlateQueryPort delegate;
+  private final Cache<MenuKey, SliceModel<PlateMenuItem>> menus;
+  private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+  private final Map<Long, Set<MenuKey>> keysByRestaurant = new ConcurrentHashMap<>();
+  private final Counter invalidations;
+
+  public CachingPlateQueryAdapter(
+      IPlateQueryPort delegate, MeterRegistry meterRegistry, long maximumSize, Duration ttl) {
+    this(delegate, meterRegistry, maximumSize, ttl, ForkJoinPool.commonPool());
+  }
+
+  public CachingPlateQueryAdapter(
+      IPlateQueryPort delegate,
+      MeterRegistry meterRegistry,
+      long maximumSize,
+      Duration ttl,
+      Executor maintenanceExecutor) {
+    this.delegate = delegate;
+    this.menus =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .executor(maintenanceExecutor)
+            .<MenuKey, SliceModel<PlateMenuItem>>evictionListener(
+                (key, menu, cause) -> unindex(key))
+            .recordStats()
+            .build();
+    this.invalidations =
+        Counter.builder("plate.menu.cache.invalidations")
+            .description("Restaurant menus superseded in the cache after a write")
+            .register(meterRegistry);
+    CaffeineCacheMetrics.monitor(meterRegistry, menus, CACHE_NAME);
+  }
+
+  @Override
+  public SliceModel<PlateMenuItem> findActiveByRestaurant(
+      Long restaurantId, PlateCategory category, PlateMenuView view, int page, int size) {
+    return menus.get(
+        key(restaurantId, category, view, new PageWindow(page, size)),
+        k -> index(k, delegate.findActiveByRestaurant(restaurantId, category, view, page, size)));
+  }
+
+  @Override
+  public SliceModel<PlateMenuItem> findActiveByRestaurantAfter(
+      Long restaurantId, PlateCategory category, PlateMenuView view, KeysetCursor after, int size) {
+    return menus.get(
+        key(restaurantId, category, view, new SeekWindow(after, size)),
+        k ->
+            index(
+                k,
+                delegate.findActiveByRestaurantAfter(restaurantId, category, view, after, size)));
+  }
+
+  // Un cambio del restaurante también invalida: todo lo derivado de él se descarta
+  @Override
+  public void onCatalogChange(CatalogChange change) {
+    invalidate(change.restaurantId());
+  }
+
+  /** Stops serving the restaurant's cached menu pages right away. */
+  public void invalidate(Long restaurantId) {
+    generations.merge(restaurantId, 1L, Long::sum);
+    Set<MenuKey> keys = keysByRestaurant.remove(restaurantId);
+    if (keys != null) {
+      menus.invalidateAll(keys);
+    }
+    invalidations.increment();
+  }
+
+  private SliceModel<PlateMenuItem> index(MenuKey key, SliceModel<PlateMenuItem> menu) {
+    keysByRestaurant
+        .computeIfAbsent(key.restaurantId(), id -> ConcurrentHashMap.newKeySet())
+        .add(key);
+    return menu;
+  }
+
+  private void unindex(MenuKey key) {
+    keysByRestaurant.computeIfPresent(
+        key.restaurantId(),
+        (id, keys) -> {
+          keys.remove(key);
+          return keys.isEmpty() ? null : keys;
+        });
+  }
+
+  private MenuKey key(
+      Long restaurantId, PlateCategory category, PlateMenuView view, Record window) {
+    return new MenuKey(
+        restaurantId, generations.getOrDefault(restaurantId, 0L), category, view, window);
+  }
+
+  private record MenuKey(
+      Long restaurantId,
+      long generation,
+      PlateCategory category,
+      PlateMenuView view,
+      Record window) {}
+
+  private record PageWindow(int page, int size) {}
+
+  private record SeekWindow(KeysetCursor after, int size) {}
+}
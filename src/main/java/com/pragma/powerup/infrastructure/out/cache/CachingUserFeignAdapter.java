@@ -0,0 +1,117 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserFeignPort;
+import com.pragma.powerup.infrastructure.out.feign.adapter.ResilientUserFeignAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caching decorator for the users-service lookups.
+ *
+ * <p>Concurrent lookups of the same user share a single remote call. Entries older than {@code ttl}
+ * are refreshed in the background while the previous value keeps being served, so a slow users
+ * service does not slow callers down; if refreshing keeps failing the entry is dropped once it is
+ * {@code ttl + max-stale} old. Publishes {@code cache.*} meters tagged {@code cache=users.service},
+ * the {@code users.service.load} timer and the {@code users.service.stale.served} counter.
+ *
+ * <p>{@link #isUserActive} is passed through: account status must not lag behind the users service.
+ */
+@Component
+@Primary
+public class CachingUserFeignAdapter implements IUserFeignPort {
+
+  static final String CACHE_NAME = "users.service";
+
+  private final IUserFeignPort delegate;
+  private final Ticker ticker;
+  private final long ttlNanos;
+  private final LoadingCache<Long, Cached> users;
+  private final Timer loadTimer;
+  private final Counter staleServed;
+
+  @Autowired
+  public CachingUserFeignAdapter(
+      ResilientUserFeignAdapter delegate,
+      MeterRegistry meterRegistry,
+      @Value("${feign.clients.users-service.cache.ttl:5m}") Duration ttl,
+      @Value("${feign.clients.users-service.cache.max-stale:10m}") Duration maxStale,
+      @Value("${feign.clients.users-service.cache.maximum-size:10000}") long maximumSize) {
+    this(
+        delegate,
+        meterRegistry,
+        ttl,
+        maxStale,
+        maximumSize,
+        Ticker.systemTicker(),
+        ForkJoinPool.commonPool());
+  }
+
+  public CachingUserFeignAdapter(
+      IUserFeignPort delegate,
+      MeterRegistry meterRegistry,
+      Duration ttl,
+      Duration maxStale,
+      long maximumSize,
+      Ticker ticker,
+      Executor refreshExecutor) {
+    this.delegate = delegate;
+    this.ticker = ticker;
+    this.ttlNanos = ttl.toNanos();
+    this.loadTimer =
+        Timer.builder("users.service.load")
+            .description("Remote users-service lookups made on cache misses and refreshes")
+            .register(meterRegistry);
+    this.staleServed =
+        Counter.builder("users.service.stale.served")
+            .description("Lookups answered with an entry older than the cache ttl")
+            .register(meterRegistry);
+    this.users =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .refreshAfterWrite(ttl)
+            .expireAfterWrite(ttl.plus(maxStale))
+            .ticker(ticker)
+            .executor(refreshExecutor)
+            .recordStats()
+            .build(this::load);
+    CaffeineCacheMetrics.monitor(meterRegistry, users, CACHE_NAME);
+  }
+
+  private Cached load(Long id) {
+    UserModel user = loadTimer.record(() -> delegate.getUserById(id));
+    // Caffeine no guarda nulos: un usuario inexistente se vuelve a consultar en cada búsqueda
+    return user == null ? null : new Cached(user, ticker.read());
+  }
+
+  @Override
+  public UserModel getUserById(Long id) {
+    Cached cached = users.get(id);
+    if (cached == null) {
+      return null;
+    }
+    if (ticker.read() - cached.loadedAt() > ttlNanos) {
+      staleServed.increment();
+    }
+    return cached.user();
+  }
+
+  @Override
+  public Boolean isUserActive(Long id) {
+    return delegate.isUserActive(id);
+  }
+
+  private record Cached(UserModel user, long loadedAt) {}
+}
@@ -0,0 +1,128 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.spi.ICatalogStatisticsPort;
+import com.pragma.powerup.infrastructure.out.jpa.projection.ActivePlateCountView;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IPlateRepository;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IRestaurantRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * Catalog counts read from a snapshot instead of a {@code COUNT(*)} per list request.
+ *
+ * <p>The snapshot is rebuilt every {@code refreshInterval} on a single background thread: one
+ * restaurant count plus one grouped count of active plates per (restaurant, category). Readers only
+ * dereference a volatile field, so a total costs nothing on the request path and may lag writes by
+ * up to one interval. A failed refresh keeps the previous snapshot. Publishes {@code
+ * catalog.statistics.age} (seconds since the last successful refresh).
+ */
+@Slf4j
+public class CatalogStatisticsSnapshotAdapter
+    implements ICatalogStatisticsPort, SmartInitializingSingleton, DisposableBean {
+
+  private record Snapshot(
+      long restaurants, Map<Long, Map<PlateCategory, Long>> activePlates, long takenAtMillis) {}
+
+  private final IRestaurantRepository restaurantRepository;
+  private final IPlateRepository plateRepository;
+  private final Duration refreshInterval;
+  private final Clock clock;
+  private volatile Snapshot snapshot;
+  private ScheduledExecutorService scheduler;
+
+  public CatalogStatisticsSnapshotAdapter(
+      IRestaurantRepository restaurantRepository,
+      IPlateRepository plateRepository,
+      Duration refreshInterval,
+      MeterRegistry meterRegistry) {
+    this(restaurantRepository, plateRepository, refreshInterval, meterRegistry, Clock.systemUTC());
+  }
+
+  public CatalogStatisticsSnapshotAdapter(
+      IRestaurantRepository restaurantRepository,
+      IPlateRepository plateRepository,
+      Duration refreshInterval,
+      MeterRegistry meterRegistry,
+      Clock clock) {
+    this.restaurantRepository = restaurantRepository;
+    this.plateRepository = plateRepository;
+    this.refreshInterval = refreshInterval;
+    this.clock = clock;
+    this.snapshot = new Snapshot(0, Map.of(), clock.millis());
+    Gauge.builder("catalog.statistics.age", this, CatalogStatisticsSnapshotAdapter::ageSeconds)
+        .description("Seconds since the catalog count snapshot was refreshed")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  private double ageSeconds() {
+    return (clock.millis() - snapshot.takenAtMillis()) / 1_000.0;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    refresh();
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "catalog-statistics");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long millis = refreshInterval.toMillis();
+    scheduler.scheduleWithFixedDelay(this::refresh, millis, millis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void destroy() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  /** Rebuilds the snapshot; on failure the previous one keeps being served. */
+  public void refresh() {
+    try {
+      long restaurants = restaurantRepository.count();
+      Map<Long, Map<PlateCategory, Long>> activePlates = new HashMap<>();
+      for (ActivePlateCountView row : plateRepository.countActiveByRestaurantAndCategory()) {
+        activePlates
+            .computeIfAbsent(row.getRestaurantId(), id -> new EnumMap<>(PlateCategory.class))
+            .put(row.getCategory(), row.getTotal());
+      }
+      snapshot = new Snapshot(restaurants, activePlates, clock.millis());
+    } catch (RuntimeException e) {
+      // Un total aproximado no justifica fallar el listado: se sigue sirviendo el anterior
+      log.warn("Catalog statistics refresh failed, serving snapshot of age {}s", ageSeconds(), e);
+    }
+  }
+
+  @Override
+  public long approximateRestaurantCount() {
+    return snapshot.restaurants();
+  }
+
+  @Override
+  public long approximateActivePlateCount(Long restaurantId, PlateCategory category) {
+    Map<PlateCategory, Long> byCategory = snapshot.activePlates().get(restaurantId);
+    if (byCategory == null) {
+      return 0;
+    }
+    if (category == null) {
+      return byCategory.values().stream().mapToLong(Long::longValue).sum();
+    }
+    return byCategory.getOrDefault(category, 0L);
+  }
+}
@@ -0,0 +1,99 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import com.pragma.powerup.domain.spi.IRestaurantOwnershipPort;
+import com.pragma.powerup.infrastructure.out.jpa.projection.RestaurantOwnerView;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IRestaurantRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory restaurantId → ownerId index.
+ *
+ * <p>Loaded once at startup from a two-column projection and kept current by {@link
+ * #registerOwner}, so ownership checks on plate writes do not hit the database. A miss (restaurant
+ * created by another instance, or unknown id) falls back to a single-column query and only caches
+ * restaurants that exist. Publishes {@code restaurant.ownership.index.size} and {@code
+ * restaurant.ownership.lookups{result=hit|miss}}.
+ */
+@Slf4j
+public class RestaurantOwnershipIndexAdapter
+    implements IRestaurantOwnershipPort, SmartInitializingSingleton {
+
+  private final IRestaurantRepository repository;
+  private final Map<Long, Long> ownerByRestaurant = new ConcurrentHashMap<>();
+  private final Counter hits;
+  private final Counter misses;
+
+  public RestaurantOwnershipIndexAdapter(
+      IRestaurantRepository repository, MeterRegistry meterRegistry) {
+    this.repository = repository;
+    Gauge.builder("restaurant.ownership.index.size", ownerByRestaurant, Map::size)
+        .description("Restaurants held in the ownership index")
+        .register(meterRegistry);
+    this.hits = lookups(meterRegistry, "hit");
+    this.misses = lookups(meterRegistry, "miss");
+  }
+
+  private static Counter lookups(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("restaurant.ownership.lookups")
+        .description("Ownership lookups answered from the index (hit) or the database (miss)")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    for (RestaurantOwnerView view : repository.findAllOwners()) {
+      ownerByRestaurant.put(view.getId(), view.getOwnerId());
+    }
+    log.info("Restaurant ownership index loaded with {} entries", ownerByRestaurant.size());
+  }
+
+  @Override
+  public Long findOwnerId(Long restaurantId) {
+    if (restaurantId == null) {
+      return null;
+    }
+    Long ownerId = ownerByRestaurant.get(restaurantId);
+    if (ownerId != null) {
+      hits.increment();
+      return ownerId;
+    }
+    misses.increment();
+    // Solo se guardan restaurantes existentes: ids inexistentes no deben crecer el índice
+    return repository
+        .findOwnerIdById(restaurantId)
+        .map(
+            found -> {
+              ownerByRestaurant.put(restaurantId, found);
+              return found;
+            })
+        .orElse(null);
+  }
+
+  @Override
+  public void registerOwner(Long restaurantId, Long ownerId) {
+    if (restaurantId == null || ownerId == null) {
+      return;
+    }
+    // Dentro de una transacción se publica tras el commit para no indexar filas revertidas
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              ownerByRestaurant.put(restaurantId, ownerId);
+            }
+          });
+    } else {
+      ownerByRestaurant.put(restaurantId, ownerId);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.pragma.powerup.infrastructure.out.feign.adapter;
+
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserFeignPort;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs every users-service call through the circuit breaker and the bulkhead.
+ *
+ * <p>Fails fast with {@code "users service unavailable"} when the breaker is open, the bulkhead is
+ * full, or the call fails for a reason other than a 4xx answer. 4xx answers (e.g. unknown user) are
+ * propagated unchanged.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResilientUserFeignAdapter implements IUserFeignPort {
+
+  public static final String USERS_SERVICE_UNAVAILABLE = "users service unavailable";
+
+  private final UserFeignAdapter delegate;
+  private final CircuitBreaker usersServiceCircuitBreaker;
+  private final Bulkhead usersServiceBulkhead;
+
+  @Override
+  public UserModel getUserById(Long id) {
+    return call(() -> delegate.getUserById(id));
+  }
+
+  @Override
+  public Boolean isUserActive(Long id) {
+    return call(() -> delegate.isUserActive(id));
+  }
+
+  private <T> T call(Supplier<T> remoteCall) {
+    Supplier<T> guarded =
+        CircuitBreaker.decorateSupplier(
+            usersServiceCircuitBreaker,
+            Bulkhead.decorateSupplier(usersServiceBulkhead, remoteCall));
+    try {
+      return guarded.get();
+    } catch (FeignException.FeignClientException e) {
+      throw e;
+    } catch (CallNotPermittedException | BulkheadFullException | FeignException e) {
+      throw new DomainException(USERS_SERVICE_UNAVAILABLE);
+    }
+  }
+}
@@ -1,29 +1,81 @@
 package com.pragma.powerup.infrastructure.out.jpa.adapter;
 
+import com.pragma.powerup.domain.exception.DomainException;
 import com.pragma.powerup.domain.model.PlateModel;
 import com.pragma.powerup.domain.spi.IPlatePersistencePort;
 import com.pragma.powerup.infrastructure.out.jpa.entity.PlateEntity;
 import com.pragma.powerup.infrastructure.out.jpa.mapper.IPlateEntityMapper;
 import com.pragma.powerup.infrastructure.out.jpa.repository.IPlateRepository;
+import com.pragma.powerup.infrastructure.out.jpa.routing.CatalogReadRouting;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @RequiredArgsConstructor
 public class PlateJpaAdapter implements IPlatePersistencePort {
 
   private final IPlateRepository repository;
   private final IPlateEntityMapper mapper;
+  private final CatalogReadRouting readRouting;
 
   @Override
-  public boolean existsByNameAndRestaurantId(String name, Long restaurantId) {
-    return repository.existsByNameAndRestaurantId(name, restaurantId);
+  public Set<String> findNamesByRestaurantId(Long restaurantId) {
+    return new HashSet<>(repository.findNamesByRestaurantId(restaurantId));
   }
 
   @Override
   public PlateModel save(PlateModel plate) {
-    PlateEntity saved = repository.save(mapper.toEntity(plate));
+    PlateEntity saved;
+    try {
+      // flush: el INSERT (y la violación de uk_plate_restaurant_name) ocurre aquí y no al commit
+      saved = repository.saveAndFlush(mapper.toEntity(plate));
+    } catch (DataIntegrityViolationException e) {
+      throw translate(e);
+    }
+    readRouting.recordWrite(saved.getRestaurantId());
     return mapper.toModel(saved);
   }
 
+  @Override
+  public List<PlateModel> saveAll(List<PlateModel> plates) {
+    // Con ids por secuencia los persist no ejecutan SQL: los INSERT salen en lotes al hacer flush
+    List<PlateEntity> saved;
+    try {
+      saved = repository.saveAllAndFlush(mapper.toEntityList(plates));
+    } catch (DataIntegrityViolationException e) {
+      throw translate(e);
+    }
+    saved.stream().map(PlateEntity::getRestaurantId).distinct().forEach(readRouting::recordWrite);
+    return mapper.toModelList(saved);
+  }
+
+  private static RuntimeException translate(DataIntegrityViolationException e) {
+    if (UniqueConstraints.violated(e, UniqueConstraints.PLATE_NAME)) {
+      return new DomainException("plate name already exists in restaurant");
+    }
+    return e;
+  }
+
+  @Override
+  public PlateModel updatePriceAndDescription(
+      Long plateId, Integer price, String description, Long ownerId) {
+    return updated(
+        repository.updatePriceAndDescriptionIfOwned(plateId, ownerId, price, description));
+  }
+
+  @Override
+  public PlateModel updateActive(Long plateId, boolean active, Long ownerId) {
+    return updated(repository.updateActiveIfOwned(plateId, ownerId, active));
+  }
+
+  private PlateModel updated(Optional<PlateEntity> row) {
+    row.map(PlateEntity::getRestaurantId).ifPresent(readRouting::recordWrite);
+    return row.map(mapper::toModel).orElse(null);
+  }
+
   @Override
   public PlateModel findById(Long id) {
     return repository.findById(id).map(mapper::toModel).orElse(null);
@@ -1,35 +1,91 @@
 package com.pragma.powerup.infrastructure.out.jpa.adapter;
 
+import com.pragma.powerup.domain.model.KeysetCursor;
 import com.pragma.powerup.domain.model.PlateCategory;
-import com.pragma.powerup.domain.model.PlateModel;
+import com.pragma.powerup.domain.model.PlateMenuItem;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.domain.model.SliceModel;
 import com.pragma.powerup.domain.spi.IPlateQueryPort;
-import com.pragma.powerup.infrastructure.out.jpa.entity.PlateEntity;
-import com.pragma.powerup.infrastructure.out.jpa.mapper.IPlateEntityMapper;
 import com.pragma.powerup.infrastructure.out.jpa.repository.IPlateRepository;
+import com.pragma.powerup.infrastructure.out.jpa.routing.CatalogReadRouting;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+/**
+ * Menu reads. Rows come back as {@link PlateMenuItem} constructor projections: only the listed
+ * columns are selected and nothing enters the persistence context, so there is no entity to
+ * dirty-check or map. The {@link PlateMenuView#SUMMARY} queries leave the description out. Reads
+ * may be served by a replica, except for a restaurant whose menu was just written (see {@link
+ * CatalogReadRouting}).
+ */
 @RequiredArgsConstructor
 public class PlateQueryJpaAdapter implements IPlateQueryPort {
 
   private final IPlateRepository repository;
-  private final IPlateEntityMapper mapper;
+  private final CatalogReadRouting readRouting;
 
   @Override
-  public List<PlateModel> findActiveByRestaurant(
-      Long restaurantId, PlateCategory category, int page, int size) {
-    var pageable = PageRequest.of(page, size, Sort.by("name").ascending());
-    List<PlateEntity> entities;
+  public SliceModel<PlateMenuItem> findActiveByRestaurant(
+      Long restaurantId, PlateCategory category, PlateMenuView view, int page, int size) {
+    var pageable = PageRequest.of(page, size, Sort.by("name", "id").ascending());
+    return readRouting.onReplica(
+        restaurantId,
+        () -> SliceMapping.fromSlice(findMenu(restaurantId, category, view, pageable)));
+  }
+
+  @Override
+  public SliceModel<PlateMenuItem> findActiveByRestaurantAfter(
+      Long restaurantId, PlateCategory category, PlateMenuView view, KeysetCursor after, int size) {
+    return readRouting.onReplica(
+        restaurantId,
+        () ->
+            SliceMapping.fromRows(
+                findMenuAfter(restaurantId, category, view, after, Limit.of(size + 1)), size));
+  }
+
+  private Slice<PlateMenuItem> findMenu(
+      Long restaurantId, PlateCategory category, PlateMenuView view, Pageable pageable) {
+    if (view == PlateMenuView.SUMMARY) {
+      return category == null
+          ? repository.findMenuSummary(restaurantId, pageable)
+          : repository.findMenuSummaryByCategory(restaurantId, category, pageable);
+    }
+    return category == null
+        ? repository.findMenu(restaurantId, pageable)
+        : repository.findMenuByCategory(restaurantId, category, pageable);
+  }
+
+  private List<PlateMenuItem> findMenuAfter(
+      Long restaurantId,
+      PlateCategory category,
+      PlateMenuView view,
+      KeysetCursor after,
+      Limit limit) {
+    boolean summary = view == PlateMenuView.SUMMARY;
+    if (after == null) {
+      if (category == null) {
+        return summary
+            ? repository.findMenuSummaryFirst(restaurantId, limit)
+            : repository.findMenuFirst(restaurantId, limit);
+      }
+      return summary
+          ? repository.findMenuSummaryByCategoryFirst(restaurantId, category, limit)
+          : repository.findMenuByCategoryFirst(restaurantId, category, limit);
+    }
     if (category == null) {
-      entities = repository.findByRestaurantIdAndActiveTrue(restaurantId, pageable).getContent();
-    } else {
-      entities =
-          repository
-              .findByRestaurantIdAndActiveTrueAndCategory(restaurantId, category, pageable)
-              .getContent();
+      return summary
+          ? repository.findMenuSummaryAfter(restaurantId, after.name(), after.id(), limit)
+          : repository.findMenuAfter(restaurantId, after.name(), after.id(), limit);
     }
-    return entities.stream().map(mapper::toModel).toList();
+    return summary
+        ? repository.findMenuSummaryByCategoryAfter(
+            restaurantId, category, after.name(), after.id(), limit)
+        : repository.findMenuByCategoryAfter(
+            restaurantId, category, after.name(), after.id(), limit);
   }
 }
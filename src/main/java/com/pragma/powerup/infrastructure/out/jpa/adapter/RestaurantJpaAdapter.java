@@ -1,11 +1,13 @@
 package com.pragma.powerup.infrastructure.out.jpa.adapter;
 
+import com.pragma.powerup.domain.exception.DomainException;
 import com.pragma.powerup.domain.model.RestaurantModel;
 import com.pragma.powerup.domain.spi.IRestaurantPersistencePort;
 import com.pragma.powerup.infrastructure.out.jpa.entity.RestaurantEntity;
 import com.pragma.powerup.infrastructure.out.jpa.mapper.IRestaurantEntityMapper;
 import com.pragma.powerup.infrastructure.out.jpa.repository.IRestaurantRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @RequiredArgsConstructor
 public class RestaurantJpaAdapter implements IRestaurantPersistencePort {
@@ -13,14 +15,18 @@ public class RestaurantJpaAdapter implements IRestaurantPersistencePort {
   private final IRestaurantRepository repository;
   private final IRestaurantEntityMapper mapper;
 
-  @Override
-  public boolean existsByNit(String nit) {
-    return repository.existsByNit(nit);
-  }
-
   @Override
   public RestaurantModel save(RestaurantModel restaurant) {
-    RestaurantEntity entity = repository.save(mapper.toEntity(restaurant));
+    RestaurantEntity entity;
+    try {
+      // flush: el INSERT (y la violación de uk_restaurant_nit) ocurre aquí y no al commit
+      entity = repository.saveAndFlush(mapper.toEntity(restaurant));
+    } catch (DataIntegrityViolationException e) {
+      if (UniqueConstraints.violated(e, UniqueConstraints.RESTAURANT_NIT)) {
+        throw new DomainException("NIT already exists");
+      }
+      throw e;
+    }
     return mapper.toModel(entity);
   }
 }
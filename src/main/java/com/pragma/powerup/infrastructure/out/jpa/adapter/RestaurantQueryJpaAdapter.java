@@ -1,11 +1,15 @@
 package com.pragma.powerup.infrastructure.out.jpa.adapter;
 
+import com.pragma.powerup.domain.model.KeysetCursor;
 import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.model.RestaurantSummary;
+import com.pragma.powerup.domain.model.SliceModel;
 import com.pragma.powerup.domain.spi.IRestaurantQueryPort;
 import com.pragma.powerup.infrastructure.out.jpa.mapper.IRestaurantEntityMapper;
 import com.pragma.powerup.infrastructure.out.jpa.repository.IRestaurantRepository;
-import java.util.List;
+import com.pragma.powerup.infrastructure.out.jpa.routing.CatalogReadRouting;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
@@ -14,6 +18,7 @@ public class RestaurantQueryJpaAdapter implements IRestaurantQueryPort {
 
   private final IRestaurantRepository repository;
   private final IRestaurantEntityMapper mapper;
+  private final CatalogReadRouting readRouting;
 
   @Override
   public RestaurantModel findById(Long restaurantId) {
@@ -21,8 +26,21 @@ public class RestaurantQueryJpaAdapter implements IRestaurantQueryPort {
   }
 
   @Override
-  public List<RestaurantModel> findAllOrderedByName(int page, int size) {
-    var pageable = PageRequest.of(page, size, Sort.by("name").ascending());
-    return repository.findAll(pageable).map(mapper::toModel).getContent();
+  public SliceModel<RestaurantSummary> findAllOrderedByName(int page, int size) {
+    var pageable = PageRequest.of(page, size, Sort.by("name", "id").ascending());
+    return readRouting.onReplica(() -> SliceMapping.fromSlice(repository.findSummaries(pageable)));
+  }
+
+  @Override
+  public SliceModel<RestaurantSummary> findAllOrderedByNameAfter(KeysetCursor after, int size) {
+    Limit limit = Limit.of(size + 1);
+    return readRouting.onReplica(
+        () -> {
+          var rows =
+              after == null
+                  ? repository.findSummariesFirst(limit)
+                  : repository.findSummariesAfter(after.name(), after.id(), limit);
+          return SliceMapping.fromRows(rows, size);
+        });
   }
 }
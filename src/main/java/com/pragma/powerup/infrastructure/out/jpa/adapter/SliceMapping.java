@@ -0,0 +1,24 @@
+package com.pragma.powerup.infrastructure.out.jpa.adapter;
+
+import com.pragma.powerup.domain.model.SliceModel;
+import java.util.List;
+import org.springframework.data.domain.Slice;
+
+/** Builds {@link SliceModel}s from reads that fetched one row past the page instead of a count. */
+final class SliceMapping {
+
+  private SliceMapping() {}
+
+  /**
+   * Spring Data already reads {@code size + 1} rows for a {@link Slice} and drops the extra one.
+   */
+  static <T> SliceModel<T> fromSlice(Slice<T> slice) {
+    return new SliceModel<>(slice.getContent(), slice.hasNext());
+  }
+
+  /** {@code rows} was limited to {@code size + 1}; the extra row only signals a next page. */
+  static <T> SliceModel<T> fromRows(List<T> rows, int size) {
+    boolean hasNext = rows.size() > size;
+    return new SliceModel<>(hasNext ? List.copyOf(rows.subList(0, size)) : rows, hasNext);
+  }
+}
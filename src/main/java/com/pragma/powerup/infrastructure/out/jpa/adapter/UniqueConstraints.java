@@ -0,0 +1,36 @@
+package com.pragma.powerup.infrastructure.out.jpa.adapter;
+
+import java.util.Locale;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/** Recognises which unique constraint rejected a write, so adapters can report a domain error. */
+final class UniqueConstraints {
+
+  static final String PLATE_NAME = "uk_plate_restaurant_name";
+  static final String RESTAURANT_NIT = "uk_restaurant_nit";
+
+  private UniqueConstraints() {}
+
+  /**
+   * Hibernate extracts the constraint name from the driver error; H2 reports its backing index
+   * ({@code UK_PLATE_RESTAURANT_NAME_INDEX_4}) and PostgreSQL batches may hide it behind a {@code
+   * BatchUpdateException}, so the messages of the cause chain are checked as well.
+   */
+  static boolean violated(DataIntegrityViolationException e, String constraint) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConstraintViolationException violation
+          && mentions(violation.getConstraintName(), constraint)) {
+        return true;
+      }
+      if (mentions(cause.getMessage(), constraint)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean mentions(String text, String constraint) {
+    return text != null && text.toLowerCase(Locale.ROOT).contains(constraint);
+  }
+}
@@ -8,14 +8,20 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "plate")
+@Table(
+    name = "plate",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_plate_restaurant_name",
+            columnNames = {"restaurant_id", "name"}))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class PlateEntity {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "plate_seq")
+  @SequenceGenerator(name = "plate_seq", sequenceName = "plate_seq", allocationSize = 50)
   @Column(name = "id")
   private Long id;
 
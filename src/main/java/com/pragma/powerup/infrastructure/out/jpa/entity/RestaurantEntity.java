@@ -14,7 +14,8 @@ import lombok.Setter;
 @AllArgsConstructor
 public class RestaurantEntity {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "restaurant_seq")
+  @SequenceGenerator(name = "restaurant_seq", sequenceName = "restaurant_seq", allocationSize = 50)
   @Column(name = "id")
   private Long id;
 
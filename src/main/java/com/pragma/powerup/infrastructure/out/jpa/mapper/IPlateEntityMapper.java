@@ -2,6 +2,7 @@ package com.pragma.powerup.infrastructure.out.jpa.mapper;
 
 import com.pragma.powerup.domain.model.PlateModel;
 import com.pragma.powerup.infrastructure.out.jpa.entity.PlateEntity;
+import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -13,4 +14,8 @@ public interface IPlateEntityMapper {
   PlateEntity toEntity(PlateModel model);
 
   PlateModel toModel(PlateEntity entity);
+
+  List<PlateEntity> toEntityList(List<PlateModel> models);
+
+  List<PlateModel> toModelList(List<PlateEntity> entities);
 }
@@ -0,0 +1,12 @@
+package com.pragma.powerup.infrastructure.out.jpa.projection;
+
+import com.pragma.powerup.domain.model.PlateCategory;
+
+/** Active plates per (restaurant, category); one grouped row instead of a count per request. */
+public interface ActivePlateCountView {
+  Long getRestaurantId();
+
+  PlateCategory getCategory();
+
+  Long getTotal();
+}
@@ -0,0 +1,8 @@
+package com.pragma.powerup.infrastructure.out.jpa.projection;
+
+/** Closed projection restaurant id → owner id; selects two columns instead of the full row. */
+public interface RestaurantOwnerView {
+  Long getId();
+
+  Long getOwnerId();
+}
@@ -0,0 +1,18 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+import com.pragma.powerup.infrastructure.out.jpa.entity.PlateEntity;
+import java.util.Optional;
+
+/**
+ * Owner-scoped plate updates that run as a single {@code UPDATE ... WHERE id = ? AND restaurant_id
+ * IN (restaurants of owner)} and read the new row back from the same statement.
+ */
+public interface IPlateConditionalUpdateRepository {
+
+  /** Empty when the plate does not exist or belongs to a restaurant of another owner. */
+  Optional<PlateEntity> updatePriceAndDescriptionIfOwned(
+      Long plateId, Long ownerId, Integer price, String description);
+
+  /** Empty when the plate does not exist or belongs to a restaurant of another owner. */
+  Optional<PlateEntity> updateActiveIfOwned(Long plateId, Long ownerId, boolean active);
+}
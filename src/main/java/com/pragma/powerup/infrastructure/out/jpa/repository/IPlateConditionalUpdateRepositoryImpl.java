@@ -0,0 +1,67 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+import com.pragma.powerup.infrastructure.out.jpa.entity.PlateEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/** Spring Data fragment behind {@link IPlateConditionalUpdateRepository}. */
+class IPlateConditionalUpdateRepositoryImpl implements IPlateConditionalUpdateRepository {
+
+  private static final String COLUMNS =
+      "id, name, price, description, image_url, category, active, restaurant_id";
+  private static final String OWNED =
+      " where id = :plateId"
+          + " and restaurant_id in (select r.id from restaurant r where r.owner_id = :ownerId)";
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private volatile Boolean finalTableSyntax;
+
+  @Override
+  public Optional<PlateEntity> updatePriceAndDescriptionIfOwned(
+      Long plateId, Long ownerId, Integer price, String description) {
+    return execute(
+        "update plate set price = :price, description = :description" + OWNED,
+        Map.of("plateId", plateId, "ownerId", ownerId, "price", price, "description", description));
+  }
+
+  @Override
+  public Optional<PlateEntity> updateActiveIfOwned(Long plateId, Long ownerId, boolean active) {
+    return execute(
+        "update plate set active = :active" + OWNED,
+        Map.of("plateId", plateId, "ownerId", ownerId, "active", active));
+  }
+
+  private Optional<PlateEntity> execute(String update, Map<String, Object> parameters) {
+    Query query = entityManager.createNativeQuery(returning(update), PlateEntity.class);
+    parameters.forEach(query::setParameter);
+    @SuppressWarnings("unchecked")
+    List<PlateEntity> rows = query.getResultList();
+    return rows.stream().findFirst();
+  }
+
+  /**
+   * PostgreSQL returns the new row with {@code UPDATE ... RETURNING}; H2 has no RETURNING clause
+   * and reads it through {@code SELECT ... FROM FINAL TABLE (UPDATE ...)}. Both are one statement.
+   */
+  private String returning(String update) {
+    if (finalTableSyntax == null) {
+      finalTableSyntax =
+          entityManager
+                  .getEntityManagerFactory()
+                  .unwrap(SessionFactoryImplementor.class)
+                  .getJdbcServices()
+                  .getDialect()
+              instanceof H2Dialect;
+    }
+    return finalTableSyntax
+        ? "select " + COLUMNS + " from final table (" + update + ")"
+        : update + " returning " + COLUMNS;
+  }
+}
@@ -1,16 +1,106 @@
 package com.pragma.powerup.infrastructure.out.jpa.repository;
 
 import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateMenuItem;
 import com.pragma.powerup.infrastructure.out.jpa.entity.PlateEntity;
-import org.springframework.data.domain.Page;
+import com.pragma.powerup.infrastructure.out.jpa.projection.ActivePlateCountView;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface IPlateRepository extends JpaRepository<PlateEntity, Long> {
-  boolean existsByNameAndRestaurantId(String name, Long restaurantId);
+public interface IPlateRepository
+    extends JpaRepository<PlateEntity, Long>, IPlateConditionalUpdateRepository {
+  String MENU_ITEM =
+      "select new com.pragma.powerup.domain.model.PlateMenuItem(p.id, p.name, p.price,"
+          + " p.description, p.imageUrl, p.category, p.active, p.restaurantId) from PlateEntity p"
+          + " where p.restaurantId = :restaurantId and p.active = true";
+  // Vista SUMMARY: solo columnas de los índices del menú (PostgreSQL lo resuelve sin leer la tabla)
+  String MENU_SUMMARY =
+      "select new com.pragma.powerup.domain.model.PlateMenuItem(p.id, p.name, p.price,"
+          + " p.imageUrl, p.category, p.restaurantId) from PlateEntity p"
+          + " where p.restaurantId = :restaurantId and p.active = true";
+  String BY_CATEGORY = " and p.category = :category";
+  String AFTER = " and p.name >= :name and (p.name > :name or p.id > :id)";
+  String BY_NAME = " order by p.name, p.id";
 
-  Page<PlateEntity> findByRestaurantIdAndActiveTrue(Long restaurantId, Pageable pageable);
+  @Query("select p.name from PlateEntity p where p.restaurantId = :restaurantId")
+  List<String> findNamesByRestaurantId(@Param("restaurantId") Long restaurantId);
 
-  Page<PlateEntity> findByRestaurantIdAndActiveTrueAndCategory(
-      Long restaurantId, PlateCategory category, Pageable pageable);
+  // Menú: proyección de las columnas del listado, sin entidades gestionadas.
+  // Slice: lee size + 1 filas para saber si hay siguiente página, sin SELECT COUNT(*)
+  @Query(MENU_ITEM)
+  Slice<PlateMenuItem> findMenu(@Param("restaurantId") Long restaurantId, Pageable pageable);
+
+  @Query(MENU_ITEM + BY_CATEGORY)
+  Slice<PlateMenuItem> findMenuByCategory(
+      @Param("restaurantId") Long restaurantId,
+      @Param("category") PlateCategory category,
+      Pageable pageable);
+
+  // Paginación por clave (name, id): el rango empieza en el índice, sin OFFSET
+  @Query(MENU_ITEM + BY_NAME)
+  List<PlateMenuItem> findMenuFirst(@Param("restaurantId") Long restaurantId, Limit limit);
+
+  @Query(MENU_ITEM + BY_CATEGORY + BY_NAME)
+  List<PlateMenuItem> findMenuByCategoryFirst(
+      @Param("restaurantId") Long restaurantId,
+      @Param("category") PlateCategory category,
+      Limit limit);
+
+  @Query(MENU_ITEM + AFTER + BY_NAME)
+  List<PlateMenuItem> findMenuAfter(
+      @Param("restaurantId") Long restaurantId,
+      @Param("name") String name,
+      @Param("id") Long id,
+      Limit limit);
+
+  @Query(MENU_ITEM + BY_CATEGORY + AFTER + BY_NAME)
+  List<PlateMenuItem> findMenuByCategoryAfter(
+      @Param("restaurantId") Long restaurantId,
+      @Param("category") PlateCategory category,
+      @Param("name") String name,
+      @Param("id") Long id,
+      Limit limit);
+
+  @Query(MENU_SUMMARY)
+  Slice<PlateMenuItem> findMenuSummary(@Param("restaurantId") Long restaurantId, Pageable pageable);
+
+  @Query(MENU_SUMMARY + BY_CATEGORY)
+  Slice<PlateMenuItem> findMenuSummaryByCategory(
+      @Param("restaurantId") Long restaurantId,
+      @Param("category") PlateCategory category,
+      Pageable pageable);
+
+  @Query(MENU_SUMMARY + BY_NAME)
+  List<PlateMenuItem> findMenuSummaryFirst(@Param("restaurantId") Long restaurantId, Limit limit);
+
+  @Query(MENU_SUMMARY + BY_CATEGORY + BY_NAME)
+  List<PlateMenuItem> findMenuSummaryByCategoryFirst(
+      @Param("restaurantId") Long restaurantId,
+      @Param("category") PlateCategory category,
+      Limit limit);
+
+  @Query(MENU_SUMMARY + AFTER + BY_NAME)
+  List<PlateMenuItem> findMenuSummaryAfter(
+      @Param("restaurantId") Long restaurantId,
+      @Param("name") String name,
+      @Param("id") Long id,
+      Limit limit);
+
+  @Query(MENU_SUMMARY + BY_CATEGORY + AFTER + BY_NAME)
+  List<PlateMenuItem> findMenuSummaryByCategoryAfter(
+      @Param("restaurantId") Long restaurantId,
+      @Param("category") PlateCategory category,
+      @Param("name") String name,
+      @Param("id") Long id,
+      Limit limit);
+
+  @Query(
+      "select p.restaurantId as restaurantId, p.category as category, count(p) as total"
+          + " from PlateEntity p where p.active = true group by p.restaurantId, p.category")
+  List<ActivePlateCountView> countActiveByRestaurantAndCategory();
 }
@@ -1,8 +1,39 @@
 package com.pragma.powerup.infrastructure.out.jpa.repository;
 
+import com.pragma.powerup.domain.model.RestaurantSummary;
 import com.pragma.powerup.infrastructure.out.jpa.entity.RestaurantEntity;
+import com.pragma.powerup.infrastructure.out.jpa.projection.RestaurantOwnerView;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface IRestaurantRepository extends JpaRepository<RestaurantEntity, Long> {
-  boolean existsByNit(String nit);
+  String SUMMARY =
+      "select new com.pragma.powerup.domain.model.RestaurantSummary(r.id, r.name, r.logoUrl)"
+          + " from RestaurantEntity r";
+
+  @Query("select r.id as id, r.ownerId as ownerId from RestaurantEntity r")
+  List<RestaurantOwnerView> findAllOwners();
+
+  @Query("select r.ownerId from RestaurantEntity r where r.id = :id")
+  Optional<Long> findOwnerIdById(@Param("id") Long id);
+
+  // Directorio: proyección id, nombre y logo, sin entidades gestionadas.
+  // Slice: lee size + 1 filas para saber si hay siguiente página, sin SELECT COUNT(*)
+  @Query(SUMMARY)
+  Slice<RestaurantSummary> findSummaries(Pageable pageable);
+
+  // Paginación por clave (name, id): el rango empieza en el índice, sin OFFSET
+  @Query(SUMMARY + " order by r.name, r.id")
+  List<RestaurantSummary> findSummariesFirst(Limit limit);
+
+  @Query(
+      SUMMARY + " where r.name >= :name and (r.name > :name or r.id > :id) order by r.name, r.id")
+  List<RestaurantSummary> findSummariesAfter(
+      @Param("name") String name, @Param("id") Long id, Limit limit);
 }
@@ -0,0 +1,86 @@
+package com.pragma.powerup.infrastructure.out.jpa.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Marks the catalog queries that may be served by a read replica.
+ *
+ * <p>Query adapters wrap their reads in {@link #onReplica}; {@link ReplicaRoutingDataSource} only
+ * sends a connection to a replica when the call is marked and the surrounding transaction is
+ * read-only. Without replicas configured the mark is ignored and everything reads the primary.
+ *
+ * <p>Read-your-writes: after a menu write commits, reads of that restaurant's menu stay on the
+ * primary for {@code readYourWritesWindow}, so the owner sees the change before replication catches
+ * up. The pin is per restaurant, not per caller: public menu reads are anonymous. A zero window
+ * disables it.
+ */
+public class CatalogReadRouting {
+
+  private static final ThreadLocal<Boolean> REPLICA_REQUESTED = new ThreadLocal<>();
+
+  private final Cache<Long, Boolean> recentWrites;
+
+  public CatalogReadRouting(Duration readYourWritesWindow) {
+    this.recentWrites =
+        readYourWritesWindow.isZero()
+            ? null
+            : Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(10_000)
+                .build();
+  }
+
+  static boolean replicaRequested() {
+    return REPLICA_REQUESTED.get() != null;
+  }
+
+  /** Runs {@code query} allowing its connection to come from a replica. */
+  public <T> T onReplica(Supplier<T> query) {
+    if (replicaRequested()) {
+      return query.get();
+    }
+    REPLICA_REQUESTED.set(Boolean.TRUE);
+    try {
+      return query.get();
+    } finally {
+      REPLICA_REQUESTED.remove();
+    }
+  }
+
+  /** Like {@link #onReplica(Supplier)} unless the restaurant's menu was written recently. */
+  public <T> T onReplica(Long restaurantId, Supplier<T> query) {
+    if (recentlyWritten(restaurantId)) {
+      return query.get();
+    }
+    return onReplica(query);
+  }
+
+  public boolean recentlyWritten(Long restaurantId) {
+    return recentWrites != null
+        && restaurantId != null
+        && recentWrites.getIfPresent(restaurantId) != null;
+  }
+
+  /** Pins the restaurant's menu reads to the primary once the current transaction commits. */
+  public void recordWrite(Long restaurantId) {
+    if (recentWrites == null || restaurantId == null) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      recentWrites.put(restaurantId, Boolean.TRUE);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            recentWrites.put(restaurantId, Boolean.TRUE);
+          }
+        });
+  }
+}
@@ -0,0 +1,193 @@
+package com.pragma.powerup.infrastructure.out.jpa.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only catalog queries to the healthy replicas (round robin) and everything else to the
+ * primary.
+ *
+ * <p>Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager asks for the connection before the read-only flag is bound, the proxy
+ * defers it to the first statement. A replica whose connection fails is taken out of rotation at
+ * once and the read falls back to the primary; a background check every {@code healthCheckInterval}
+ * brings it back. Meters: {@code catalog.datasource.replica.healthy{replica}} and {@code
+ * catalog.datasource.replica.fallbacks}.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource
+    implements SmartInitializingSingleton, DisposableBean {
+
+  public static final String PRIMARY = "primary";
+
+  /** A replica pool and its last known health. */
+  public static final class Replica {
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+
+    public Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+
+    public String name() {
+      return name;
+    }
+
+    public DataSource dataSource() {
+      return dataSource;
+    }
+
+    public boolean healthy() {
+      return healthy;
+    }
+  }
+
+  private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+  private final DataSource primary;
+  private final List<Replica> replicas;
+  private final Duration healthCheckInterval;
+  private final AtomicInteger next = new AtomicInteger();
+  private final Counter fallbacks;
+  private ScheduledExecutorService scheduler;
+
+  public ReplicaRoutingDataSource(
+      DataSource primary,
+      List<Replica> replicas,
+      Duration healthCheckInterval,
+      MeterRegistry meterRegistry) {
+    this.primary = primary;
+    this.replicas = List.copyOf(replicas);
+    this.healthCheckInterval = healthCheckInterval;
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(PRIMARY, primary);
+    for (Replica replica : this.replicas) {
+      targets.put(replica.name, replica.dataSource);
+      Gauge.builder("catalog.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+          .description("Whether the read replica is in rotation")
+          .tag("replica", replica.name)
+          .register(meterRegistry);
+    }
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    this.fallbacks =
+        Counter.builder("catalog.datasource.replica.fallbacks")
+            .description("Replica reads served by the primary because no replica was available")
+            .register(meterRegistry);
+    afterPropertiesSet();
+  }
+
+  public List<Replica> replicas() {
+    return replicas;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    Replica replica = selectReplica();
+    return replica == null ? PRIMARY : replica.name;
+  }
+
+  private Replica selectReplica() {
+    if (!CatalogReadRouting.replicaRequested()
+        || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return null;
+    }
+    int size = replicas.size();
+    int start = Math.floorMod(next.getAndIncrement(), size);
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (replica.healthy) {
+        return replica;
+      }
+    }
+    fallbacks.increment();
+    return null;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Replica replica = selectReplica();
+    if (replica == null) {
+      return primary.getConnection();
+    }
+    try {
+      return replica.dataSource.getConnection();
+    } catch (SQLException e) {
+      // Una réplica caída no debe tumbar la lectura: se saca de rotación y responde el primario
+      markDown(replica, e);
+      fallbacks.increment();
+      return primary.getConnection();
+    }
+  }
+
+  private void markDown(Replica replica, Exception cause) {
+    if (replica.healthy) {
+      log.warn("Read replica {} taken out of rotation", replica.name, cause);
+    }
+    replica.healthy = false;
+  }
+
+  /** Validates every replica; healthy ones rejoin the rotation. */
+  public void checkReplicas() {
+    for (Replica replica : replicas) {
+      try (Connection connection = replica.dataSource.getConnection()) {
+        if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+          throw new SQLException("connection is not valid");
+        }
+        if (!replica.healthy) {
+          log.info("Read replica {} back in rotation", replica.name);
+        }
+        replica.healthy = true;
+      } catch (SQLException | RuntimeException e) {
+        markDown(replica, e);
+      }
+    }
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "replica-health");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long millis = healthCheckInterval.toMillis();
+    scheduler.scheduleWithFixedDelay(this::checkReplicas, 0, millis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+    for (Replica replica : replicas) {
+      if (replica.dataSource instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+    if (primary instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.pragma.powerup.infrastructure.out.users;
 
+import com.pragma.powerup.domain.exception.DomainException;
 import com.pragma.powerup.domain.model.RoleEnum;
 import com.pragma.powerup.domain.model.UserModel;
 import com.pragma.powerup.domain.spi.IUserFeignPort;
@@ -18,6 +19,9 @@ public class UsersServiceAdapter implements IUserServicePort {
     try {
       UserModel user = userFeignPort.getUserById(userId);
       return user != null && RoleEnum.OWNER.equals(user.getRole());
+    } catch (DomainException e) {
+      // users-service caído o saturado: no es lo mismo que "no es OWNER"
+      throw e;
     } catch (Exception e) {
       return false;
     }
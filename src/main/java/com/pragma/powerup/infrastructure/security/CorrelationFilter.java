@@ -5,8 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Optional;
-import java.util.UUID;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.MDC;
 import org.springframework.core.annotation.Order;
 import org.springframework.lang.NonNull;
@@ -16,9 +15,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @Component
+@RequiredArgsConstructor
 @Order(2) // Ejecutar DESPUÉS del JwtAuthenticationFilter
 public class CorrelationFilter extends OncePerRequestFilter {
 
+  private final RequestIdGenerator requestIdGenerator;
+
   @Override
   protected void doFilterInternal(
       @NonNull HttpServletRequest request,
@@ -26,11 +28,15 @@ public class CorrelationFilter extends OncePerRequestFilter {
       @NonNull FilterChain filterChain)
       throws ServletException, IOException {
 
-    String requestId =
-        Optional.ofNullable(request.getHeader("X-Request-Id")).orElse(UUID.randomUUID().toString());
+    String requestId = request.getHeader("X-Request-Id");
+    if (requestId == null) {
+      requestId = requestIdGenerator.nextId();
+    }
 
     MDC.put("requestId", requestId);
-    extractUserIdFromJwt();
+    if (!PublicEndpoints.CATALOG_READS.matches(request)) {
+      extractUserIdFromJwt();
+    }
 
     try {
       filterChain.doFilter(request, response);
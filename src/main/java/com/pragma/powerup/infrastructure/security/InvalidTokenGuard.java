@@ -0,0 +1,146 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fast-reject stage in front of signature verification.
+ *
+ * <p>Bearer tokens are first checked structurally (three non-empty base64url segments, bounded
+ * length, JSON header) and then against a short-lived negative cache of recently rejected token
+ * digests, so junk traffic is refused without crypto and without building exceptions. Rejections
+ * are logged at most once per client and window, together with the number suppressed meanwhile.
+ */
+@Component
+@Slf4j
+public class InvalidTokenGuard {
+
+  static final String CACHE_NAME = "jwt.rejected";
+
+  // Base64url de '{"': toda cabecera JOSE serializada empieza así
+  private static final String JSON_HEADER_PREFIX = "eyJ";
+
+  public enum Reason {
+    MALFORMED,
+    RECENTLY_REJECTED,
+    INVALID
+  }
+
+  private final int maxTokenLength;
+  private final Duration logWindow;
+  private final Cache<String, Boolean> rejected;
+  private final Cache<String, AtomicLong> suppressedByClient;
+  private final Map<Reason, Counter> rejections = new EnumMap<>(Reason.class);
+
+  public InvalidTokenGuard(
+      MeterRegistry meterRegistry,
+      @Value("${jwt.reject.max-token-length:8192}") int maxTokenLength,
+      @Value("${jwt.reject.cache.maximum-size:10000}") long maximumSize,
+      @Value("${jwt.reject.cache.ttl:1m}") Duration ttl,
+      @Value("${jwt.reject.log-window:1m}") Duration logWindow) {
+    this.maxTokenLength = maxTokenLength;
+    this.logWindow = logWindow;
+    this.rejected =
+        Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+    this.suppressedByClient =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(logWindow)
+            .<String, AtomicLong>removalListener(
+                (clientId, suppressed, cause) -> {
+                  if (suppressed != null && suppressed.get() > 0) {
+                    log.info(
+                        "Rejected {} more JWTs from client {} in the last {}",
+                        suppressed.get(),
+                        clientId,
+                        logWindow);
+                  }
+                })
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, rejected, CACHE_NAME);
+    for (Reason reason : Reason.values()) {
+      rejections.put(
+          reason,
+          Counter.builder("jwt.rejections")
+              .description("Bearer tokens refused before or during verification")
+              .tag("reason", reason.name().toLowerCase())
+              .register(meterRegistry));
+    }
+  }
+
+  /** Structural check that runs before any hashing or signature verification. */
+  public boolean isWellFormed(String token) {
+    int length = token.length();
+    if (length == 0 || length > maxTokenLength || !token.startsWith(JSON_HEADER_PREFIX)) {
+      return false;
+    }
+    int dots = 0;
+    int segmentLength = 0;
+    for (int i = 0; i < length; i++) {
+      char c = token.charAt(i);
+      if (c == '.') {
+        if (segmentLength == 0 || ++dots > 2) {
+          return false;
+        }
+        segmentLength = 0;
+      } else if (isBase64Url(c)) {
+        segmentLength++;
+      } else {
+        return false;
+      }
+    }
+    return dots == 2 && segmentLength > 0;
+  }
+
+  /** Whether the same token failed verification within {@code jwt.reject.cache.ttl}. */
+  public boolean wasRecentlyRejected(String token) {
+    return rejected.getIfPresent(TokenDigest.of(token)) != null;
+  }
+
+  /** Remember a token that failed verification so it is refused cheaply next time. */
+  public void rejectInvalid(String token, String clientId, String detail) {
+    rejected.put(TokenDigest.of(token), Boolean.TRUE);
+    record(Reason.INVALID, clientId, detail);
+  }
+
+  /** Count and log, rate limited per client, a refused token. */
+  public void record(Reason reason, String clientId, String detail) {
+    rejections.get(reason).increment();
+
+    AtomicLong suppressed = suppressedByClient.getIfPresent(clientId);
+    if (suppressed != null) {
+      suppressed.incrementAndGet();
+      return;
+    }
+    AtomicLong concurrent = suppressedByClient.asMap().putIfAbsent(clientId, new AtomicLong());
+    if (concurrent != null) {
+      concurrent.incrementAndGet();
+      return;
+    }
+    log.info(
+        "Rejected JWT from client {} ({}: {}); further rejections from this client are summarized"
+            + " every {}",
+        clientId,
+        reason,
+        detail,
+        logWindow);
+  }
+
+  private static boolean isBase64Url(char c) {
+    return (c >= 'A' && c <= 'Z')
+        || (c >= 'a' && c <= 'z')
+        || (c >= '0' && c <= '9')
+        || c == '-'
+        || c == '_';
+  }
+}
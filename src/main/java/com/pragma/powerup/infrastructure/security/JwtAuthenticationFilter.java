@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +25,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtValidator jwtValidator;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final InvalidTokenGuard invalidTokenGuard;
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return PublicEndpoints.CATALOG_READS.matches(request);
+  }
 
   @Override
   protected void doFilterInternal(
@@ -41,35 +49,54 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     String token = header.substring(7);
 
-    try {
-      if (jwtValidator.isValid(token)) {
-        String userId = jwtValidator.extractUserId(token);
-        String email = jwtValidator.extractEmail(token);
-        String role = jwtValidator.extractRole(token);
-
-        log.info("JWT processing - Email: {}, Role: {}, UserId: {}", email, role, userId);
-
-        if (email != null && role != null) {
-          UsernamePasswordAuthenticationToken auth =
-              new UsernamePasswordAuthenticationToken(
-                  email,
-                  null,
-                  Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
-
-          log.info("Created authentication with authorities: {}", auth.getAuthorities());
-
-          // Agregar información adicional al contexto
-          auth.setDetails(new AuthDetails(userId, email, role));
-          SecurityContextHolder.getContext().setAuthentication(auth);
-        } else {
-          log.info("Email or role is null - Email: {}, Role: {}", email, role);
-        }
-      } else {
-        log.info("JWT token validation failed");
-      }
-    } catch (Exception e) {
-      log.info("Invalid JWT token: {}", e.getMessage());
+    if (!invalidTokenGuard.isWellFormed(token)) {
+      invalidTokenGuard.record(
+          InvalidTokenGuard.Reason.MALFORMED, request.getRemoteAddr(), "not a compact JWS");
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    UsernamePasswordAuthenticationToken cached = verifiedTokenCache.get(token);
+    if (cached != null) {
+      SecurityContextHolder.getContext().setAuthentication(cached);
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    if (invalidTokenGuard.wasRecentlyRejected(token)) {
+      invalidTokenGuard.record(
+          InvalidTokenGuard.Reason.RECENTLY_REJECTED, request.getRemoteAddr(), "negative cache");
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    // Sin excepciones para tokens falsificados: el rechazo llega como resultado
+    JwtValidator.Verification verification = jwtValidator.check(token);
+    if (!verification.isVerified()) {
+      invalidTokenGuard.rejectInvalid(token, request.getRemoteAddr(), verification.failure());
       SecurityContextHolder.clearContext();
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    JwtPrincipal principal = verification.principal();
+    String email = principal.email();
+    String role = principal.role();
+
+    // Sin email en el log: solo el id del usuario, y en DEBUG
+    log.debug("JWT verified - UserId: {}, Role: {}", principal.userId(), role);
+
+    if (email != null && role != null) {
+      UsernamePasswordAuthenticationToken auth =
+          new UsernamePasswordAuthenticationToken(
+              email, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
+
+      // Agregar información adicional al contexto
+      auth.setDetails(new AuthDetails(principal));
+      SecurityContextHolder.getContext().setAuthentication(auth);
+      verifiedTokenCache.put(token, auth);
+    } else {
+      invalidTokenGuard.rejectInvalid(token, request.getRemoteAddr(), "email or role is null");
     }
 
     filterChain.doFilter(request, response);
@@ -79,11 +106,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final String userId;
     private final String email;
     private final String role;
+    private final Instant expiresAt;
 
     public AuthDetails(String userId, String email, String role) {
+      this(userId, email, role, null);
+    }
+
+    public AuthDetails(JwtPrincipal principal) {
+      this(principal.userId(), principal.email(), principal.role(), principal.expiresAt());
+    }
+
+    private AuthDetails(String userId, String email, String role, Instant expiresAt) {
       this.userId = userId;
       this.email = email;
       this.role = role;
+      this.expiresAt = expiresAt;
     }
 
     public String getUserId() {
@@ -97,5 +134,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public String getRole() {
       return role;
     }
+
+    public Instant getExpiresAt() {
+      return expiresAt;
+    }
   }
 }
@@ -0,0 +1,13 @@
+package com.pragma.powerup.infrastructure.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of a verified JWT, extracted once per token.
+ *
+ * @param userId value of the {@code userId} claim, may be null
+ * @param email token subject
+ * @param role first entry of {@code roles} or the singular {@code role} claim
+ * @param expiresAt {@code exp} claim, null when the token does not expire
+ */
+public record JwtPrincipal(String userId, String email, String role, Instant expiresAt) {}
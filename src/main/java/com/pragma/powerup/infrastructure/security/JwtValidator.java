@@ -1,22 +1,157 @@
 package com.pragma.powerup.infrastructure.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtValidator {
 
-  @Value("${jwt.secret}")
-  private String secretKey;
+  private static final Pattern ALG = Pattern.compile("\"alg\"\\s*:\\s*\"([^\"]+)\"");
+
+  /** Outcome of {@link #check}: the principal of a valid token, or why it was refused. */
+  public record Verification(JwtPrincipal principal, String failure) {
+
+    static Verification verified(JwtPrincipal principal) {
+      return new Verification(principal, null);
+    }
+
+    static Verification rejected(String failure) {
+      return new Verification(null, failure);
+    }
+
+    public boolean isVerified() {
+      return principal != null;
+    }
+  }
+
+  // Key and parser are immutable and thread-safe: build them once instead of per token
+  private final JwtParser parser;
+  private final byte[] keyBytes;
+  // Mac no es thread-safe: una instancia por hilo y algoritmo
+  private final Map<String, ThreadLocal<Mac>> macs;
+
+  public JwtValidator(@Value("${jwt.secret}") String secretKey) {
+    this.keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
+    SecretKey key = Keys.hmacShaKeyFor(keyBytes);
+    this.parser = Jwts.parser().verifyWith(key).build();
+    this.macs =
+        Map.of(
+            "HS256", ThreadLocal.withInitial(() -> mac("HmacSHA256")),
+            "HS384", ThreadLocal.withInitial(() -> mac("HmacSHA384")),
+            "HS512", ThreadLocal.withInitial(() -> mac("HmacSHA512")));
+  }
+
+  private Mac mac(String algorithm) {
+    try {
+      Mac mac = Mac.getInstance(algorithm);
+      mac.init(new SecretKeySpec(keyBytes, algorithm));
+      return mac;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HMAC not available: " + algorithm, e);
+    }
+  }
 
   public Claims validateAndExtractClaims(String token) {
-    SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-    return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    return parser.parseSignedClaims(token).getPayload();
+  }
+
+  /**
+   * Verify the token signature once and extract every claim the service needs.
+   *
+   * @param token compact JWS without the {@code Bearer } prefix
+   * @return the typed principal carried by the token
+   * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+   */
+  public JwtPrincipal verify(String token) {
+    Claims claims = validateAndExtractClaims(token);
+    Date expiration = claims.getExpiration();
+    return new JwtPrincipal(
+        userIdOf(claims),
+        claims.getSubject(),
+        roleOf(claims),
+        expiration != null ? expiration.toInstant() : null);
+  }
+
+  /**
+   * Like {@link #verify} but never throws: the HMAC signature is compared first without the JWT
+   * library, so forged or tampered tokens are refused without building an exception (and its stack
+   * trace). Only correctly signed tokens reach the parser, which still checks expiry and key
+   * strength.
+   *
+   * @param token compact JWS without the {@code Bearer } prefix
+   */
+  public Verification check(String token) {
+    String failure = signatureFailure(token);
+    if (failure != null) {
+      return Verification.rejected(failure);
+    }
+    try {
+      return Verification.verified(verify(token));
+    } catch (JwtException | IllegalArgumentException e) {
+      return Verification.rejected(e.getClass().getSimpleName());
+    }
+  }
+
+  private String signatureFailure(String token) {
+    int firstDot = token.indexOf('.');
+    int lastDot = token.lastIndexOf('.');
+    if (firstDot <= 0 || lastDot == firstDot || lastDot == token.length() - 1) {
+      return "malformed token";
+    }
+    String header = decodeSegment(token.substring(0, firstDot));
+    if (header == null) {
+      return "malformed header";
+    }
+    Matcher alg = ALG.matcher(header);
+    ThreadLocal<Mac> mac = alg.find() ? macs.get(alg.group(1)) : null;
+    if (mac == null) {
+      return "unsupported algorithm";
+    }
+    byte[] expected =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encode(
+                mac.get().doFinal(token.substring(0, lastDot).getBytes(StandardCharsets.US_ASCII)));
+    byte[] actual = token.substring(lastDot + 1).getBytes(StandardCharsets.US_ASCII);
+    return MessageDigest.isEqual(expected, actual) ? null : "signature mismatch";
+  }
+
+  // null en lugar de la excepción del decodificador: longitud imposible o caracteres fuera de
+  // base64url
+  private static String decodeSegment(String segment) {
+    if (segment.length() % 4 == 1) {
+      return null;
+    }
+    for (int i = 0; i < segment.length(); i++) {
+      char c = segment.charAt(i);
+      boolean base64Url =
+          (c >= 'A' && c <= 'Z')
+              || (c >= 'a' && c <= 'z')
+              || (c >= '0' && c <= '9')
+              || c == '-'
+              || c == '_';
+      if (!base64Url) {
+        return null;
+      }
+    }
+    return new String(Base64.getUrlDecoder().decode(segment), StandardCharsets.UTF_8);
   }
 
   public boolean isValid(String token) {
@@ -29,9 +164,7 @@ public class JwtValidator {
   }
 
   public String extractUserId(String token) {
-    Claims claims = validateAndExtractClaims(token);
-    Object userIdClaim = claims.get("userId");
-    return userIdClaim != null ? userIdClaim.toString() : null;
+    return userIdOf(validateAndExtractClaims(token));
   }
 
   public String extractEmail(String token) {
@@ -40,14 +173,19 @@ public class JwtValidator {
   }
 
   public String extractRole(String token) {
-    Claims claims = validateAndExtractClaims(token);
+    return roleOf(validateAndExtractClaims(token));
+  }
+
+  private static String userIdOf(Claims claims) {
+    Object userIdClaim = claims.get("userId");
+    return userIdClaim != null ? userIdClaim.toString() : null;
+  }
 
+  private static String roleOf(Claims claims) {
     // Intentar primero "roles" (array) y luego "role" (string) para compatibilidad
     Object rolesObj = claims.get("roles");
-    if (rolesObj instanceof java.util.List) {
-      @SuppressWarnings("unchecked")
-      java.util.List<String> rolesList = (java.util.List<String>) rolesObj;
-      return rolesList.isEmpty() ? null : rolesList.get(0);
+    if (rolesObj instanceof List<?> rolesList) {
+      return rolesList.isEmpty() ? null : String.valueOf(rolesList.get(0));
     }
 
     // Fallback a formato singular
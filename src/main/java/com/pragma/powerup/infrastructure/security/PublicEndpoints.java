@@ -0,0 +1,21 @@
+package com.pragma.powerup.infrastructure.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/** Request matchers shared by the security chains and the JWT/correlation filters. */
+public final class PublicEndpoints {
+
+  /**
+   * Anonymous catalog reads. Any bearer header sent to these paths is ignored: no verification, no
+   * SecurityContext, no authorities.
+   */
+  public static final RequestMatcher CATALOG_READS =
+      new OrRequestMatcher(
+          AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/restaurants"),
+          AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/plates/restaurant/**"));
+
+  private PublicEndpoints() {}
+}
@@ -0,0 +1,27 @@
+package com.pragma.powerup.infrastructure.security;
+
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RequestIdConfiguration {
+
+  /**
+   * {@code correlation.request-id.strategy}: {@code trace} (default) reuses the active trace id and
+   * falls back to a ULID; {@code ulid} always generates a ULID.
+   */
+  @Bean
+  public RequestIdGenerator requestIdGenerator(
+      @Value("${correlation.request-id.strategy:trace}") String strategy,
+      ObjectProvider<Tracer> tracer) {
+    RequestIdGenerator ulid = new UlidRequestIdGenerator();
+    Tracer activeTracer = tracer.getIfAvailable();
+    if ("trace".equalsIgnoreCase(strategy) && activeTracer != null) {
+      return new TraceIdRequestIdGenerator(activeTracer, ulid);
+    }
+    return ulid;
+  }
+}
@@ -0,0 +1,7 @@
+package com.pragma.powerup.infrastructure.security;
+
+/** Source of {@code requestId} values for requests that arrive without {@code X-Request-Id}. */
+@FunctionalInterface
+public interface RequestIdGenerator {
+  String nextId();
+}
@@ -2,6 +2,7 @@ package com.pragma.powerup.infrastructure.security;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -15,7 +16,24 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity()
 public class SecurityConfiguration {
 
+  /**
+   * Public catalog GETs get their own minimal chain: no JWT filter, no anonymous authentication and
+   * no SecurityContext persistence, so anonymous browsing pays nothing for security.
+   */
   @Bean
+  @Order(1)
+  public SecurityFilterChain publicCatalogFilterChain(HttpSecurity http) throws Exception {
+    return http.securityMatcher(PublicEndpoints.CATALOG_READS)
+        .csrf(AbstractHttpConfigurer::disable)
+        .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .requestCache(AbstractHttpConfigurer::disable)
+        .anonymous(AbstractHttpConfigurer::disable)
+        .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+        .build();
+  }
+
+  @Bean
+  @Order(2)
   public SecurityFilterChain securityFilterChain(
       HttpSecurity http, JwtAuthenticationFilter jwtFilter) throws Exception {
     return http.csrf(AbstractHttpConfigurer::disable)
@@ -0,0 +1,24 @@
+package com.pragma.powerup.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/** SHA-256 digest of a bearer token, used as cache key so raw tokens are never kept in memory. */
+final class TokenDigest {
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private TokenDigest() {}
+
+  static String of(String token) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      return ENCODER.encodeToString(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is mandatory on every Java platform
+      throw new IllegalStateException(e);
+    }
+  }
+}
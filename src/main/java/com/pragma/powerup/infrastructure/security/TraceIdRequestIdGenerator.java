@@ -0,0 +1,31 @@
+package com.pragma.powerup.infrastructure.security;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/**
+ * Reuses the trace id of the active span as request id, so logs carry one id per request instead of
+ * a trace id plus an unrelated request id. Falls back to {@code fallback} when no span is active.
+ */
+public class TraceIdRequestIdGenerator implements RequestIdGenerator {
+
+  private final Tracer tracer;
+  private final RequestIdGenerator fallback;
+
+  public TraceIdRequestIdGenerator(Tracer tracer, RequestIdGenerator fallback) {
+    this.tracer = tracer;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public String nextId() {
+    Span span = tracer.currentSpan();
+    if (span != null) {
+      String traceId = span.context().traceId();
+      if (traceId != null && !traceId.isEmpty()) {
+        return traceId;
+      }
+    }
+    return fallback.nextId();
+  }
+}
@@ -0,0 +1,41 @@
+package com.pragma.powerup.infrastructure.security;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ULID-style ids: 48-bit millisecond timestamp followed by 80 random bits, encoded as 26 Crockford
+ * base32 characters so they sort lexicographically by creation time.
+ *
+ * <p>Randomness comes from {@link ThreadLocalRandom}, which keeps per-thread state and never
+ * contends, unlike the shared {@code SecureRandom} behind {@code UUID.randomUUID()}. Request ids
+ * are correlation keys, not secrets, so a non-cryptographic source is enough.
+ */
+public class UlidRequestIdGenerator implements RequestIdGenerator {
+
+  private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+  @Override
+  public String nextId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return encode(System.currentTimeMillis(), random.nextLong(), random.nextInt());
+  }
+
+  static String encode(long timestampMillis, long randomHigh, int randomLow) {
+    char[] out = new char[26];
+    // 10 caracteres para los 48 bits de tiempo (50 bits, los 2 más altos a cero)
+    for (int i = 9; i >= 0; i--) {
+      out[i] = CROCKFORD[(int) (timestampMillis & 0x1F)];
+      timestampMillis >>>= 5;
+    }
+    // 16 caracteres para los 80 bits aleatorios: 60 de randomHigh + 20 de randomLow
+    for (int i = 10; i < 22; i++) {
+      out[i] = CROCKFORD[(int) (randomHigh & 0x1F)];
+      randomHigh >>>= 5;
+    }
+    for (int i = 22; i < 26; i++) {
+      out[i] = CROCKFORD[randomLow & 0x1F];
+      randomLow >>>= 5;
+    }
+    return new String(out);
+  }
+}
@@ -0,0 +1,93 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of already verified bearer tokens, keyed by the token SHA-256 digest.
+ *
+ * <p>Each entry holds the authentication built for the token (principal, authorities and {@link
+ * JwtAuthenticationFilter.AuthDetails}) and expires when the token {@code exp} passes, capped by
+ * {@code jwt.cache.max-ttl}. Hits, misses and evictions are published as {@code cache.*} meters
+ * tagged {@code cache=jwt.verified}.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  static final String CACHE_NAME = "jwt.verified";
+
+  private final Cache<String, UsernamePasswordAuthenticationToken> cache;
+
+  public VerifiedTokenCache(
+      MeterRegistry meterRegistry,
+      @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+      @Value("${jwt.cache.max-ttl:15m}") Duration maxTtl) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new UntilTokenExpiry(maxTtl))
+            // Maintenance is cheap here: run it on the caller so expired tokens leave promptly
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * @return the cached authentication for the token, or null when it was never verified or expired
+   */
+  public UsernamePasswordAuthenticationToken get(String token) {
+    return cache.getIfPresent(TokenDigest.of(token));
+  }
+
+  public void put(String token, UsernamePasswordAuthenticationToken authentication) {
+    if (authentication.getDetails() instanceof JwtAuthenticationFilter.AuthDetails details
+        && details.getExpiresAt() != null
+        && !details.getExpiresAt().isAfter(Instant.now())) {
+      return;
+    }
+    cache.put(TokenDigest.of(token), authentication);
+  }
+
+  private record UntilTokenExpiry(Duration maxTtl)
+      implements Expiry<String, UsernamePasswordAuthenticationToken> {
+
+    @Override
+    public long expireAfterCreate(
+        String key, UsernamePasswordAuthenticationToken value, long currentTime) {
+      long maxNanos = maxTtl.toNanos();
+      if (value.getDetails() instanceof JwtAuthenticationFilter.AuthDetails details
+          && details.getExpiresAt() != null) {
+        long untilExpiry = Duration.between(Instant.now(), details.getExpiresAt()).toNanos();
+        return Math.max(0, Math.min(untilExpiry, maxNanos));
+      }
+      return maxNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key,
+        UsernamePasswordAuthenticationToken value,
+        long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key,
+        UsernamePasswordAuthenticationToken value,
+        long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
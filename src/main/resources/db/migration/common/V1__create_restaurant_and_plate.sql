@@ -0,0 +1,22 @@
+-- Esquema base: mismas columnas que RestaurantEntity y PlateEntity (antes creadas por ddl-auto)
+CREATE TABLE IF NOT EXISTS restaurant (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name     VARCHAR(100) NOT NULL,
+    nit      VARCHAR(20)  NOT NULL,
+    address  VARCHAR(200) NOT NULL,
+    phone    VARCHAR(13)  NOT NULL,
+    logo_url VARCHAR(255) NOT NULL,
+    owner_id BIGINT       NOT NULL,
+    CONSTRAINT uk_restaurant_nit UNIQUE (nit)
+);
+
+CREATE TABLE IF NOT EXISTS plate (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          VARCHAR(100)  NOT NULL,
+    price         INTEGER       NOT NULL,
+    description   VARCHAR(1000) NOT NULL,
+    image_url     VARCHAR(255)  NOT NULL,
+    category      VARCHAR(20)   NOT NULL,
+    active        BOOLEAN       NOT NULL,
+    restaurant_id BIGINT        NOT NULL
+);
@@ -0,0 +1,3 @@
+-- Nombre de plato único por restaurante: la base de datos detecta el duplicado en el mismo INSERT.
+-- Si ya hay duplicados la migración falla y deben renombrarse antes de aplicarla.
+ALTER TABLE plate ADD CONSTRAINT uk_plate_restaurant_name UNIQUE (restaurant_id, name);
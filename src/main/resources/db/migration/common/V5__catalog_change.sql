@@ -0,0 +1,13 @@
+-- Cambios del catálogo publicados por cada instancia para invalidar las cachés de las demás.
+-- origin: instancia que escribió (no se reaplica a sí misma); published_at: reloj de la aplicación
+-- en milisegundos, para medir la latencia de propagación. Las filas se purgan tras la retención.
+CREATE TABLE catalog_change (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    kind VARCHAR(20) NOT NULL,
+    restaurant_id BIGINT NOT NULL,
+    origin VARCHAR(36) NOT NULL,
+    published_at BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP
+);
+
+CREATE INDEX idx_catalog_change_created_at ON catalog_change (created_at);
@@ -0,0 +1,14 @@
+-- Versiones del catálogo para los ETag: suben en la misma transacción que la escritura, y el bloqueo
+-- de la fila hace que sigan el orden de commit. catalog_version cubre el restaurante y su menú;
+-- catalog_directory.version, el listado de restaurantes. catalog_change las lleva a las demás instancias.
+ALTER TABLE restaurant ADD COLUMN catalog_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE catalog_directory (
+    id      INTEGER PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+INSERT INTO catalog_directory (id, version) VALUES (1, 0);
+
+-- directory_version = 0: el cambio no afecta al listado
+ALTER TABLE catalog_change ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE catalog_change ADD COLUMN directory_version BIGINT NOT NULL DEFAULT 0;
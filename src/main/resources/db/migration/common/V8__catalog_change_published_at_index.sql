@@ -0,0 +1,6 @@
+-- El sondeo sigue el id y la purga la antigüedad de published_at: created_at ya no se consulta
+-- ni se escribe, así que se retiran la columna y su índice.
+DROP INDEX idx_catalog_change_created_at;
+ALTER TABLE catalog_change DROP COLUMN created_at;
+
+CREATE INDEX idx_catalog_change_published_at ON catalog_change (published_at);
@@ -0,0 +1,8 @@
+-- H2 no soporta índices parciales ni INCLUDE: mismas claves que en PostgreSQL, con active como prefijo
+CREATE INDEX IF NOT EXISTS ix_plate_menu_category ON plate (restaurant_id, active, category, name, id);
+
+CREATE INDEX IF NOT EXISTS ix_plate_menu ON plate (restaurant_id, active, name, id);
+
+CREATE INDEX IF NOT EXISTS ix_restaurant_name ON restaurant (name, id, logo_url);
+
+CREATE INDEX IF NOT EXISTS ix_restaurant_owner ON restaurant (owner_id);
@@ -0,0 +1,9 @@
+-- Mismas secuencias que en PostgreSQL (INCREMENT BY = allocationSize). H2 no admite subconsultas en
+-- START WITH: se asume la base vacía de pruebas y el primer bloque del optimizador pooled es 1..50.
+CREATE SEQUENCE IF NOT EXISTS restaurant_seq START WITH 50 INCREMENT BY 50;
+ALTER TABLE restaurant ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE restaurant ALTER COLUMN id SET DEFAULT NEXT VALUE FOR restaurant_seq;
+
+CREATE SEQUENCE IF NOT EXISTS plate_seq START WITH 50 INCREMENT BY 50;
+ALTER TABLE plate ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE plate ALTER COLUMN id SET DEFAULT NEXT VALUE FOR plate_seq;
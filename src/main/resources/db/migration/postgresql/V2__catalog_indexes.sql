@@ -0,0 +1,17 @@
+-- Menú por categoría: WHERE restaurant_id = ? AND active AND category = ? ORDER BY name
+CREATE INDEX IF NOT EXISTS ix_plate_menu_category
+    ON plate (restaurant_id, category, name, id) INCLUDE (price, image_url)
+    WHERE active;
+
+-- Menú completo: WHERE restaurant_id = ? AND active ORDER BY name
+CREATE INDEX IF NOT EXISTS ix_plate_menu
+    ON plate (restaurant_id, name, id) INCLUDE (price, image_url, category)
+    WHERE active;
+
+-- Directorio: ORDER BY name; cubre las columnas del listado (index-only scan)
+CREATE INDEX IF NOT EXISTS ix_restaurant_name
+    ON restaurant (name, id) INCLUDE (logo_url);
+
+-- Índice de propiedad (carga del índice en memoria y consultas por dueño)
+CREATE INDEX IF NOT EXISTS ix_restaurant_owner
+    ON restaurant (owner_id);
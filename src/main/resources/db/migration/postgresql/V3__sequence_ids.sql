@@ -0,0 +1,16 @@
+-- Ids por secuencia (optimizador pooled de Hibernate, allocationSize = 50): con IDENTITY cada INSERT
+-- debía ejecutarse al momento para leer el id generado y no podía agruparse en lotes JDBC.
+-- El INCREMENT BY debe coincidir con allocationSize; Hibernate lo comprueba al arrancar.
+-- setval deja el siguiente bloque por encima de los ids existentes.
+CREATE SEQUENCE IF NOT EXISTS restaurant_seq INCREMENT BY 50;
+SELECT setval('restaurant_seq', COALESCE((SELECT MAX(id) FROM restaurant), 0) + 50);
+ALTER TABLE restaurant ALTER COLUMN id DROP IDENTITY IF EXISTS;
+-- Los INSERT fuera de Hibernate toman el valor alto de un bloque que Hibernate ya no usará
+ALTER TABLE restaurant ALTER COLUMN id SET DEFAULT nextval('restaurant_seq');
+ALTER SEQUENCE restaurant_seq OWNED BY restaurant.id;
+
+CREATE SEQUENCE IF NOT EXISTS plate_seq INCREMENT BY 50;
+SELECT setval('plate_seq', COALESCE((SELECT MAX(id) FROM plate), 0) + 50);
+ALTER TABLE plate ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE plate ALTER COLUMN id SET DEFAULT nextval('plate_seq');
+ALTER SEQUENCE plate_seq OWNED BY plate.id;
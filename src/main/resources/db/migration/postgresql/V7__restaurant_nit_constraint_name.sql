@@ -0,0 +1,28 @@
+-- Bases creadas antes con ddl-auto y marcadas en V1: V1 no se ejecutó y la unicidad del NIT conserva
+-- el nombre que generó Hibernate (UK...). UniqueConstraints busca uk_restaurant_nit, así que un NIT
+-- repetido terminaba en 500 en lugar de 409. Se renombra (o se crea si falta); en bases creadas por V1
+-- no cambia nada.
+DO $$
+DECLARE
+    generated_name TEXT;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_constraint
+               WHERE conrelid = 'restaurant'::regclass AND conname = 'uk_restaurant_nit') THEN
+        RETURN;
+    END IF;
+
+    SELECT c.conname INTO generated_name
+      FROM pg_constraint c
+      JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+     WHERE c.conrelid = 'restaurant'::regclass
+       AND c.contype = 'u'
+       AND array_length(c.conkey, 1) = 1
+       AND a.attname = 'nit'
+     LIMIT 1;
+
+    IF generated_name IS NOT NULL THEN
+        EXECUTE format('ALTER TABLE restaurant RENAME CONSTRAINT %I TO uk_restaurant_nit', generated_name);
+    ELSE
+        ALTER TABLE restaurant ADD CONSTRAINT uk_restaurant_nit UNIQUE (nit);
+    END IF;
+END $$;
@@ -4,12 +4,15 @@ import com.pragma.powerup.application.dto.request.PlateCreateRequestDto;
 import com.pragma.powerup.application.dto.request.PlateStatusUpdateRequestDto;
 import com.pragma.powerup.application.dto.request.PlateUpdateRequestDto;
 import com.pragma.powerup.application.dto.request.RestaurantCreateRequestDto;
+import com.pragma.powerup.application.dto.response.PlateMenuItemDto;
 import com.pragma.powerup.application.dto.response.PlateResponseDto;
 import com.pragma.powerup.application.dto.response.RestaurantListItemDto;
 import com.pragma.powerup.application.dto.response.RestaurantResponseDto;
 import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateMenuItem;
 import com.pragma.powerup.domain.model.PlateModel;
 import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.model.RestaurantSummary;
 
 import java.util.List;
 
@@ -92,6 +95,28 @@ public class TestDataFactory {
                         "https://images.example.com/tiramisu.jpg", PlateCategory.POSTRE, true, 1L));
     }
 
+    /**
+     * Crea las filas del directorio de restaurantes (proyección RestaurantSummary).
+     */
+    public static List<RestaurantSummary> createRestaurantSummaries() {
+        return List.of(
+                new RestaurantSummary(1L, "Pizza Palace", "https://logo.example.com/pizza.png"),
+                new RestaurantSummary(2L, "Burger House", "https://logo.example.com/burger.png"));
+    }
+
+    /**
+     * Crea las filas del menú equivalentes a createPlateModelList (proyección PlateMenuItem).
+     */
+    public static List<PlateMenuItem> createPlateMenuItemList() {
+        return List.of(
+                new PlateMenuItem(1L, "Caesar Salad", 8000, "Fresh lettuce with Caesar dressing",
+                        "https://images.example.com/caesar.jpg", PlateCategory.ENTRADA, true, 1L),
+                new PlateMenuItem(2L, "Margherita Pizza", 15000, "Classic pizza with tomato sauce",
+                        "https://images.example.com/margherita.jpg", PlateCategory.PRINCIPAL, true, 1L),
+                new PlateMenuItem(3L, "Tiramisu", 6000, "Traditional Italian dessert",
+                        "https://images.example.com/tiramisu.jpg", PlateCategory.POSTRE, true, 1L));
+    }
+
     // ==================== REQUEST DTOs ====================
 
     /**
@@ -266,6 +291,27 @@ public class TestDataFactory {
         return List.of(dto1, dto2);
     }
 
+    /**
+     * Crea múltiples PlateMenuItemDto para pruebas de listado del menú.
+     */
+    public static List<PlateMenuItemDto> createPlateMenuItemDtoList() {
+        PlateMenuItemDto dto1 = new PlateMenuItemDto();
+        dto1.setId(1L);
+        dto1.setName("Caesar Salad");
+        dto1.setPrice(8000);
+        dto1.setImageUrl("https://images.example.com/caesar.jpg");
+        dto1.setCategory(PlateCategory.ENTRADA);
+
+        PlateMenuItemDto dto2 = new PlateMenuItemDto();
+        dto2.setId(2L);
+        dto2.setName("Margherita Pizza");
+        dto2.setPrice(15000);
+        dto2.setImageUrl("https://images.example.com/margherita.jpg");
+        dto2.setCategory(PlateCategory.PRINCIPAL);
+
+        return List.of(dto1, dto2);
+    }
+
     // ==================== UTILITY METHODS ====================
 
     /**
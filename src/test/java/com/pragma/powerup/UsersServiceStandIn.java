@@ -0,0 +1,133 @@
+package com.pragma.powerup;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stand-in local de users-service para tests de integración.
+ * Responde GET /api/v1/users/{id} y /api/v1/users/{id}/active, y permite inyectar latencia y
+ * códigos de error para simular un servicio degradado.
+ */
+public class UsersServiceStandIn implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger gzippedResponses = new AtomicInteger();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile int failureStatus;
+    private volatile String role = "OWNER";
+
+    private UsersServiceStandIn() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/users/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    public static UsersServiceStandIn start() {
+        try {
+            UsersServiceStandIn standIn = new UsersServiceStandIn();
+            standIn.server.start();
+            return standIn;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start users-service stand-in", e);
+        }
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /** Retrasa cada respuesta. */
+    public UsersServiceStandIn withLatency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /** Responde todas las peticiones con el código indicado. */
+    public UsersServiceStandIn failingWith(int status) {
+        this.failureStatus = status;
+        return this;
+    }
+
+    public UsersServiceStandIn withRole(String role) {
+        this.role = role;
+        return this;
+    }
+
+    /** Vuelve a un servicio sano y sin latencia, y pone los contadores a cero. */
+    public void reset() {
+        latency = Duration.ZERO;
+        failureStatus = 0;
+        role = "OWNER";
+        requests.set(0);
+        gzippedResponses.set(0);
+    }
+
+    public int requests() {
+        return requests.get();
+    }
+
+    public int gzippedResponses() {
+        return gzippedResponses.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+            if (failureStatus != 0) {
+                exchange.sendResponseHeaders(failureStatus, -1);
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            String body = path.endsWith("/active") ? "true" : user(path.substring(path.lastIndexOf('/') + 1));
+            send(exchange, body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String user(String id) {
+        return "{\"id\":" + id + ",\"email\":\"user" + id + "@example.com\",\"role\":\"" + role
+                + "\",\"active\":true}";
+    }
+
+    private void send(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            gzippedResponses.incrementAndGet();
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -11,15 +11,20 @@ import com.pragma.powerup.TestDataFactory;
 import com.pragma.powerup.application.dto.request.PlateCreateRequestDto;
 import com.pragma.powerup.application.dto.request.PlateStatusUpdateRequestDto;
 import com.pragma.powerup.application.dto.request.PlateUpdateRequestDto;
+import com.pragma.powerup.application.dto.response.PlateMenuItemDto;
 import com.pragma.powerup.application.dto.response.PlateResponseDto;
 import com.pragma.powerup.application.handler.impl.PlateHandler;
+import com.pragma.powerup.application.mapper.IPlateMenuItemMapper;
 import com.pragma.powerup.application.mapper.IPlateRequestMapper;
 import com.pragma.powerup.application.mapper.IPlateResponseMapper;
 import com.pragma.powerup.domain.api.IPlateQueryServicePort;
 import com.pragma.powerup.domain.api.IPlateServicePort;
 import com.pragma.powerup.domain.exception.DomainException;
 import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateMenuItem;
+import com.pragma.powerup.domain.model.PlateMenuView;
 import com.pragma.powerup.domain.model.PlateModel;
+import com.pragma.powerup.domain.model.SliceModel;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,6 +41,7 @@ class PlateHandlerTest {
     private IPlateQueryServicePort plateQueryServicePort;
     private IPlateRequestMapper requestMapper;
     private IPlateResponseMapper responseMapper;
+    private IPlateMenuItemMapper menuItemMapper;
     private PlateHandler plateHandler;
 
     @BeforeEach
@@ -44,12 +50,14 @@ class PlateHandlerTest {
         plateQueryServicePort = mock(IPlateQueryServicePort.class);
         requestMapper = mock(IPlateRequestMapper.class);
         responseMapper = mock(IPlateResponseMapper.class);
+        menuItemMapper = mock(IPlateMenuItemMapper.class);
 
         plateHandler = new PlateHandler(
                 plateServicePort,
                 plateQueryServicePort,
                 requestMapper,
-                responseMapper);
+                responseMapper,
+                menuItemMapper);
     }
 
     @Nested
@@ -234,32 +242,27 @@ class PlateHandlerTest {
         @DisplayName("Should list plates by restaurant successfully")
         void shouldListPlatesByRestaurantSuccessfully() {
             // Given
-            List<PlateModel> plateModels = List.of(
-                    TestDataFactory.createPlateModel(1L, "Caesar Salad", 8000, "Fresh lettuce with Caesar dressing",
-                            "https://images.example.com/caesar.jpg", PlateCategory.ENTRADA, true, 1L),
-                    TestDataFactory.createPlateModel(2L, "Margherita Pizza", 15000, "Classic pizza with tomato sauce",
-                            "https://images.example.com/margherita.jpg", PlateCategory.PRINCIPAL, true, 1L));
+            List<PlateMenuItem> plateModels = TestDataFactory.createPlateMenuItemList().subList(0, 2);
 
-            List<PlateResponseDto> expectedResponse = TestDataFactory.createPlateResponseList();
+            List<PlateMenuItemDto> expectedResponse = TestDataFactory.createPlateMenuItemDtoList();
 
             when(plateQueryServicePort.listActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, 0, 10))
-                    .thenReturn(plateModels);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, PlateMenuView.FULL, 0, 10))
+                    .thenReturn(new SliceModel<>(plateModels, false));
 
-            // Mock each model separately
-            when(responseMapper.toDto(plateModels.get(0))).thenReturn(expectedResponse.get(0));
-            when(responseMapper.toDto(plateModels.get(1))).thenReturn(expectedResponse.get(1));
+            when(menuItemMapper.toDtoList(plateModels)).thenReturn(expectedResponse);
 
             // When
-            List<PlateResponseDto> result = plateHandler.listByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, 0, 10);
+            List<PlateMenuItemDto> result = plateHandler.listByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, PlateMenuView.FULL,
+                    0, 10, false).getItems();
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result).hasSize(2);
 
             verify(plateQueryServicePort).listActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, 0, 10);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, PlateMenuView.FULL, 0, 10);
         }
 
         @Test
@@ -267,50 +270,44 @@ class PlateHandlerTest {
         void shouldHandleEmptyPlateList() {
             // Given
             when(plateQueryServicePort.listActiveByRestaurant(
-                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, 0, 10))
-                    .thenReturn(List.of());
+                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10))
+                    .thenReturn(new SliceModel<>(List.of(), false));
 
             // When
-            List<PlateResponseDto> result = plateHandler.listByRestaurant(
-                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, 0, 10);
+            List<PlateMenuItemDto> result = plateHandler.listByRestaurant(
+                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10, false).getItems();
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result).isEmpty();
 
             verify(plateQueryServicePort).listActiveByRestaurant(
-                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, 0, 10);
+                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10);
         }
 
         @Test
         @DisplayName("Should list plates without category filter")
         void shouldListPlatesWithoutCategoryFilter() {
             // Given
-            List<PlateModel> plateModels = List.of(
-                    TestDataFactory.createPlateModel(1L, "Caesar Salad", 8000, "Fresh lettuce with Caesar dressing",
-                            "https://images.example.com/caesar.jpg", PlateCategory.ENTRADA, true, 1L),
-                    TestDataFactory.createPlateModel(2L, "Margherita Pizza", 15000, "Classic pizza with tomato sauce",
-                            "https://images.example.com/margherita.jpg", PlateCategory.PRINCIPAL, true, 1L));
-            List<PlateResponseDto> expectedResponse = TestDataFactory.createPlateResponseList();
+            List<PlateMenuItem> plateModels = TestDataFactory.createPlateMenuItemList().subList(0, 2);
+            List<PlateMenuItemDto> expectedResponse = TestDataFactory.createPlateMenuItemDtoList();
 
             when(plateQueryServicePort.listActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 10))
-                    .thenReturn(plateModels);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10))
+                    .thenReturn(new SliceModel<>(plateModels, false));
 
-            // Mock each model separately
-            when(responseMapper.toDto(plateModels.get(0))).thenReturn(expectedResponse.get(0));
-            when(responseMapper.toDto(plateModels.get(1))).thenReturn(expectedResponse.get(1));
+            when(menuItemMapper.toDtoList(plateModels)).thenReturn(expectedResponse);
 
             // When
-            List<PlateResponseDto> result = plateHandler.listByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 10);
+            List<PlateMenuItemDto> result = plateHandler.listByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10, false).getItems();
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result).hasSize(2);
 
             verify(plateQueryServicePort).listActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 10);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10);
         }
     }
 }
@@ -0,0 +1,164 @@
+package com.pragma.powerup.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.application.importer.CsvPlateImportReader;
+import com.pragma.powerup.application.importer.NdjsonPlateImportReader;
+import com.pragma.powerup.application.importer.PlateImportReader;
+import com.pragma.powerup.application.mapper.IPlateRequestMapper;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateImportRow;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Tests unitarios para los lectores de importación de menú
+ * Valida el parseo NDJSON y CSV fila a fila, los errores por fila y el límite de longitud de línea
+ */
+class PlateImportReaderTest {
+
+    private static final Long RESTAURANT_ID = 1L;
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+    private static final IPlateRequestMapper REQUEST_MAPPER = Mappers.getMapper(IPlateRequestMapper.class);
+
+    private static ByteArrayInputStream body(String document) {
+        return new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<PlateImportRow> readAll(PlateImportReader reader) {
+        List<PlateImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+
+    @Nested
+    @DisplayName("NDJSON Tests")
+    class NdjsonTests {
+
+        private List<PlateImportRow> read(String document) {
+            return readAll(new NdjsonPlateImportReader(
+                    body(document), new ObjectMapper(), RESTAURANT_ID, VALIDATOR, REQUEST_MAPPER));
+        }
+
+        @Test
+        @DisplayName("Should parse one plate per line and skip blank lines")
+        void shouldParseRows() {
+            // When
+            List<PlateImportRow> rows = read("""
+                    {"name":"Soup","price":9000,"description":"Hot","imageUrl":"https://img","category":"ENTRADA"}
+
+                    {"name":"Cake","price":7000,"description":"Sweet","imageUrl":"https://img","category":"POSTRE"}
+                    """);
+
+            // Then
+            assertThat(rows).extracting(PlateImportRow::line).containsExactly(1, 3);
+            assertThat(rows).extracting(PlateImportRow::error).containsOnlyNulls();
+            assertThat(rows.get(1).plate().getCategory()).isEqualTo(PlateCategory.POSTRE);
+            assertThat(rows.get(1).plate().getRestaurantId()).isEqualTo(RESTAURANT_ID);
+        }
+
+        @Test
+        @DisplayName("Should report malformed and invalid rows without stopping")
+        void shouldReportBadRows() {
+            // When
+            List<PlateImportRow> rows = read("""
+                    {"name":"Soup",
+                    {"name":"Soup","price":9000,"description":"Hot","imageUrl":"https://img","category":"SOPA"}
+                    {"name":"","price":9000,"description":"Hot","imageUrl":"https://img","category":"ENTRADA"}
+                    {"name":"Tea","price":3000,"description":"Hot","imageUrl":"https://img","category":"BEBIDA"}
+                    """);
+
+            // Then
+            // Los mensajes de Bean Validation dependen del locale: se comprueba el campo
+            assertThat(rows).extracting(PlateImportRow::line).containsExactly(1, 2, 3, 4);
+            assertThat(rows.get(0).error()).isEqualTo("malformed JSON");
+            assertThat(rows.get(1).error()).isEqualTo("invalid category: SOPA");
+            assertThat(rows.get(2).error()).startsWith("name ");
+            assertThat(rows.get(3).error()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject oversized lines without buffering them")
+        void shouldRejectLongLines() {
+            // When
+            List<PlateImportRow> rows = read("x".repeat(PlateImportReader.MAX_LINE_LENGTH + 1)
+                    + "\n{\"name\":\"Tea\",\"price\":3000,\"description\":\"Hot\",\"imageUrl\":\"https://img\","
+                    + "\"category\":\"BEBIDA\"}");
+
+            // Then
+            assertThat(rows.get(0).error()).isEqualTo("line exceeds 8192 characters");
+            assertThat(rows.get(1).line()).isEqualTo(2);
+            assertThat(rows.get(1).plate().getName()).isEqualTo("Tea");
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV Tests")
+    class CsvTests {
+
+        private List<PlateImportRow> read(String document) {
+            return readAll(new CsvPlateImportReader(body(document), RESTAURANT_ID, VALIDATOR, REQUEST_MAPPER));
+        }
+
+        @Test
+        @DisplayName("Should map columns by header and honour quoted fields")
+        void shouldParseQuotedFields() {
+            // When
+            List<PlateImportRow> rows = read("""
+                    category,name,price,image_url,description\r
+                    principal,"Steak, grilled",32000,https://img,"The ""house"" cut"\r
+                    """);
+
+            // Then
+            assertThat(rows).hasSize(1);
+            PlateImportRow row = rows.get(0);
+            assertThat(row.line()).isEqualTo(2);
+            assertThat(row.plate().getName()).isEqualTo("Steak, grilled");
+            assertThat(row.plate().getDescription()).isEqualTo("The \"house\" cut");
+            assertThat(row.plate().getCategory()).isEqualTo(PlateCategory.PRINCIPAL);
+            assertThat(row.plate().getPrice()).isEqualTo(32000);
+        }
+
+        @Test
+        @DisplayName("Should report rows with bad values or a wrong field count")
+        void shouldReportBadRows() {
+            // When
+            List<PlateImportRow> rows = read("""
+                    name,price,description,imageUrl,category
+                    Soup,cheap,Hot,https://img,ENTRADA
+                    Soup,9000,Hot,https://img
+                    Soup,-5,Hot,https://img,ENTRADA
+                    """);
+
+            // Then
+            assertThat(rows).hasSize(3);
+            assertThat(rows.get(0).error()).isEqualTo("invalid price: cheap");
+            assertThat(rows.get(1).error()).isEqualTo("expected 5 fields but found 4");
+            assertThat(rows.get(2).error()).startsWith("price ");
+        }
+
+        @Test
+        @DisplayName("Should reject a document without the required header")
+        void shouldRejectMissingHeader() {
+            // Given
+            PlateImportReader reader = new CsvPlateImportReader(
+                    body("name,price\nSoup,9000\n"), RESTAURANT_ID, VALIDATOR, REQUEST_MAPPER);
+
+            // When & Then
+            assertThatThrownBy(reader::hasNext)
+                    .isInstanceOf(DomainException.class)
+                    .hasMessageContaining("csv header must include");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -11,14 +12,19 @@ import com.pragma.powerup.TestDataFactory;
 import com.pragma.powerup.application.dto.request.RestaurantCreateRequestDto;
 import com.pragma.powerup.application.dto.response.RestaurantListItemDto;
 import com.pragma.powerup.application.dto.response.RestaurantResponseDto;
+import com.pragma.powerup.application.dto.response.SliceDto;
 import com.pragma.powerup.application.handler.impl.RestaurantHandler;
 import com.pragma.powerup.application.mapper.IRestaurantListItemMapper;
 import com.pragma.powerup.application.mapper.IRestaurantRequestMapper;
 import com.pragma.powerup.application.mapper.IRestaurantResponseMapper;
+import com.pragma.powerup.application.util.CursorCodec;
 import com.pragma.powerup.domain.api.IRestaurantQueryServicePort;
 import com.pragma.powerup.domain.api.IRestaurantServicePort;
 import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.KeysetCursor;
 import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.model.RestaurantSummary;
+import com.pragma.powerup.domain.model.SliceModel;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -113,17 +119,14 @@ class RestaurantHandlerTest {
         @DisplayName("Should list restaurants successfully")
         void shouldListRestaurantsSuccessfully() {
             // Given
-            List<RestaurantModel> restaurantModels = List.of(
-                    TestDataFactory.createValidRestaurantModel(),
-                    TestDataFactory.createRestaurantModel(2L, "Burger House", "987654321",
-                            "456 Oak St", "+0987654321", "https://logo.example.com/burger.png", 101L));
+            List<RestaurantSummary> restaurantModels = TestDataFactory.createRestaurantSummaries();
             List<RestaurantListItemDto> expectedResponse = TestDataFactory.createRestaurantListItems();
 
-            when(restaurantQueryServicePort.listRestaurants(0, 10)).thenReturn(restaurantModels);
+            when(restaurantQueryServicePort.listRestaurants(0, 10)).thenReturn(new SliceModel<>(restaurantModels, false));
             when(listItemMapper.toDtoList(restaurantModels)).thenReturn(expectedResponse);
 
             // When
-            List<RestaurantListItemDto> result = restaurantHandler.list(0, 10);
+            List<RestaurantListItemDto> result = restaurantHandler.list(0, 10, false).getItems();
 
             // Then
             assertThat(result).isNotNull();
@@ -139,14 +142,14 @@ class RestaurantHandlerTest {
         @DisplayName("Should handle empty restaurant list")
         void shouldHandleEmptyRestaurantList() {
             // Given
-            List<RestaurantModel> emptyList = List.of();
+            List<RestaurantSummary> emptyList = List.of();
             List<RestaurantListItemDto> emptyResponse = List.of();
 
-            when(restaurantQueryServicePort.listRestaurants(0, 10)).thenReturn(emptyList);
+            when(restaurantQueryServicePort.listRestaurants(0, 10)).thenReturn(new SliceModel<>(emptyList, false));
             when(listItemMapper.toDtoList(emptyList)).thenReturn(emptyResponse);
 
             // When
-            List<RestaurantListItemDto> result = restaurantHandler.list(0, 10);
+            List<RestaurantListItemDto> result = restaurantHandler.list(0, 10, false).getItems();
 
             // Then
             assertThat(result).isNotNull();
@@ -160,14 +163,14 @@ class RestaurantHandlerTest {
         @DisplayName("Should handle different page parameters")
         void shouldHandleDifferentPageParameters() {
             // Given
-            List<RestaurantModel> restaurantModels = List.of(TestDataFactory.createValidRestaurantModel());
+            List<RestaurantSummary> restaurantModels = List.of(TestDataFactory.createRestaurantSummaries().get(0));
             List<RestaurantListItemDto> expectedResponse = List.of(TestDataFactory.createValidRestaurantListItem());
 
-            when(restaurantQueryServicePort.listRestaurants(2, 5)).thenReturn(restaurantModels);
+            when(restaurantQueryServicePort.listRestaurants(2, 5)).thenReturn(new SliceModel<>(restaurantModels, false));
             when(listItemMapper.toDtoList(restaurantModels)).thenReturn(expectedResponse);
 
             // When
-            List<RestaurantListItemDto> result = restaurantHandler.list(2, 5);
+            List<RestaurantListItemDto> result = restaurantHandler.list(2, 5, false).getItems();
 
             // Then
             assertThat(result).isNotNull();
@@ -176,6 +179,80 @@ class RestaurantHandlerTest {
             verify(restaurantQueryServicePort).listRestaurants(2, 5);
             verify(listItemMapper).toDtoList(restaurantModels);
         }
+
+        @Test
+        @DisplayName("Should read the approximate total only when requested")
+        void shouldReadApproximateTotalOnlyWhenRequested() {
+            // Given
+            List<RestaurantSummary> restaurantModels = List.of(TestDataFactory.createRestaurantSummaries().get(0));
+            when(restaurantQueryServicePort.listRestaurants(0, 1))
+                    .thenReturn(new SliceModel<>(restaurantModels, true));
+            when(restaurantQueryServicePort.approximateCount()).thenReturn(42L);
+
+            // When
+            SliceDto<RestaurantListItemDto> withoutTotal = restaurantHandler.list(0, 1, false);
+            SliceDto<RestaurantListItemDto> withTotal = restaurantHandler.list(0, 1, true);
+
+            // Then
+            assertThat(withoutTotal.isHasNext()).isTrue();
+            assertThat(withoutTotal.getApproximateTotal()).isNull();
+            assertThat(withTotal.getApproximateTotal()).isEqualTo(42L);
+            verify(restaurantQueryServicePort, times(1)).approximateCount();
+        }
+    }
+
+    @Nested
+    @DisplayName("List Restaurants By Cursor Tests")
+    class ListRestaurantsByCursorTests {
+
+        @Test
+        @DisplayName("Should return the cursor of the last row when more rows follow")
+        void shouldReturnNextCursorForFullPage() {
+            // Given
+            List<RestaurantSummary> restaurantModels = List.of(
+                    TestDataFactory.createRestaurantSummaries().get(0),
+                    new RestaurantSummary(2L, "Pizza Palace", "https://logo.example.com/burger.png"));
+            when(restaurantQueryServicePort.listRestaurants((KeysetCursor) null, 2))
+                    .thenReturn(new SliceModel<>(restaurantModels, true));
+            when(listItemMapper.toDtoList(restaurantModels)).thenReturn(TestDataFactory.createRestaurantListItems());
+
+            // When
+            SliceDto<RestaurantListItemDto> result = restaurantHandler.listAfter(null, 2, false);
+
+            // Then
+            assertThat(result.getItems()).hasSize(2);
+            assertThat(CursorCodec.decode(result.getNextCursor()))
+                    .isEqualTo(new KeysetCursor("Pizza Palace", 2L));
+        }
+
+        @Test
+        @DisplayName("Should continue after the decoded cursor and stop on the last page")
+        void shouldContinueAfterCursor() {
+            // Given
+            KeysetCursor after = new KeysetCursor("Burger: House", 7L);
+            List<RestaurantSummary> restaurantModels = List.of(TestDataFactory.createRestaurantSummaries().get(0));
+            when(restaurantQueryServicePort.listRestaurants(after, 10)).thenReturn(new SliceModel<>(restaurantModels, false));
+            when(listItemMapper.toDtoList(restaurantModels))
+                    .thenReturn(List.of(TestDataFactory.createValidRestaurantListItem()));
+
+            // When
+            SliceDto<RestaurantListItemDto> result =
+                    restaurantHandler.listAfter(CursorCodec.encode(after), 10, false);
+
+            // Then
+            assertThat(result.getItems()).hasSize(1);
+            assertThat(result.getNextCursor()).isNull();
+            verify(restaurantQueryServicePort).listRestaurants(after, 10);
+        }
+
+        @Test
+        @DisplayName("Should reject a tampered cursor")
+        void shouldRejectInvalidCursor() {
+            // When & Then
+            assertThatThrownBy(() -> restaurantHandler.listAfter("not-a-cursor", 10, false))
+                    .isInstanceOf(DomainException.class)
+                    .hasMessage("invalid cursor");
+        }
     }
 
     @Nested
@@ -3,11 +3,16 @@ package com.pragma.powerup.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.pragma.powerup.TestDataFactory;
+import com.pragma.powerup.domain.model.KeysetCursor;
 import com.pragma.powerup.domain.model.PlateCategory;
-import com.pragma.powerup.domain.model.PlateModel;
+import com.pragma.powerup.domain.model.PlateMenuItem;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.domain.model.SliceModel;
+import com.pragma.powerup.domain.spi.ICatalogStatisticsPort;
 import com.pragma.powerup.domain.spi.IPlateQueryPort;
 import com.pragma.powerup.domain.usecase.PlateQueryUseCase;
 import java.util.List;
@@ -23,12 +28,14 @@ import org.junit.jupiter.api.Test;
 class PlateQueryUseCaseTest {
 
     private IPlateQueryPort plateQueryPort;
+    private ICatalogStatisticsPort catalogStatisticsPort;
     private PlateQueryUseCase plateQueryUseCase;
 
     @BeforeEach
     void setUp() {
         plateQueryPort = mock(IPlateQueryPort.class);
-        plateQueryUseCase = new PlateQueryUseCase(plateQueryPort);
+        catalogStatisticsPort = mock(ICatalogStatisticsPort.class);
+        plateQueryUseCase = new PlateQueryUseCase(plateQueryPort, catalogStatisticsPort);
     }
 
     @Nested
@@ -39,100 +46,117 @@ class PlateQueryUseCaseTest {
         @DisplayName("Should list active plates successfully with valid parameters")
         void shouldListActivePlatesSuccessfully() {
             // Given
-            List<PlateModel> expectedPlates = TestDataFactory.createPlateModelList();
+            List<PlateMenuItem> expectedPlates = TestDataFactory.createPlateMenuItemList();
             when(plateQueryPort.findActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, 0, 10))
-                    .thenReturn(expectedPlates);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, PlateMenuView.FULL, 0, 10))
+                    .thenReturn(new SliceModel<>(expectedPlates, false));
 
             // When
-            List<PlateModel> result = plateQueryUseCase.listActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, 0, 10);
+            List<PlateMenuItem> result = plateQueryUseCase.listActiveByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, PlateMenuView.FULL,
+                    0, 10).items();
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result).hasSize(3);
-            assertThat(result.get(0).getCategory()).isEqualTo(PlateCategory.ENTRADA);
-            assertThat(result.get(1).getCategory()).isEqualTo(PlateCategory.PRINCIPAL);
-            assertThat(result.get(2).getCategory()).isEqualTo(PlateCategory.POSTRE);
+            assertThat(result.get(0).category()).isEqualTo(PlateCategory.ENTRADA);
+            assertThat(result.get(1).category()).isEqualTo(PlateCategory.PRINCIPAL);
+            assertThat(result.get(2).category()).isEqualTo(PlateCategory.POSTRE);
             verify(plateQueryPort).findActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, 0, 10);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, PlateMenuView.FULL, 0, 10);
         }
 
         @Test
         @DisplayName("Should list all categories when category is null")
         void shouldListAllCategoriesWhenCategoryIsNull() {
             // Given
-            List<PlateModel> expectedPlates = TestDataFactory.createPlateModelList();
+            List<PlateMenuItem> expectedPlates = TestDataFactory.createPlateMenuItemList();
             when(plateQueryPort.findActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 10))
-                    .thenReturn(expectedPlates);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10))
+                    .thenReturn(new SliceModel<>(expectedPlates, false));
 
             // When
-            List<PlateModel> result = plateQueryUseCase.listActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 10);
+            List<PlateMenuItem> result = plateQueryUseCase.listActiveByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10).items();
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result).hasSize(3);
             verify(plateQueryPort).findActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 10);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10);
         }
 
         @Test
         @DisplayName("Should normalize negative page to zero")
         void shouldNormalizeNegativePageToZero() {
             // Given
-            List<PlateModel> expectedPlates = TestDataFactory.createPlateModelList();
+            List<PlateMenuItem> expectedPlates = TestDataFactory.createPlateMenuItemList();
             when(plateQueryPort.findActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 10))
-                    .thenReturn(expectedPlates);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10))
+                    .thenReturn(new SliceModel<>(expectedPlates, false));
 
             // When
-            List<PlateModel> result = plateQueryUseCase.listActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, -5, 10);
+            List<PlateMenuItem> result = plateQueryUseCase.listActiveByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, -5, 10).items();
 
             // Then
             assertThat(result).isNotNull();
             verify(plateQueryPort).findActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 10);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10);
         }
 
         @Test
         @DisplayName("Should normalize zero size to one")
         void shouldNormalizeZeroSizeToOne() {
             // Given
-            List<PlateModel> expectedPlates = TestDataFactory.createPlateModelList();
+            List<PlateMenuItem> expectedPlates = TestDataFactory.createPlateMenuItemList();
             when(plateQueryPort.findActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 1))
-                    .thenReturn(expectedPlates);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 1))
+                    .thenReturn(new SliceModel<>(expectedPlates, false));
 
             // When
-            List<PlateModel> result = plateQueryUseCase.listActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 0);
+            List<PlateMenuItem> result = plateQueryUseCase.listActiveByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 0).items();
 
             // Then
             assertThat(result).isNotNull();
             verify(plateQueryPort).findActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 1);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 1);
         }
 
         @Test
         @DisplayName("Should normalize negative size to one")
         void shouldNormalizeNegativeSizeToOne() {
             // Given
-            List<PlateModel> expectedPlates = TestDataFactory.createPlateModelList();
+            List<PlateMenuItem> expectedPlates = TestDataFactory.createPlateMenuItemList();
             when(plateQueryPort.findActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 1))
-                    .thenReturn(expectedPlates);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 1))
+                    .thenReturn(new SliceModel<>(expectedPlates, false));
 
             // When
-            List<PlateModel> result = plateQueryUseCase.listActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, -3);
+            List<PlateMenuItem> result = plateQueryUseCase.listActiveByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, -3).items();
 
             // Then
             assertThat(result).isNotNull();
             verify(plateQueryPort).findActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 1);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 1);
+        }
+
+        @Test
+        @DisplayName("Should cap sizes above the maximum")
+        void shouldCapOversizedPages() {
+            // When: Integer.MAX_VALUE desbordaba el size + 1 del adaptador
+            plateQueryUseCase.listActiveByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, Integer.MAX_VALUE);
+            plateQueryUseCase.listActiveByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, (KeysetCursor) null, 101);
+
+            // Then
+            verify(plateQueryPort).findActiveByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 100);
+            verify(plateQueryPort).findActiveByRestaurantAfter(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, null, 100);
         }
 
         @Test
@@ -140,42 +164,99 @@ class PlateQueryUseCaseTest {
         void shouldHandleEmptyResultList() {
             // Given
             when(plateQueryPort.findActiveByRestaurant(
-                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, 0, 10))
-                    .thenReturn(List.of());
+                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10))
+                    .thenReturn(new SliceModel<>(List.of(), false));
 
             // When
-            List<PlateModel> result = plateQueryUseCase.listActiveByRestaurant(
-                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, 0, 10);
+            List<PlateMenuItem> result = plateQueryUseCase.listActiveByRestaurant(
+                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10).items();
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result).isEmpty();
             verify(plateQueryPort).findActiveByRestaurant(
-                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, 0, 10);
+                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10);
         }
 
         @Test
         @DisplayName("Should work with different plate categories")
         void shouldWorkWithDifferentPlateCategories() {
             // Given
-            PlateModel entradaPlate = TestDataFactory.createPlateModel(
-                    1L, "Caesar Salad", 8000, "Fresh salad",
+            PlateMenuItem entradaPlate = new PlateMenuItem(1L, "Caesar Salad", 8000, "Fresh lettuce with Caesar dressing",
                     "https://images.example.com/caesar.jpg", PlateCategory.ENTRADA, true, 1L);
 
             when(plateQueryPort.findActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.ENTRADA, 0, 10))
-                    .thenReturn(List.of(entradaPlate));
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.ENTRADA, PlateMenuView.FULL, 0, 10))
+                    .thenReturn(new SliceModel<>(List.of(entradaPlate), false));
 
             // When
-            List<PlateModel> result = plateQueryUseCase.listActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.ENTRADA, 0, 10);
+            List<PlateMenuItem> result = plateQueryUseCase.listActiveByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.ENTRADA, PlateMenuView.FULL,
+                    0, 10).items();
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result).hasSize(1);
-            assertThat(result.get(0).getCategory()).isEqualTo(PlateCategory.ENTRADA);
+            assertThat(result.get(0).category()).isEqualTo(PlateCategory.ENTRADA);
             verify(plateQueryPort).findActiveByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.ENTRADA, 0, 10);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.ENTRADA, PlateMenuView.FULL, 0, 10);
+        }
+    }
+
+    @Nested
+    @DisplayName("List Active Plates By Cursor Tests")
+    class ListActivePlatesByCursorTests {
+
+        @Test
+        @DisplayName("Should seek after the cursor with the requested size")
+        void shouldSeekAfterCursor() {
+            // Given
+            KeysetCursor after = new KeysetCursor("Margherita Pizza", 1L);
+            List<PlateMenuItem> expectedPlates = TestDataFactory.createPlateMenuItemList();
+            when(plateQueryPort.findActiveByRestaurantAfter(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, after, 10))
+                    .thenReturn(new SliceModel<>(expectedPlates, false));
+
+            // When
+            List<PlateMenuItem> result = plateQueryUseCase.listActiveByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, after, 10).items();
+
+            // Then
+            assertThat(result).isEqualTo(expectedPlates);
+        }
+
+        @Test
+        @DisplayName("Should use at least one row per page")
+        void shouldNormalizeSize() {
+            // When
+            plateQueryUseCase.listActiveByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.POSTRE, PlateMenuView.FULL, null, 0);
+
+            // Then
+            verify(plateQueryPort).findActiveByRestaurantAfter(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.POSTRE, PlateMenuView.FULL, null, 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Approximate Count Tests")
+    class ApproximateCountTests {
+
+        @Test
+        @DisplayName("Should answer the total from the catalog statistics, not the plate query")
+        void shouldUseCatalogStatistics() {
+            // Given
+            when(catalogStatisticsPort.approximateActivePlateCount(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.POSTRE))
+                    .thenReturn(12L);
+
+            // When
+            long total = plateQueryUseCase.approximateActiveCount(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.POSTRE);
+
+            // Then
+            assertThat(total).isEqualTo(12L);
+            verifyNoInteractions(plateQueryPort);
         }
     }
 }
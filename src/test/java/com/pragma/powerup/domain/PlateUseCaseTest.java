@@ -3,19 +3,30 @@ package com.pragma.powerup.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.pragma.powerup.TestDataFactory;
 import com.pragma.powerup.domain.exception.DomainException;
 import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateImportReport;
+import com.pragma.powerup.domain.model.PlateImportResult;
+import com.pragma.powerup.domain.model.PlateImportRow;
 import com.pragma.powerup.domain.model.PlateModel;
 import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.spi.ICatalogChangePort;
 import com.pragma.powerup.domain.spi.IPlatePersistencePort;
-import com.pragma.powerup.domain.spi.IRestaurantQueryPort;
+import com.pragma.powerup.domain.spi.IRestaurantOwnershipPort;
 import com.pragma.powerup.domain.usecase.PlateUseCase;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -28,14 +39,16 @@ import org.junit.jupiter.api.Test;
 class PlateUseCaseTest {
 
     private IPlatePersistencePort platePersistencePort;
-    private IRestaurantQueryPort restaurantQueryPort;
+    private IRestaurantOwnershipPort restaurantOwnershipPort;
+    private ICatalogChangePort catalogChangePort;
     private PlateUseCase plateUseCase;
 
     @BeforeEach
     void setUp() {
         platePersistencePort = mock(IPlatePersistencePort.class);
-        restaurantQueryPort = mock(IRestaurantQueryPort.class);
-        plateUseCase = new PlateUseCase(platePersistencePort, restaurantQueryPort);
+        restaurantOwnershipPort = mock(IRestaurantOwnershipPort.class);
+        catalogChangePort = mock(ICatalogChangePort.class);
+        plateUseCase = new PlateUseCase(platePersistencePort, restaurantOwnershipPort, catalogChangePort);
     }
 
     @Nested
@@ -49,10 +62,7 @@ class PlateUseCaseTest {
             PlateModel plate = TestDataFactory.createValidPlateModel();
             RestaurantModel restaurant = TestDataFactory.createValidRestaurantModel();
 
-            when(restaurantQueryPort.findById(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(restaurant);
-            when(platePersistencePort.existsByNameAndRestaurantId(
-                    TestDataFactory.Constants.VALID_PLATE_NAME, TestDataFactory.Constants.VALID_RESTAURANT_ID))
-                    .thenReturn(false);
+            when(restaurantOwnershipPort.findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(restaurant.getOwnerId());
             when(platePersistencePort.save(any(PlateModel.class))).thenReturn(plate);
 
             // When
@@ -62,10 +72,9 @@ class PlateUseCaseTest {
             assertThat(result).isNotNull();
             assertThat(result.getName()).isEqualTo("Margherita Pizza");
             assertThat(result.isActive()).isTrue();
-            verify(restaurantQueryPort).findById(TestDataFactory.Constants.VALID_RESTAURANT_ID);
-            verify(platePersistencePort).existsByNameAndRestaurantId(
-                    "Margherita Pizza", TestDataFactory.Constants.VALID_RESTAURANT_ID);
+            verify(restaurantOwnershipPort).findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID);
             verify(platePersistencePort).save(any(PlateModel.class));
+            verify(catalogChangePort).menuChanged(TestDataFactory.Constants.VALID_RESTAURANT_ID);
         }
 
         @Test
@@ -256,14 +265,14 @@ class PlateUseCaseTest {
         void shouldThrowExceptionWhenRestaurantNotFound() {
             // Given
             PlateModel plate = TestDataFactory.createValidPlateModel();
-            when(restaurantQueryPort.findById(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(null);
+            when(restaurantOwnershipPort.findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(null);
 
             // When & Then
             assertThatThrownBy(() -> plateUseCase.createPlate(plate, TestDataFactory.Constants.VALID_OWNER_ID))
                     .isInstanceOf(DomainException.class)
                     .hasMessage("restaurant not found");
 
-            verify(restaurantQueryPort).findById(TestDataFactory.Constants.VALID_RESTAURANT_ID);
+            verify(restaurantOwnershipPort).findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID);
             verify(platePersistencePort, never()).save(any());
         }
 
@@ -273,38 +282,35 @@ class PlateUseCaseTest {
             // Given
             PlateModel plate = TestDataFactory.createValidPlateModel();
             RestaurantModel restaurant = TestDataFactory.createValidRestaurantModel();
-            when(restaurantQueryPort.findById(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(restaurant);
+            when(restaurantOwnershipPort.findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(restaurant.getOwnerId());
 
             // When & Then
             assertThatThrownBy(() -> plateUseCase.createPlate(plate, TestDataFactory.Constants.INVALID_OWNER_ID))
                     .isInstanceOf(DomainException.class)
                     .hasMessage("only the restaurant owner can create plates");
 
-            verify(restaurantQueryPort).findById(TestDataFactory.Constants.VALID_RESTAURANT_ID);
+            verify(restaurantOwnershipPort).findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID);
             verify(platePersistencePort, never()).save(any());
         }
 
         @Test
-        @DisplayName("Should throw exception when plate name already exists in restaurant")
+        @DisplayName("Should propagate the duplicated plate name rejected by the insert")
         void shouldThrowExceptionWhenPlateNameAlreadyExists() {
             // Given
             PlateModel plate = TestDataFactory.createValidPlateModel();
             RestaurantModel restaurant = TestDataFactory.createValidRestaurantModel();
 
-            when(restaurantQueryPort.findById(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(restaurant);
-            when(platePersistencePort.existsByNameAndRestaurantId(
-                    "Margherita Pizza", TestDataFactory.Constants.VALID_RESTAURANT_ID))
-                    .thenReturn(true);
+            when(restaurantOwnershipPort.findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(restaurant.getOwnerId());
+            when(platePersistencePort.save(plate))
+                    .thenThrow(new DomainException("plate name already exists in restaurant"));
 
             // When & Then
             assertThatThrownBy(() -> plateUseCase.createPlate(plate, TestDataFactory.Constants.VALID_OWNER_ID))
                     .isInstanceOf(DomainException.class)
                     .hasMessage("plate name already exists in restaurant");
 
-            verify(restaurantQueryPort).findById(TestDataFactory.Constants.VALID_RESTAURANT_ID);
-            verify(platePersistencePort).existsByNameAndRestaurantId(
-                    "Margherita Pizza", TestDataFactory.Constants.VALID_RESTAURANT_ID);
-            verify(platePersistencePort, never()).save(any());
+            verify(restaurantOwnershipPort).findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID);
+            verify(platePersistencePort).save(plate);
         }
     }
 
@@ -313,15 +319,17 @@ class PlateUseCaseTest {
     class UpdatePlateTests {
 
         @Test
-        @DisplayName("Should update plate successfully when all data is valid")
+        @DisplayName("Should update plate with a single conditional update when all data is valid")
         void shouldUpdatePlateSuccessfully() {
             // Given
-            PlateModel existingPlate = TestDataFactory.createValidPlateModel();
-            RestaurantModel restaurant = TestDataFactory.createValidRestaurantModel();
+            PlateModel updatedPlate = TestDataFactory.createValidPlateModel();
+            updatedPlate.setPrice(20000);
+            updatedPlate.setDescription("Updated description");
 
-            when(platePersistencePort.findById(TestDataFactory.Constants.VALID_PLATE_ID)).thenReturn(existingPlate);
-            when(restaurantQueryPort.findById(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(restaurant);
-            when(platePersistencePort.save(any(PlateModel.class))).thenReturn(existingPlate);
+            when(platePersistencePort.updatePriceAndDescription(
+                    TestDataFactory.Constants.VALID_PLATE_ID, 20000, "Updated description",
+                    TestDataFactory.Constants.VALID_OWNER_ID))
+                    .thenReturn(updatedPlate);
 
             // When
             PlateModel result = plateUseCase.updatePlate(
@@ -329,10 +337,12 @@ class PlateUseCaseTest {
                     TestDataFactory.Constants.VALID_OWNER_ID);
 
             // Then
-            assertThat(result).isNotNull();
-            verify(platePersistencePort).findById(TestDataFactory.Constants.VALID_PLATE_ID);
-            verify(restaurantQueryPort).findById(TestDataFactory.Constants.VALID_RESTAURANT_ID);
-            verify(platePersistencePort).save(existingPlate);
+            assertThat(result.getPrice()).isEqualTo(20000);
+            assertThat(result.getDescription()).isEqualTo("Updated description");
+            verify(platePersistencePort, never()).findById(any());
+            verify(restaurantOwnershipPort, never()).findOwnerId(any());
+            verify(platePersistencePort, never()).save(any());
+            verify(catalogChangePort).menuChanged(TestDataFactory.Constants.VALID_RESTAURANT_ID);
         }
 
         @Test
@@ -344,7 +354,7 @@ class PlateUseCaseTest {
                     .isInstanceOf(DomainException.class)
                     .hasMessage("plateId is required");
 
-            verify(platePersistencePort, never()).findById(any());
+            verify(platePersistencePort, never()).updatePriceAndDescription(any(), any(), any(), any());
         }
 
         @Test
@@ -360,20 +370,32 @@ class PlateUseCaseTest {
                     .isInstanceOf(DomainException.class)
                     .hasMessage("plate not found");
 
+            verify(platePersistencePort).updatePriceAndDescription(
+                    TestDataFactory.Constants.INVALID_PLATE_ID, 20000, "Updated description",
+                    TestDataFactory.Constants.VALID_OWNER_ID);
             verify(platePersistencePort).findById(TestDataFactory.Constants.INVALID_PLATE_ID);
-            verify(platePersistencePort, never()).save(any());
         }
 
         @Test
-        @DisplayName("Should throw exception when price is null")
-        void shouldThrowExceptionWhenUpdatePriceIsNull() {
-            // Given
+        @DisplayName("Should throw exception when the caller does not own the restaurant")
+        void shouldThrowExceptionWhenOwnerIsDifferent() {
+            // Given: el UPDATE no afecta filas y la consulta del motivo encuentra otro dueño
             PlateModel existingPlate = TestDataFactory.createValidPlateModel();
-            RestaurantModel restaurant = TestDataFactory.createValidRestaurantModel();
-
             when(platePersistencePort.findById(TestDataFactory.Constants.VALID_PLATE_ID)).thenReturn(existingPlate);
-            when(restaurantQueryPort.findById(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(restaurant);
+            when(restaurantOwnershipPort.findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID))
+                    .thenReturn(TestDataFactory.Constants.VALID_OWNER_ID);
 
+            // When & Then
+            assertThatThrownBy(() -> plateUseCase.updatePlate(
+                    TestDataFactory.Constants.VALID_PLATE_ID, 20000, "Updated description",
+                    TestDataFactory.Constants.INVALID_OWNER_ID))
+                    .isInstanceOf(DomainException.class)
+                    .hasMessage("only the restaurant owner can update plates");
+        }
+
+        @Test
+        @DisplayName("Should throw exception when price is null")
+        void shouldThrowExceptionWhenUpdatePriceIsNull() {
             // When & Then
             assertThatThrownBy(() -> plateUseCase.updatePlate(
                     TestDataFactory.Constants.VALID_PLATE_ID, null, "Updated description",
@@ -381,21 +403,12 @@ class PlateUseCaseTest {
                     .isInstanceOf(DomainException.class)
                     .hasMessage("price must be a positive integer");
 
-            verify(platePersistencePort).findById(TestDataFactory.Constants.VALID_PLATE_ID);
-            verify(restaurantQueryPort).findById(TestDataFactory.Constants.VALID_RESTAURANT_ID);
-            verify(platePersistencePort, never()).save(any());
+            verify(platePersistencePort, never()).updatePriceAndDescription(any(), any(), any(), any());
         }
 
         @Test
         @DisplayName("Should throw exception when price is zero or negative")
         void shouldThrowExceptionWhenUpdatePriceIsZeroOrNegative() {
-            // Given
-            PlateModel existingPlate = TestDataFactory.createValidPlateModel();
-            RestaurantModel restaurant = TestDataFactory.createValidRestaurantModel();
-
-            when(platePersistencePort.findById(TestDataFactory.Constants.VALID_PLATE_ID)).thenReturn(existingPlate);
-            when(restaurantQueryPort.findById(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(restaurant);
-
             // When & Then
             assertThatThrownBy(() -> plateUseCase.updatePlate(
                     TestDataFactory.Constants.VALID_PLATE_ID, 0, "Updated description",
@@ -403,21 +416,12 @@ class PlateUseCaseTest {
                     .isInstanceOf(DomainException.class)
                     .hasMessage("price must be a positive integer");
 
-            verify(platePersistencePort).findById(TestDataFactory.Constants.VALID_PLATE_ID);
-            verify(restaurantQueryPort).findById(TestDataFactory.Constants.VALID_RESTAURANT_ID);
-            verify(platePersistencePort, never()).save(any());
+            verify(platePersistencePort, never()).updatePriceAndDescription(any(), any(), any(), any());
         }
 
         @Test
         @DisplayName("Should throw exception when description is null")
         void shouldThrowExceptionWhenUpdateDescriptionIsNull() {
-            // Given
-            PlateModel existingPlate = TestDataFactory.createValidPlateModel();
-            RestaurantModel restaurant = TestDataFactory.createValidRestaurantModel();
-
-            when(platePersistencePort.findById(TestDataFactory.Constants.VALID_PLATE_ID)).thenReturn(existingPlate);
-            when(restaurantQueryPort.findById(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(restaurant);
-
             // When & Then
             assertThatThrownBy(() -> plateUseCase.updatePlate(
                     TestDataFactory.Constants.VALID_PLATE_ID, 20000, null,
@@ -425,21 +429,12 @@ class PlateUseCaseTest {
                     .isInstanceOf(DomainException.class)
                     .hasMessage("description is required");
 
-            verify(platePersistencePort).findById(TestDataFactory.Constants.VALID_PLATE_ID);
-            verify(restaurantQueryPort).findById(TestDataFactory.Constants.VALID_RESTAURANT_ID);
-            verify(platePersistencePort, never()).save(any());
+            verify(platePersistencePort, never()).updatePriceAndDescription(any(), any(), any(), any());
         }
 
         @Test
         @DisplayName("Should throw exception when description is blank")
         void shouldThrowExceptionWhenUpdateDescriptionIsBlank() {
-            // Given
-            PlateModel existingPlate = TestDataFactory.createValidPlateModel();
-            RestaurantModel restaurant = TestDataFactory.createValidRestaurantModel();
-
-            when(platePersistencePort.findById(TestDataFactory.Constants.VALID_PLATE_ID)).thenReturn(existingPlate);
-            when(restaurantQueryPort.findById(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(restaurant);
-
             // When & Then
             assertThatThrownBy(() -> plateUseCase.updatePlate(
                     TestDataFactory.Constants.VALID_PLATE_ID, 20000, "   ",
@@ -447,9 +442,7 @@ class PlateUseCaseTest {
                     .isInstanceOf(DomainException.class)
                     .hasMessage("description is required");
 
-            verify(platePersistencePort).findById(TestDataFactory.Constants.VALID_PLATE_ID);
-            verify(restaurantQueryPort).findById(TestDataFactory.Constants.VALID_RESTAURANT_ID);
-            verify(platePersistencePort, never()).save(any());
+            verify(platePersistencePort, never()).updatePriceAndDescription(any(), any(), any(), any());
         }
     }
 
@@ -458,25 +451,25 @@ class PlateUseCaseTest {
     class SetPlateActiveTests {
 
         @Test
-        @DisplayName("Should set plate active status successfully")
+        @DisplayName("Should set plate active status with a single conditional update")
         void shouldSetPlateActiveStatusSuccessfully() {
             // Given
-            PlateModel existingPlate = TestDataFactory.createValidPlateModel();
-            RestaurantModel restaurant = TestDataFactory.createValidRestaurantModel();
+            PlateModel updatedPlate = TestDataFactory.createValidPlateModel();
+            updatedPlate.setActive(false);
 
-            when(platePersistencePort.findById(TestDataFactory.Constants.VALID_PLATE_ID)).thenReturn(existingPlate);
-            when(restaurantQueryPort.findById(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(restaurant);
-            when(platePersistencePort.save(any(PlateModel.class))).thenReturn(existingPlate);
+            when(platePersistencePort.updateActive(
+                    TestDataFactory.Constants.VALID_PLATE_ID, false, TestDataFactory.Constants.VALID_OWNER_ID))
+                    .thenReturn(updatedPlate);
 
             // When
             PlateModel result = plateUseCase.setPlateActive(
                     TestDataFactory.Constants.VALID_PLATE_ID, false, TestDataFactory.Constants.VALID_OWNER_ID);
 
             // Then
-            assertThat(result).isNotNull();
-            verify(platePersistencePort).findById(TestDataFactory.Constants.VALID_PLATE_ID);
-            verify(restaurantQueryPort).findById(TestDataFactory.Constants.VALID_RESTAURANT_ID);
-            verify(platePersistencePort).save(existingPlate);
+            assertThat(result.isActive()).isFalse();
+            verify(platePersistencePort, never()).findById(any());
+            verify(platePersistencePort, never()).save(any());
+            verify(catalogChangePort).menuChanged(TestDataFactory.Constants.VALID_RESTAURANT_ID);
         }
 
         @Test
@@ -488,7 +481,7 @@ class PlateUseCaseTest {
                     .isInstanceOf(DomainException.class)
                     .hasMessage("plateId is required");
 
-            verify(platePersistencePort, never()).findById(any());
+            verify(platePersistencePort, never()).updateActive(any(), anyBoolean(), any());
         }
 
         @Test
@@ -504,7 +497,180 @@ class PlateUseCaseTest {
                     .hasMessage("plate not found");
 
             verify(platePersistencePort).findById(TestDataFactory.Constants.INVALID_PLATE_ID);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when the restaurant of the plate no longer exists")
+        void shouldThrowExceptionWhenRestaurantNotFoundForStatusUpdate() {
+            // Given
+            PlateModel existingPlate = TestDataFactory.createValidPlateModel();
+            when(platePersistencePort.findById(TestDataFactory.Constants.VALID_PLATE_ID)).thenReturn(existingPlate);
+            when(restaurantOwnershipPort.findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(null);
+
+            // When & Then
+            assertThatThrownBy(() -> plateUseCase.setPlateActive(
+                    TestDataFactory.Constants.VALID_PLATE_ID, true, TestDataFactory.Constants.VALID_OWNER_ID))
+                    .isInstanceOf(DomainException.class)
+                    .hasMessage("restaurant not found");
+        }
+    }
+
+    @Nested
+    @DisplayName("Import Plates Tests")
+    class ImportPlatesTests {
+
+        private PlateModel plate(String name) {
+            return new PlateModel(null, name, 15000, "Description", "https://img", PlateCategory.PRINCIPAL, null,
+                    null);
+        }
+
+        @BeforeEach
+        void stubSaveAll() {
+            when(platePersistencePort.saveAll(anyList())).thenAnswer(invocation -> {
+                List<PlateModel> batch = invocation.getArgument(0);
+                long id = 1;
+                for (PlateModel plate : batch) {
+                    plate.setId(id++);
+                }
+                return batch;
+            });
+        }
+
+        @Test
+        @DisplayName("Should check ownership and names once and report every row")
+        void shouldImportAndReportEveryRow() {
+            // Given
+            when(restaurantOwnershipPort.findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID))
+                    .thenReturn(TestDataFactory.Constants.VALID_OWNER_ID);
+            when(platePersistencePort.findNamesByRestaurantId(TestDataFactory.Constants.VALID_RESTAURANT_ID))
+                    .thenReturn(Set.of("Existing"));
+            PlateModel invalid = plate("No price");
+            invalid.setPrice(0);
+            List<PlateImportRow> rows = List.of(
+                    PlateImportRow.parsed(1, plate("Soup")),
+                    PlateImportRow.parsed(2, plate("Existing")),
+                    PlateImportRow.malformed(3, "malformed JSON"),
+                    PlateImportRow.parsed(4, invalid),
+                    PlateImportRow.parsed(5, plate("Soup")),
+                    PlateImportRow.parsed(6, plate("Salad")));
+
+            // When
+            PlateImportReport report = plateUseCase.importPlates(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, rows.iterator(),
+                    TestDataFactory.Constants.VALID_OWNER_ID);
+
+            // Then
+            assertThat(report.created()).isEqualTo(2);
+            assertThat(report.rejected()).isEqualTo(4);
+            assertThat(report.rows()).extracting(PlateImportResult::line).containsExactly(1, 2, 3, 4, 5, 6);
+            assertThat(report.rows()).extracting(PlateImportResult::error).containsExactly(
+                    null,
+                    "plate name already exists in restaurant",
+                    "malformed JSON",
+                    "price must be a positive integer",
+                    "plate name already exists in restaurant",
+                    null);
+            verify(restaurantOwnershipPort, times(1)).findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID);
+            verify(platePersistencePort, times(1)).saveAll(anyList());
             verify(platePersistencePort, never()).save(any());
+            verify(catalogChangePort, times(1)).menuChanged(TestDataFactory.Constants.VALID_RESTAURANT_ID);
+        }
+
+        @Test
+        @DisplayName("Should insert large imports in bounded batches")
+        void shouldInsertInBatches() {
+            // Given
+            when(restaurantOwnershipPort.findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID))
+                    .thenReturn(TestDataFactory.Constants.VALID_OWNER_ID);
+            when(platePersistencePort.findNamesByRestaurantId(TestDataFactory.Constants.VALID_RESTAURANT_ID))
+                    .thenReturn(Set.of());
+            Iterator<PlateImportRow> rows = IntStream.rangeClosed(1, 1_200)
+                    .mapToObj(i -> PlateImportRow.parsed(i, plate("Plate " + i)))
+                    .iterator();
+
+            // When
+            PlateImportReport report = plateUseCase.importPlates(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, rows, TestDataFactory.Constants.VALID_OWNER_ID);
+
+            // Then
+            assertThat(report.created()).isEqualTo(1_200);
+            verify(platePersistencePort, times(3)).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Should retry a rejected batch row by row and keep the rows that still fit")
+        void shouldRetryRejectedBatchRowByRow() {
+            // Given: otro cliente creó "Salad" después de leer los nombres del restaurante
+            when(restaurantOwnershipPort.findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID))
+                    .thenReturn(TestDataFactory.Constants.VALID_OWNER_ID);
+            when(platePersistencePort.findNamesByRestaurantId(TestDataFactory.Constants.VALID_RESTAURANT_ID))
+                    .thenReturn(Set.of());
+            when(platePersistencePort.saveAll(anyList()))
+                    .thenThrow(new DomainException("plate name already exists in restaurant"));
+            when(platePersistencePort.save(any(PlateModel.class))).thenAnswer(invocation -> {
+                PlateModel plate = invocation.getArgument(0);
+                if ("Salad".equals(plate.getName())) {
+                    throw new DomainException("plate name already exists in restaurant");
+                }
+                plate.setId(7L);
+                return plate;
+            });
+            List<PlateImportRow> rows = List.of(
+                    PlateImportRow.parsed(1, plate("Soup")),
+                    PlateImportRow.parsed(2, plate("Salad")));
+
+            // When
+            PlateImportReport report = plateUseCase.importPlates(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, rows.iterator(),
+                    TestDataFactory.Constants.VALID_OWNER_ID);
+
+            // Then
+            assertThat(report.created()).isEqualTo(1);
+            assertThat(report.rows()).extracting(PlateImportResult::error)
+                    .containsExactly(null, "plate name already exists in restaurant");
+            verify(platePersistencePort, times(2)).save(any(PlateModel.class));
+        }
+
+        @Test
+        @DisplayName("Should not announce a menu change when no row of the batch was saved")
+        void shouldNotAnnounceEmptyBatch() {
+            // Given
+            when(restaurantOwnershipPort.findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID))
+                    .thenReturn(TestDataFactory.Constants.VALID_OWNER_ID);
+            when(platePersistencePort.findNamesByRestaurantId(TestDataFactory.Constants.VALID_RESTAURANT_ID))
+                    .thenReturn(Set.of());
+            when(platePersistencePort.saveAll(anyList()))
+                    .thenThrow(new DomainException("plate name already exists in restaurant"));
+            when(platePersistencePort.save(any(PlateModel.class)))
+                    .thenThrow(new DomainException("plate name already exists in restaurant"));
+
+            // When
+            PlateImportReport report = plateUseCase.importPlates(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID,
+                    List.of(PlateImportRow.parsed(1, plate("Soup"))).iterator(),
+                    TestDataFactory.Constants.VALID_OWNER_ID);
+
+            // Then
+            assertThat(report.created()).isZero();
+            verify(catalogChangePort, never()).menuChanged(any());
+        }
+
+        @Test
+        @DisplayName("Should reject the whole import when the caller does not own the restaurant")
+        void shouldRejectNonOwner() {
+            // Given
+            when(restaurantOwnershipPort.findOwnerId(TestDataFactory.Constants.VALID_RESTAURANT_ID))
+                    .thenReturn(TestDataFactory.Constants.INVALID_OWNER_ID);
+
+            // When & Then
+            assertThatThrownBy(() -> plateUseCase.importPlates(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID,
+                    List.of(PlateImportRow.parsed(1, plate("Soup"))).iterator(),
+                    TestDataFactory.Constants.VALID_OWNER_ID))
+                    .isInstanceOf(DomainException.class)
+                    .hasMessage("only the restaurant owner can create plates");
+
+            verify(platePersistencePort, never()).saveAll(anyList());
         }
     }
 }
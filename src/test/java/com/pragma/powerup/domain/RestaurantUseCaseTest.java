@@ -11,6 +11,8 @@ import static org.mockito.Mockito.when;
 import com.pragma.powerup.TestDataFactory;
 import com.pragma.powerup.domain.exception.DomainException;
 import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.spi.ICatalogChangePort;
+import com.pragma.powerup.domain.spi.IRestaurantOwnershipPort;
 import com.pragma.powerup.domain.spi.IRestaurantPersistencePort;
 import com.pragma.powerup.domain.spi.IUserServicePort;
 import com.pragma.powerup.domain.usecase.RestaurantUseCase;
@@ -27,13 +29,18 @@ class RestaurantUseCaseTest {
 
     private IRestaurantPersistencePort restaurantPersistencePort;
     private IUserServicePort userServicePort;
+    private IRestaurantOwnershipPort restaurantOwnershipPort;
+    private ICatalogChangePort catalogChangePort;
     private RestaurantUseCase restaurantUseCase;
 
     @BeforeEach
     void setUp() {
         restaurantPersistencePort = mock(IRestaurantPersistencePort.class);
         userServicePort = mock(IUserServicePort.class);
-        restaurantUseCase = new RestaurantUseCase(restaurantPersistencePort, userServicePort);
+        restaurantOwnershipPort = mock(IRestaurantOwnershipPort.class);
+        catalogChangePort = mock(ICatalogChangePort.class);
+        restaurantUseCase = new RestaurantUseCase(restaurantPersistencePort, userServicePort, restaurantOwnershipPort,
+                catalogChangePort);
     }
 
     @Nested
@@ -46,7 +53,6 @@ class RestaurantUseCaseTest {
             // Given
             RestaurantModel restaurant = TestDataFactory.createValidRestaurantModel();
             when(userServicePort.isOwnerRole(TestDataFactory.Constants.VALID_OWNER_ID)).thenReturn(true);
-            when(restaurantPersistencePort.existsByNit(TestDataFactory.Constants.VALID_NIT)).thenReturn(false);
             when(restaurantPersistencePort.save(restaurant)).thenReturn(restaurant);
 
             // When
@@ -57,8 +63,9 @@ class RestaurantUseCaseTest {
             assertThat(result.getName()).isEqualTo("Pizza Palace");
             assertThat(result.getNit()).isEqualTo(TestDataFactory.Constants.VALID_NIT);
             verify(userServicePort).isOwnerRole(TestDataFactory.Constants.VALID_OWNER_ID);
-            verify(restaurantPersistencePort).existsByNit(TestDataFactory.Constants.VALID_NIT);
             verify(restaurantPersistencePort).save(restaurant);
+            verify(restaurantOwnershipPort).registerOwner(restaurant.getId(), TestDataFactory.Constants.VALID_OWNER_ID);
+            verify(catalogChangePort).restaurantChanged(restaurant.getId());
         }
 
         @Test
@@ -178,12 +185,12 @@ class RestaurantUseCaseTest {
         }
 
         @Test
-        @DisplayName("Should throw exception when NIT already exists")
+        @DisplayName("Should propagate the duplicated NIT rejected by the insert")
         void shouldThrowExceptionWhenNitAlreadyExists() {
             // Given
             RestaurantModel restaurant = TestDataFactory.createValidRestaurantModel();
             when(userServicePort.isOwnerRole(TestDataFactory.Constants.VALID_OWNER_ID)).thenReturn(true);
-            when(restaurantPersistencePort.existsByNit(TestDataFactory.Constants.VALID_NIT)).thenReturn(true);
+            when(restaurantPersistencePort.save(restaurant)).thenThrow(new DomainException("NIT already exists"));
 
             // When & Then
             assertThatThrownBy(() -> restaurantUseCase.createRestaurant(restaurant))
@@ -191,8 +198,9 @@ class RestaurantUseCaseTest {
                     .hasMessage("NIT already exists");
 
             verify(userServicePort).isOwnerRole(TestDataFactory.Constants.VALID_OWNER_ID);
-            verify(restaurantPersistencePort).existsByNit(TestDataFactory.Constants.VALID_NIT);
-            verify(restaurantPersistencePort, never()).save(any());
+            verify(restaurantPersistencePort).save(restaurant);
+            verify(restaurantOwnershipPort, never()).registerOwner(any(), any());
+            verify(catalogChangePort, never()).restaurantChanged(any());
         }
     }
 }
@@ -0,0 +1,224 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.pragma.powerup.domain.model.KeysetCursor;
+import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateMenuItem;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.domain.model.SliceModel;
+import com.pragma.powerup.domain.spi.IPlateQueryPort;
+import com.pragma.powerup.infrastructure.out.cache.CachingPlateQueryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitarios para CachingPlateQueryAdapter
+ * Valida las claves por ventana de página, la invalidación por restaurante y sus métricas
+ */
+class CachingPlateQueryAdapterTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private IPlateQueryPort delegate;
+    private MeterRegistry meterRegistry;
+    private CachingPlateQueryAdapter adapter;
+
+    private static SliceModel<PlateMenuItem> menu(String name) {
+        return new SliceModel<>(List.of(new PlateMenuItem(1L, name, 10_000, "Dessert", "https://img",
+                PlateCategory.POSTRE, true, 1L)), false);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "plate.menu").tag("result", result)
+                .functionCounter().count();
+    }
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(IPlateQueryPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        // Mantenimiento (desalojos) en el hilo del test para que sea determinista
+        adapter = new CachingPlateQueryAdapter(delegate, meterRegistry, 100, TTL, Runnable::run);
+    }
+
+    @Nested
+    @DisplayName("Read Through Tests")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("Should query the database once per restaurant, category and page window")
+        void shouldServeRepeatedReadsFromCache() {
+            // Given
+            when(delegate.findActiveByRestaurant(1L, null, PlateMenuView.FULL, 0, 10)).thenReturn(menu("Flan"));
+            when(delegate.findActiveByRestaurant(1L, null, PlateMenuView.FULL, 1, 10)).thenReturn(menu("Tiramisu"));
+
+            // When
+            adapter.findActiveByRestaurant(1L, null, PlateMenuView.FULL, 0, 10);
+            adapter.findActiveByRestaurant(1L, null, PlateMenuView.FULL, 0, 10);
+            SliceModel<PlateMenuItem> secondPage = adapter.findActiveByRestaurant(1L, null, PlateMenuView.FULL, 1, 10);
+
+            // Then
+            assertThat(secondPage.items()).extracting(PlateMenuItem::name).containsExactly("Tiramisu");
+            verify(delegate, times(1)).findActiveByRestaurant(1L, null, PlateMenuView.FULL, 0, 10);
+            verify(delegate, times(1)).findActiveByRestaurant(1L, null, PlateMenuView.FULL, 1, 10);
+            assertThat(gets("hit")).isEqualTo(1);
+            assertThat(gets("miss")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should key keyset pages by cursor and size")
+        void shouldKeyKeysetPagesByCursor() {
+            // Given
+            KeysetCursor cursor = new KeysetCursor("Flan", 7L);
+            when(delegate.findActiveByRestaurantAfter(1L, PlateCategory.POSTRE, PlateMenuView.FULL, null, 5))
+                    .thenReturn(menu("Flan"));
+            when(delegate.findActiveByRestaurantAfter(1L, PlateCategory.POSTRE, PlateMenuView.FULL, cursor, 5))
+                    .thenReturn(menu("Tiramisu"));
+
+            // When
+            adapter.findActiveByRestaurantAfter(1L, PlateCategory.POSTRE, PlateMenuView.FULL, null, 5);
+            adapter.findActiveByRestaurantAfter(
+                    1L, PlateCategory.POSTRE, PlateMenuView.FULL, new KeysetCursor("Flan", 7L), 5);
+            SliceModel<PlateMenuItem> result =
+                    adapter.findActiveByRestaurantAfter(
+                            1L, PlateCategory.POSTRE, PlateMenuView.FULL, new KeysetCursor("Flan", 7L), 5);
+
+            // Then
+            assertThat(result.items()).extracting(PlateMenuItem::name).containsExactly("Tiramisu");
+            verify(delegate, times(1)).findActiveByRestaurantAfter(
+                    1L, PlateCategory.POSTRE, PlateMenuView.FULL, cursor, 5);
+        }
+
+        @Test
+        @DisplayName("Should cache each view of the same page separately")
+        void shouldKeyPagesByView() {
+            // Given
+            when(delegate.findActiveByRestaurant(1L, null, PlateMenuView.FULL, 0, 10)).thenReturn(menu("Flan"));
+            when(delegate.findActiveByRestaurant(1L, null, PlateMenuView.SUMMARY, 0, 10))
+                    .thenReturn(menu("Flan summary"));
+
+            // When
+            adapter.findActiveByRestaurant(1L, null, PlateMenuView.FULL, 0, 10);
+            SliceModel<PlateMenuItem> summary = adapter.findActiveByRestaurant(1L, null, PlateMenuView.SUMMARY, 0, 10);
+
+            // Then
+            assertThat(summary.items()).extracting(PlateMenuItem::name).containsExactly("Flan summary");
+            assertThat(gets("miss")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should evict the least useful entries beyond the maximum size")
+        void shouldBoundEntries() {
+            // Given
+            MeterRegistry registry = new SimpleMeterRegistry();
+            CachingPlateQueryAdapter small = new CachingPlateQueryAdapter(delegate, registry, 2, TTL, Runnable::run);
+            when(delegate.findActiveByRestaurant(any(), any(), eq(PlateMenuView.FULL), anyInt(), anyInt()))
+                    .thenReturn(menu("Flan"));
+
+            // When
+            for (long restaurantId = 1; restaurantId <= 10; restaurantId++) {
+                small.findActiveByRestaurant(restaurantId, null, PlateMenuView.FULL, 0, 10);
+            }
+
+            // Then
+            assertThat(registry.get("cache.size").tag("cache", "plate.menu").gauge().value()).isEqualTo(2);
+            assertThat(registry.get("cache.evictions").tag("cache", "plate.menu").functionCounter().count())
+                    .isEqualTo(8);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should drop every page of the changed restaurant and keep the others")
+        void shouldInvalidateOnlyTheChangedRestaurant() {
+            // Given
+            when(delegate.findActiveByRestaurant(eq(1L), any(), eq(PlateMenuView.FULL), anyInt(), anyInt()))
+                    .thenReturn(menu("Flan"))
+                    .thenReturn(menu("Flan v2"));
+            when(delegate.findActiveByRestaurant(eq(2L), any(), eq(PlateMenuView.FULL), anyInt(), anyInt()))
+                    .thenReturn(menu("Arepa"));
+            adapter.findActiveByRestaurant(1L, null, PlateMenuView.FULL, 0, 10);
+            adapter.findActiveByRestaurant(2L, null, PlateMenuView.FULL, 0, 10);
+
+            // When
+            adapter.invalidate(1L);
+            SliceModel<PlateMenuItem> changed = adapter.findActiveByRestaurant(1L, null, PlateMenuView.FULL, 0, 10);
+            adapter.findActiveByRestaurant(2L, null, PlateMenuView.FULL, 0, 10);
+
+            // Then
+            assertThat(changed.items()).extracting(PlateMenuItem::name).containsExactly("Flan v2");
+            verify(delegate, times(2)).findActiveByRestaurant(1L, null, PlateMenuView.FULL, 0, 10);
+            verify(delegate, times(1)).findActiveByRestaurant(2L, null, PlateMenuView.FULL, 0, 10);
+            assertThat(meterRegistry.get("plate.menu.cache.invalidations").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should remove the superseded pages instead of leaving them to the size bound")
+        void shouldRemoveSupersededPages() {
+            // Given
+            when(delegate.findActiveByRestaurant(any(), any(), eq(PlateMenuView.FULL), anyInt(), anyInt()))
+                    .thenReturn(menu("Flan"));
+            when(delegate.findActiveByRestaurantAfter(any(), any(), eq(PlateMenuView.FULL), any(), anyInt()))
+                    .thenReturn(menu("Flan"));
+            adapter.findActiveByRestaurant(1L, null, PlateMenuView.FULL, 0, 10);
+            adapter.findActiveByRestaurant(1L, PlateCategory.POSTRE, PlateMenuView.FULL, 0, 10);
+            adapter.findActiveByRestaurantAfter(1L, null, PlateMenuView.FULL, new KeysetCursor("Flan", 7L), 10);
+            adapter.findActiveByRestaurant(2L, null, PlateMenuView.FULL, 0, 10);
+
+            // When
+            adapter.invalidate(1L);
+            adapter.invalidate(1L);
+
+            // Then: solo queda la página del restaurante 2 y el retiro no cuenta como desalojo
+            assertThat(meterRegistry.get("cache.size").tag("cache", "plate.menu").gauge().value()).isEqualTo(1);
+            assertThat(meterRegistry.get("cache.evictions").tag("cache", "plate.menu").functionCounter().count())
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("Should not keep a menu loaded before the change once the change is applied")
+        void shouldNotCacheLoadRacingTheInvalidation() throws Exception {
+            // Given: una carga lenta que leyó el menú anterior sigue en curso durante la invalidación
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(delegate.findActiveByRestaurant(1L, null, PlateMenuView.FULL, 0, 10)).thenAnswer(invocation -> {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return menu("Flan");
+            }).thenReturn(menu("Flan v2"));
+            CompletableFuture<SliceModel<PlateMenuItem>> slowReader =
+                    CompletableFuture.supplyAsync(() -> adapter.findActiveByRestaurant(
+                            1L, null, PlateMenuView.FULL, 0, 10));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            adapter.invalidate(1L);
+            release.countDown();
+            slowReader.get(5, TimeUnit.SECONDS);
+            SliceModel<PlateMenuItem> afterChange = adapter.findActiveByRestaurant(1L, null, PlateMenuView.FULL, 0, 10);
+
+            // Then
+            assertThat(afterChange.items()).extracting(PlateMenuItem::name).containsExactly("Flan v2");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserFeignPort;
+import com.pragma.powerup.infrastructure.out.cache.CachingUserFeignAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitarios para CachingUserFeignAdapter
+ * Valida la carga única por usuario, el servicio de entradas obsoletas y sus métricas
+ */
+class CachingUserFeignAdapterTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration MAX_STALE = Duration.ofMinutes(10);
+
+    private IUserFeignPort delegate;
+    private MeterRegistry meterRegistry;
+    private AtomicLong now;
+    private CachingUserFeignAdapter adapter;
+
+    private static UserModel owner(Long id) {
+        UserModel user = new UserModel();
+        user.setId(id);
+        user.setRole(RoleEnum.OWNER);
+        return user;
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(IUserFeignPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong();
+        // Refrescos en el hilo del test para que sean deterministas
+        adapter = new CachingUserFeignAdapter(
+                delegate, meterRegistry, TTL, MAX_STALE, 100, now::get, Runnable::run);
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should call the users service once per user within the ttl")
+        void shouldServeFromCache() {
+            // Given
+            when(delegate.getUserById(100L)).thenReturn(owner(100L));
+
+            // When
+            adapter.getUserById(100L);
+            advance(TTL.minusSeconds(1));
+            UserModel result = adapter.getUserById(100L);
+
+            // Then
+            assertThat(result.getRole()).isEqualTo(RoleEnum.OWNER);
+            verify(delegate, times(1)).getUserById(100L);
+            assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry.get("users.service.load").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should share one remote call between concurrent lookups of the same user")
+        void shouldSingleFlightConcurrentLookups() throws Exception {
+            // Given
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger remoteCalls = new AtomicInteger();
+            when(delegate.getUserById(100L)).thenAnswer(invocation -> {
+                remoteCalls.incrementAndGet();
+                release.await(5, TimeUnit.SECONDS);
+                return owner(100L);
+            });
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            List<Future<UserModel>> lookups = new ArrayList<>();
+
+            // When
+            for (int i = 0; i < 8; i++) {
+                lookups.add(pool.submit(() -> adapter.getUserById(100L)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            for (Future<UserModel> lookup : lookups) {
+                assertThat(lookup.get(5, TimeUnit.SECONDS).getId()).isEqualTo(100L);
+            }
+            pool.shutdown();
+            assertThat(remoteCalls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Should pass isUserActive through to the users service")
+        void shouldNotCacheActiveStatus() {
+            // Given
+            when(delegate.isUserActive(100L)).thenReturn(true, false);
+
+            // When & Then
+            assertThat(adapter.isUserActive(100L)).isTrue();
+            assertThat(adapter.isUserActive(100L)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Stale Entry Tests")
+    class StaleEntryTests {
+
+        @Test
+        @DisplayName("Should keep serving the stale entry while the refresh fails")
+        void shouldServeStaleWhenRefreshFails() {
+            // Given
+            when(delegate.getUserById(100L))
+                    .thenReturn(owner(100L))
+                    .thenThrow(new IllegalStateException("users service down"));
+            adapter.getUserById(100L);
+            advance(TTL.plusMinutes(1));
+
+            // When
+            UserModel result = adapter.getUserById(100L);
+
+            // Then
+            assertThat(result.getId()).isEqualTo(100L);
+            assertThat(meterRegistry.get("users.service.stale.served").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should replace the entry once the background refresh succeeds")
+        void shouldRefreshAfterTtl() {
+            // Given
+            UserModel demoted = owner(100L);
+            demoted.setRole(RoleEnum.CUSTOMER);
+            when(delegate.getUserById(100L)).thenReturn(owner(100L), demoted);
+            adapter.getUserById(100L);
+            advance(TTL.plusSeconds(1));
+
+            // When
+            adapter.getUserById(100L);
+            UserModel refreshed = adapter.getUserById(100L);
+
+            // Then
+            assertThat(refreshed.getRole()).isEqualTo(RoleEnum.CUSTOMER);
+            verify(delegate, times(2)).getUserById(100L);
+        }
+
+        @Test
+        @DisplayName("Should stop serving the entry after ttl plus max stale")
+        void shouldExpireAfterMaxStale() {
+            // Given
+            when(delegate.getUserById(100L))
+                    .thenReturn(owner(100L))
+                    .thenThrow(new IllegalStateException("users service down"));
+            adapter.getUserById(100L);
+            advance(TTL.plus(MAX_STALE).plusSeconds(1));
+
+            // When & Then
+            assertThatThrownBy(() -> adapter.getUserById(100L)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
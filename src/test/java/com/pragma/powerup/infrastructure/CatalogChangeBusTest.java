@@ -0,0 +1,212 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pragma.powerup.PowerUpApplication;
+import com.pragma.powerup.application.dto.request.PlateUpdateRequestDto;
+import com.pragma.powerup.application.dto.response.PlateMenuItemDto;
+import com.pragma.powerup.application.handler.IPlateHandler;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.domain.spi.ICatalogChangePort;
+import com.pragma.powerup.infrastructure.out.bus.CatalogVersions;
+import com.pragma.powerup.infrastructure.out.jpa.routing.CatalogReadRouting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests de integración para el bus de cambios del catálogo
+ * Valida con varias instancias de la aplicación en la misma JVM, sobre la misma base H2, que una escritura en una
+ * invalida la caché del menú de las demás y les deja la misma versión, que las escrituras revertidas no se publican
+ * y la métrica de latencia, también cuando un id menor confirma después de uno mayor
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CatalogChangeBusTest {
+
+    private static final long OWNER_ID = 9_700L;
+    private static final int OTHER_NODES = 2;
+    private static final long PROPAGATION_TIMEOUT_MILLIS = 5_000;
+
+    @Autowired
+    private IPlateHandler plateHandler;
+
+    @Autowired
+    private ICatalogChangePort catalogChangePort;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<ConfigurableApplicationContext> otherNodes = new ArrayList<>();
+    private long restaurantId;
+    private long otherRestaurantId;
+    private long plateId;
+
+    @BeforeAll
+    void startNodes() {
+        jdbcTemplate.update("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                + " values ('Bus Bistro', 'change-bus-1', 'Main St', '+573001234567', 'https://logo', ?)", OWNER_ID);
+        restaurantId = jdbcTemplate.queryForObject("select id from restaurant where nit = 'change-bus-1'", Long.class);
+        jdbcTemplate.update("insert into plate (name, price, description, image_url, category, active, restaurant_id)"
+                + " values ('Stew', 10000, 'Beef stew', 'https://img', 'PRINCIPAL', true, ?)", restaurantId);
+        jdbcTemplate.update("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                + " values ('Bus Bakery', 'change-bus-2', 'Main St', '+573001234567', 'https://logo', ?)", OWNER_ID);
+        otherRestaurantId = jdbcTemplate.queryForObject(
+                "select id from restaurant where nit = 'change-bus-2'", Long.class);
+        plateId = jdbcTemplate.queryForObject(
+                "select id from plate where restaurant_id = ? and name = 'Stew'", Long.class, restaurantId);
+        // Mismo application.yml de pruebas: todas las instancias comparten jdbc:h2:mem:powerup
+        for (int i = 0; i < OTHER_NODES; i++) {
+            otherNodes.add(new SpringApplicationBuilder(PowerUpApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .properties("spring.application.name=powerup-node-" + i)
+                    .run());
+        }
+    }
+
+    @AfterAll
+    void stopNodes() {
+        otherNodes.forEach(ConfigurableApplicationContext::close);
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", restaurantId);
+        jdbcTemplate.update("delete from restaurant where nit in ('change-bus-1', 'change-bus-2')");
+    }
+
+    private List<PlateMenuItemDto> menu(IPlateHandler handler) {
+        return handler.listByRestaurant(restaurantId, null, PlateMenuView.FULL, 0, 20, false).getItems();
+    }
+
+    private int stewPrice(IPlateHandler handler) {
+        return menu(handler).stream().filter(item -> item.getId().equals(plateId)).findFirst().orElseThrow().getPrice();
+    }
+
+    private static double invalidations(ConfigurableApplicationContext node) {
+        return node.getBean(MeterRegistry.class).get("plate.menu.cache.invalidations").counter().count();
+    }
+
+    private long storedVersion(long id) {
+        return jdbcTemplate.queryForObject("select catalog_version from restaurant where id = ?", Long.class, id);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long start = System.nanoTime();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - start)
+                    .as("propagation within %d ms", PROPAGATION_TIMEOUT_MILLIS)
+                    .isLessThan(TimeUnit.MILLISECONDS.toNanos(PROPAGATION_TIMEOUT_MILLIS));
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Should refresh the cached menu of every other instance after a plate update")
+    void shouldPropagateMenuChangeToOtherNodes() throws Exception {
+        // Given: cada instancia ya tiene el menú en su caché (el ttl de 60 s lo serviría obsoleto sin el bus)
+        int before = stewPrice(plateHandler);
+        for (ConfigurableApplicationContext node : otherNodes) {
+            assertThat(stewPrice(node.getBean(IPlateHandler.class))).isEqualTo(before);
+        }
+
+        // When
+        PlateUpdateRequestDto update = new PlateUpdateRequestDto();
+        update.setPrice(before + 500);
+        update.setDescription("Slow-cooked beef stew");
+        plateHandler.update(plateId, update, OWNER_ID);
+
+        // Then
+        for (ConfigurableApplicationContext node : otherNodes) {
+            IPlateHandler handler = node.getBean(IPlateHandler.class);
+            await(() -> stewPrice(handler) == before + 500);
+            Timer propagation = node.getBean(MeterRegistry.class)
+                    .get("catalog.change.propagation").tag("transport", "polling").timer();
+            assertThat(propagation.count()).isPositive();
+            assertThat(propagation.max(TimeUnit.MILLISECONDS)).isLessThan(PROPAGATION_TIMEOUT_MILLIS);
+            // La recarga tras el aviso lee del primario, no de una réplica que aún no lo tenga
+            assertThat(node.getBean(CatalogReadRouting.class).recentlyWritten(restaurantId)).isTrue();
+            assertThat(node.getBean(CatalogVersions.class).restaurantVersion(restaurantId))
+                    .isEqualTo(catalogVersions.restaurantVersion(restaurantId))
+                    .isEqualTo(jdbcTemplate.queryForObject(
+                            "select catalog_version from restaurant where id = ?", Long.class, restaurantId));
+        }
+    }
+
+    @Test
+    @DisplayName("Should broadcast restaurant changes and nothing for a rolled-back write")
+    void shouldPublishOnlyCommittedChanges() throws Exception {
+        // Given
+        ConfigurableApplicationContext node = otherNodes.get(0);
+        long rows = jdbcTemplate.queryForObject("select count(*) from catalog_change", Long.class);
+
+        // When: la escritura revertida no deja fila ni aviso
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            catalogChangePort.menuChanged(restaurantId);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from catalog_change", Long.class)).isEqualTo(rows);
+
+        // When
+        double invalidated = invalidations(node);
+        catalogChangePort.restaurantChanged(restaurantId);
+
+        // Then
+        await(() -> invalidations(node) > invalidated);
+        assertThat(jdbcTemplate.queryForObject(
+                "select kind from catalog_change where restaurant_id = ? order by id desc limit 1",
+                String.class, restaurantId)).isEqualTo("RESTAURANT");
+    }
+
+    @Test
+    @DisplayName("Should deliver a change whose lower id commits after a higher one was already polled")
+    void shouldDeliverLateCommitWithLowerId() throws Exception {
+        // Given: una transacción toma su id y no confirma hasta que otra, con id mayor, ya se sondeó
+        CatalogVersions nodeVersions = otherNodes.get(0).getBean(CatalogVersions.class);
+        CountDownLatch idTaken = new CountDownLatch(1);
+        CountDownLatch higherPolled = new CountDownLatch(1);
+        CompletableFuture<Void> late = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    catalogChangePort.menuChanged(restaurantId);
+                    idTaken.countDown();
+                    try {
+                        higherPolled.await(PROPAGATION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(idTaken.await(PROPAGATION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        catalogChangePort.menuChanged(otherRestaurantId);
+        await(() -> Long.valueOf(storedVersion(otherRestaurantId))
+                .equals(nodeVersions.restaurantVersion(otherRestaurantId)));
+
+        // When
+        higherPolled.countDown();
+        late.get(PROPAGATION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        // Then
+        await(() -> Long.valueOf(storedVersion(restaurantId)).equals(nodeVersions.restaurantVersion(restaurantId)));
+    }
+}
@@ -0,0 +1,189 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.pragma.powerup.application.dto.request.PlateUpdateRequestDto;
+import com.pragma.powerup.application.handler.IPlateHandler;
+import com.pragma.powerup.domain.spi.ICatalogChangePort;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Tests de integración para los ETag de las lecturas del catálogo
+ * Valida que un If-None-Match vigente se responda 304 sin consultas y que una escritura cambie el ETag del menú
+ * y del directorio
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CatalogETagTest {
+
+    private static final long OWNER_ID = 9_900L;
+    private static final String PUBLIC_CACHE_CONTROL = "max-age=0, must-revalidate, public";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IPlateHandler plateHandler;
+
+    @Autowired
+    private ICatalogChangePort catalogChangePort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private long restaurantId;
+    private long plateId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                + " values ('Tag Tavern', 'etag-1', 'Main St', '+573001234567', 'https://logo', ?)", OWNER_ID);
+        restaurantId = jdbcTemplate.queryForObject("select id from restaurant where nit = 'etag-1'", Long.class);
+        jdbcTemplate.update("insert into plate (name, price, description, image_url, category, active, restaurant_id)"
+                + " values ('Tacos', 7000, 'Pork tacos', 'https://img', 'PRINCIPAL', true, ?)", restaurantId);
+        plateId = jdbcTemplate.queryForObject(
+                "select id from plate where restaurant_id = ? and name = 'Tacos'", Long.class, restaurantId);
+        // Insertado por SQL: el aviso le da versión al restaurante
+        catalogChangePort.restaurantChanged(restaurantId);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        statistics.setStatisticsEnabled(false);
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", restaurantId);
+        jdbcTemplate.update("delete from restaurant where nit = 'etag-1'");
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics.clear();
+    }
+
+    private String menuETag() throws Exception {
+        return mockMvc.perform(get("/api/v1/plates/restaurant/{id}", restaurantId).param("page", "0"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", PUBLIC_CACHE_CONTROL))
+                .andReturn().getResponse().getHeader("ETag");
+    }
+
+    private String directoryETag() throws Exception {
+        return mockMvc.perform(get("/api/v1/restaurants").param("page", "0"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", PUBLIC_CACHE_CONTROL))
+                .andReturn().getResponse().getHeader("ETag");
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for an unchanged menu without running statements and 200 after a write")
+    void shouldRevalidateMenuPage() throws Exception {
+        // Given
+        String etag = menuETag();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/v1/plates/restaurant/{id}", restaurantId).param("page", "0")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().string("Cache-Control", PUBLIC_CACHE_CONTROL));
+
+        // Then
+        assertThat(etag).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // When
+        PlateUpdateRequestDto update = new PlateUpdateRequestDto();
+        update.setPrice(7_500);
+        update.setDescription("Pork tacos with pineapple");
+        plateHandler.update(plateId, update, OWNER_ID);
+
+        // Then
+        String changed = mockMvc.perform(get("/api/v1/plates/restaurant/{id}", restaurantId).param("page", "0")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(changed).isNotNull().isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for an unchanged directory and change its ETag after a restaurant write")
+    void shouldRevalidateDirectoryPage() throws Exception {
+        // Given
+        String etag = directoryETag();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/v1/restaurants").param("page", "0").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // When
+        catalogChangePort.restaurantChanged(restaurantId);
+
+        // Then
+        assertThat(directoryETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for unchanged cursor listings of the menu and the directory")
+    void shouldRevalidateCursorListings() throws Exception {
+        // Given
+        String menuETag = mockMvc.perform(get("/api/v1/plates/restaurant/{id}", restaurantId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", PUBLIC_CACHE_CONTROL))
+                .andReturn().getResponse().getHeader("ETag");
+        String directoryETag = mockMvc.perform(get("/api/v1/restaurants"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", PUBLIC_CACHE_CONTROL))
+                .andReturn().getResponse().getHeader("ETag");
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/v1/plates/restaurant/{id}", restaurantId).header("If-None-Match", menuETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", menuETag));
+        mockMvc.perform(get("/api/v1/restaurants").header("If-None-Match", directoryETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", directoryETag));
+
+        // Then
+        assertThat(menuETag).isNotNull();
+        assertThat(directoryETag).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not tag listings with an approximate total nor unknown restaurants")
+    void shouldNotTagUnversionedResponses() throws Exception {
+        mockMvc.perform(get("/api/v1/restaurants").param("page", "0").param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"));
+        mockMvc.perform(get("/api/v1/plates/restaurant/{id}", Long.MAX_VALUE).param("page", "0"))
+                .andExpect(header().doesNotExist("ETag"));
+    }
+}
@@ -0,0 +1,135 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.pragma.powerup.domain.model.KeysetCursor;
+import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateMenuItem;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.domain.model.RestaurantSummary;
+import com.pragma.powerup.domain.spi.IPlateQueryPort;
+import com.pragma.powerup.domain.spi.IRestaurantQueryPort;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Tests de integración para las proyecciones de los listados del catálogo
+ * Valida que los listados no cargan entidades, que el menú conserva los campos de la respuesta de plato y que la
+ * vista SUMMARY los devuelve sin la descripción
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CatalogProjectionTest {
+
+    private static final long RESTAURANT_ID = 9_002L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private IRestaurantQueryPort restaurantQueryPort;
+
+    @Autowired
+    private IPlateQueryPort plateQueryPort;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                + " values ('Projection Bistro', 'projection-1', 'Main St', '+573001234567', 'https://logo', 900)");
+        jdbcTemplate.update("insert into plate (name, price, description, image_url, category, active, restaurant_id)"
+                + " values ('Soup', 9000, ?, 'https://img', 'ENTRADA', true, ?)", "x".repeat(1000), RESTAURANT_ID);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        statistics.setStatisticsEnabled(false);
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", RESTAURANT_ID);
+        jdbcTemplate.update("delete from restaurant where nit = 'projection-1'");
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should list the directory and the menu without loading any entity")
+    void shouldNotLoadEntities() {
+        // When
+        List<RestaurantSummary> restaurants = restaurantQueryPort.findAllOrderedByName(0, 50).items();
+        List<PlateMenuItem> byPage = plateQueryPort.findActiveByRestaurant(
+                RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10).items();
+        List<PlateMenuItem> byCursor =
+                plateQueryPort.findActiveByRestaurantAfter(RESTAURANT_ID, null, PlateMenuView.FULL, null, 10).items();
+
+        // Then
+        assertThat(restaurants).extracting(RestaurantSummary::name).contains("Projection Bistro");
+        assertThat(byPage).extracting(PlateMenuItem::name).containsExactly("Soup");
+        assertThat(byCursor).isEqualTo(byPage);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should serve the menu with the plate response fields")
+    void shouldServeMenuWithPlateResponseFields() throws Exception {
+        mockMvc.perform(get("/api/v1/plates/restaurant/" + RESTAURANT_ID).param("page", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Soup"))
+                .andExpect(jsonPath("$[0].price").value(9000))
+                .andExpect(jsonPath("$[0].category").value("ENTRADA"))
+                .andExpect(jsonPath("$[0].description").value("x".repeat(1000)))
+                .andExpect(jsonPath("$[0].active").value(true))
+                .andExpect(jsonPath("$[0].restaurantId").value(RESTAURANT_ID));
+    }
+
+    @Test
+    @DisplayName("Should leave the description out of the summary view")
+    void shouldServeSummaryWithoutDescription() throws Exception {
+        // When
+        List<PlateMenuItem> byPage = plateQueryPort.findActiveByRestaurant(
+                RESTAURANT_ID, PlateCategory.ENTRADA, PlateMenuView.SUMMARY, 0, 10).items();
+        List<PlateMenuItem> byCursor = plateQueryPort.findActiveByRestaurantAfter(
+                RESTAURANT_ID, null, PlateMenuView.SUMMARY, new KeysetCursor("A", 0L), 10).items();
+
+        // Then
+        assertThat(byPage).containsExactly(new PlateMenuItem(
+                byPage.get(0).id(), "Soup", 9000, "https://img", PlateCategory.ENTRADA, RESTAURANT_ID));
+        assertThat(byCursor).isEqualTo(byPage);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        mockMvc.perform(get("/api/v1/plates/restaurant/" + RESTAURANT_ID).param("view", "SUMMARY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Soup"))
+                .andExpect(jsonPath("$[0].price").value(9000))
+                .andExpect(jsonPath("$[0].imageUrl").value("https://img"))
+                .andExpect(jsonPath("$[0].active").value(true))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+    }
+}
@@ -0,0 +1,254 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IPlateRepository;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IRestaurantRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Tests de planes de ejecución para las consultas de listado del catálogo
+ * Captura el SQL que Hibernate genera con el dialecto de producción (PostgreSQL) para los métodos de los
+ * repositorios y lo explica con sus parámetros sobre un catálogo migrado con Flyway: en H2 valida los índices
+ * usados; en PostgreSQL, que la vista SUMMARY y el directorio se resuelven con index-only scans y que la vista
+ * FULL, que lee la descripción de la tabla, usa un index scan sin ordenar. La parte PostgreSQL se ejecuta si
+ * CATALOG_PLAN_PG_URL apunta a una base vacía, p. ej. jdbc:postgresql://localhost:5432/plans?user=postgres
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.pragma.powerup.infrastructure.CatalogQueryPlanTest$RecordingInspector"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CatalogQueryPlanTest {
+
+    private static final long RESTAURANT_ID = 7L;
+    private static final String CATEGORY = PlateCategory.POSTRE.name();
+    private static final int LIMIT = 11;
+
+    /** Guarda las sentencias del hilo que graba; las de los hilos en segundo plano se ignoran. */
+    public static class RecordingInspector implements StatementInspector {
+        private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> recorded = RECORDING.get();
+            if (recorded != null) {
+                recorded.add(sql);
+            }
+            return sql;
+        }
+    }
+
+    /** SQL generado por Hibernate y los valores de sus parámetros en el orden de los "?". */
+    private record Statement(String sql, Object... parameters) {
+    }
+
+    @Autowired
+    private IPlateRepository plateRepository;
+
+    @Autowired
+    private IRestaurantRepository restaurantRepository;
+
+    private Statement menuFirst;
+    private Statement menuAfter;
+    private Statement menuByCategoryFirst;
+    private Statement menuByCategoryAfter;
+    private Statement menuPage;
+    private Statement summaryFirst;
+    private Statement summaryAfter;
+    private Statement summaryByCategoryFirst;
+    private Statement summaryByCategoryAfter;
+    private Statement summaryPage;
+    private Statement directoryFirst;
+    private Statement directoryAfter;
+
+    private static Statement capture(Runnable query, Object... parameters) {
+        List<String> recorded = new ArrayList<>();
+        RecordingInspector.RECORDING.set(recorded);
+        try {
+            query.run();
+        } finally {
+            RecordingInspector.RECORDING.remove();
+        }
+        assertThat(recorded).hasSize(1);
+        String sql = recorded.get(0);
+        assertThat(sql.chars().filter(c -> c == '?').count()).as(sql).isEqualTo(parameters.length);
+        return new Statement(sql, parameters);
+    }
+
+    @BeforeAll
+    void captureStatements() {
+        PlateCategory category = PlateCategory.POSTRE;
+        Limit limit = Limit.of(LIMIT);
+        var page = PageRequest.of(0, LIMIT - 1, Sort.by("name", "id").ascending());
+        long id = RESTAURANT_ID;
+        menuFirst = capture(() -> plateRepository.findMenuFirst(id, limit), id, LIMIT);
+        menuAfter = capture(() -> plateRepository.findMenuAfter(id, "Plate 1", 1L, limit),
+                id, "Plate 1", "Plate 1", 1L, LIMIT);
+        menuByCategoryFirst = capture(() -> plateRepository.findMenuByCategoryFirst(id, category, limit),
+                id, CATEGORY, LIMIT);
+        menuByCategoryAfter = capture(
+                () -> plateRepository.findMenuByCategoryAfter(id, category, "Plate 1", 1L, limit),
+                id, CATEGORY, "Plate 1", "Plate 1", 1L, LIMIT);
+        menuPage = capture(() -> plateRepository.findMenu(id, page), id, LIMIT);
+        summaryFirst = capture(() -> plateRepository.findMenuSummaryFirst(id, limit), id, LIMIT);
+        summaryAfter = capture(() -> plateRepository.findMenuSummaryAfter(id, "Plate 1", 1L, limit),
+                id, "Plate 1", "Plate 1", 1L, LIMIT);
+        summaryByCategoryFirst = capture(
+                () -> plateRepository.findMenuSummaryByCategoryFirst(id, category, limit), id, CATEGORY, LIMIT);
+        summaryByCategoryAfter = capture(
+                () -> plateRepository.findMenuSummaryByCategoryAfter(id, category, "Plate 1", 1L, limit),
+                id, CATEGORY, "Plate 1", "Plate 1", 1L, LIMIT);
+        summaryPage = capture(() -> plateRepository.findMenuSummary(id, page), id, LIMIT);
+        directoryFirst = capture(() -> restaurantRepository.findSummariesFirst(limit), LIMIT);
+        directoryAfter = capture(() -> restaurantRepository.findSummariesAfter("Restaurant 1", 1L, limit),
+                "Restaurant 1", "Restaurant 1", 1L, LIMIT);
+    }
+
+    /** Aplica las migraciones del proveedor y carga un catálogo con 20 restaurantes y 400 platos. */
+    private static JdbcTemplate migrateAndSeed(SingleConnectionDataSource dataSource, String vendor) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/" + vendor)
+                .cleanDisabled(false)
+                .load()
+                .migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        for (int r = 1; r <= 20; r++) {
+            jdbc.update("insert into restaurant (id, name, nit, address, phone, logo_url, owner_id)"
+                    + " values (?, ?, ?, 'Main St', '+573001234567', 'https://logo', ?)", r, "Restaurant " + r,
+                    "nit" + r, r);
+        }
+        PlateCategory[] categories = PlateCategory.values();
+        for (int p = 0; p < 400; p++) {
+            jdbc.update("insert into plate (name, price, description, image_url, category, active, restaurant_id)"
+                            + " values (?, 10000, ?, 'https://img', ?, ?, ?)",
+                    "Plate " + p, "x".repeat(1000), categories[p % categories.length].name(), p % 5 != 0,
+                    1 + p % 20);
+        }
+        return jdbc;
+    }
+
+    @Nested
+    @DisplayName("H2 Plan Tests")
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    class H2PlanTests {
+
+        private JdbcTemplate jdbc;
+
+        @BeforeAll
+        void setUp() {
+            jdbc = migrateAndSeed(new SingleConnectionDataSource(
+                    "jdbc:h2:mem:plans;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE", "sa", "", true), "h2");
+        }
+
+        private String plan(Statement statement) {
+            return jdbc.queryForObject("EXPLAIN " + statement.sql(), String.class, statement.parameters());
+        }
+
+        @Test
+        @DisplayName("Should read both menu views through the menu indexes")
+        void shouldUseMenuIndexes() {
+            for (Statement menu : List.of(menuFirst, menuPage, summaryFirst, summaryPage)) {
+                assertThat(plan(menu)).as(menu.sql()).contains("ix_plate_menu:");
+            }
+            for (Statement menu : List.of(menuByCategoryFirst, summaryByCategoryFirst)) {
+                assertThat(plan(menu)).as(menu.sql()).contains("ix_plate_menu_category:");
+            }
+        }
+
+        @Test
+        @DisplayName("Should seek past the cursor through an index on restaurant and name")
+        void shouldSeekThroughRestaurantNameIndex() {
+            // Sin índices parciales, H2 tiene active antes de name en ix_plate_menu y busca por la clave única
+            for (Statement menu : List.of(menuAfter, menuByCategoryAfter, summaryAfter, summaryByCategoryAfter)) {
+                assertThat(plan(menu)).as(menu.sql())
+                        .contains("uk_plate_restaurant_name")
+                        .contains("name >= ?")
+                        .contains("restaurant_id = ?1");
+            }
+        }
+
+        @Test
+        @DisplayName("Should read the directory in index order without sorting")
+        void shouldUseDirectoryIndex() {
+            assertThat(plan(directoryFirst)).contains("ix_restaurant_name").contains("index sorted");
+            assertThat(plan(directoryAfter)).contains("ix_restaurant_name: name >= ?1").contains("index sorted");
+        }
+    }
+
+    @Nested
+    @DisplayName("PostgreSQL Plan Tests")
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    @EnabledIfEnvironmentVariable(named = "CATALOG_PLAN_PG_URL", matches = "jdbc:postgresql:.+")
+    class PostgresPlanTests {
+
+        private JdbcTemplate jdbc;
+
+        @BeforeAll
+        void setUp() {
+            jdbc = migrateAndSeed(
+                    new SingleConnectionDataSource(System.getenv("CATALOG_PLAN_PG_URL"), true), "postgresql");
+            // Index-only scans necesitan el visibility map al día; con tablas tan pequeñas se fuerza el índice
+            jdbc.execute("VACUUM ANALYZE plate");
+            jdbc.execute("VACUUM ANALYZE restaurant");
+            jdbc.execute("SET enable_seqscan = off");
+            jdbc.execute("SET enable_bitmapscan = off");
+        }
+
+        private String plan(Statement statement) {
+            return String.join("\n",
+                    jdbc.queryForList("EXPLAIN " + statement.sql(), String.class, statement.parameters()));
+        }
+
+        @Test
+        @DisplayName("Should answer the summary view and the directory with index-only scans and no sort")
+        void shouldUseIndexOnlyScans() {
+            for (Statement menu : List.of(summaryFirst, summaryAfter, summaryPage)) {
+                assertThat(plan(menu)).as(menu.sql())
+                        .contains("Index Only Scan using ix_plate_menu ")
+                        .doesNotContain("Sort");
+            }
+            for (Statement menu : List.of(summaryByCategoryFirst, summaryByCategoryAfter)) {
+                assertThat(plan(menu)).as(menu.sql())
+                        .contains("Index Only Scan using ix_plate_menu_category")
+                        .doesNotContain("Sort");
+            }
+            for (Statement directory : List.of(directoryFirst, directoryAfter)) {
+                assertThat(plan(directory)).as(directory.sql())
+                        .contains("Index Only Scan using ix_restaurant_name")
+                        .doesNotContain("Sort");
+            }
+        }
+
+        @Test
+        @DisplayName("Should read the full view in index order, visiting the table for the description")
+        void shouldUseIndexScansForFullView() {
+            for (Statement menu : List.of(menuFirst, menuAfter, menuPage, menuByCategoryFirst, menuByCategoryAfter)) {
+                assertThat(plan(menu)).as(menu.sql())
+                        .contains("Index Scan using ")
+                        .doesNotContain("Index Only Scan")
+                        .doesNotContain("Sort");
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.pragma.powerup.application.handler.IPlateHandler;
+import com.pragma.powerup.application.handler.IRestaurantHandler;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.domain.spi.IRestaurantQueryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Tests de integración para las transacciones de lectura del catálogo
+ * Valida que las lecturas usan una sesión read-only sin flush y mide cuánto tiempo retiene cada
+ * petición una conexión del pool con Open-Session-In-View (antes) y sin él (después)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(CatalogReadTransactionTest.SlowCompletionConfiguration.class)
+class CatalogReadTransactionTest {
+
+    private static final long COMPLETION_DELAY_MS = 50;
+    private static final int REQUESTS = 20;
+    private static final long MENU_RESTAURANT_ID = 9_850L;
+
+    /** Simula trabajo posterior al handler (serialización lenta, filtros de respuesta). */
+    @TestConfiguration
+    static class SlowCompletionConfiguration implements WebMvcConfigurer {
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new HandlerInterceptor() {
+                @Override
+                public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                        ModelAndView modelAndView) throws InterruptedException {
+                    Thread.sleep(COMPLETION_DELAY_MS);
+                }
+            });
+        }
+    }
+
+    /** Media de hikaricp.connections.usage (ms) en {@link #REQUESTS} listados del directorio. */
+    private static double meanConnectionHoldMillis(MockMvc mockMvc, MeterRegistry meterRegistry) throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v1/restaurants").param("page", "0")).andExpect(status().isOk());
+        }
+        Timer usage = meterRegistry.get("hikaricp.connections.usage").timer();
+        long countBefore = usage.count();
+        double totalBefore = usage.totalTime(TimeUnit.MILLISECONDS);
+        for (int i = 0; i < REQUESTS; i++) {
+            mockMvc.perform(get("/api/v1/restaurants").param("page", "0")).andExpect(status().isOk());
+        }
+        long connections = usage.count() - countBefore;
+        assertThat(connections).isGreaterThanOrEqualTo(REQUESTS);
+        return (usage.totalTime(TimeUnit.MILLISECONDS) - totalBefore) / connections;
+    }
+
+    @Nested
+    @DisplayName("Read-Only Transaction Tests")
+    class ReadOnlyTransactionTests {
+
+        @MockitoSpyBean
+        private IRestaurantQueryPort restaurantQueryPort;
+
+        @Autowired
+        private IRestaurantHandler restaurantHandler;
+
+        @Autowired
+        private EntityManager entityManager;
+
+        @Test
+        @DisplayName("Should list restaurants in a read-only session that never flushes")
+        void shouldReadInReadOnlySession() {
+            // Given
+            AtomicReference<Boolean> transactionReadOnly = new AtomicReference<>();
+            AtomicReference<Boolean> sessionReadOnly = new AtomicReference<>();
+            AtomicReference<FlushMode> flushMode = new AtomicReference<>();
+            doAnswer(invocation -> {
+                Session session = entityManager.unwrap(Session.class);
+                transactionReadOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+                sessionReadOnly.set(session.isDefaultReadOnly());
+                flushMode.set(session.getHibernateFlushMode());
+                return invocation.callRealMethod();
+            }).when(restaurantQueryPort).findAllOrderedByName(anyInt(), anyInt());
+
+            // When
+            restaurantHandler.list(0, 5, false);
+
+            // Then
+            assertThat(transactionReadOnly.get()).isTrue();
+            assertThat(sessionReadOnly.get()).isTrue();
+            assertThat(flushMode.get()).isEqualTo(FlushMode.MANUAL);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cached Menu Read Tests")
+    // Sin sondeo del bus de cambios: sus conexiones del mismo pool contarían en el timer
+    @TestPropertySource(properties = "catalog.change-bus.poll-interval=1h")
+    class CachedMenuReadTests {
+
+        @Test
+        @DisplayName("Should not check out a pooled connection for a menu served from the cache")
+        void shouldNotTakeConnectionOnCacheHit(@Autowired IPlateHandler plateHandler,
+                @Autowired MeterRegistry meterRegistry) {
+            // Given: la primera lectura llena la caché y sí usa una conexión
+            Timer usage = meterRegistry.get("hikaricp.connections.usage").timer();
+            long countBefore = usage.count();
+            plateHandler.listByRestaurant(MENU_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10, false);
+            assertThat(usage.count()).isGreaterThan(countBefore);
+            long countAfterMiss = usage.count();
+
+            // When: la transacción read-only del handler se abre y se cierra sin ejecutar sentencias
+            for (int i = 0; i < REQUESTS; i++) {
+                plateHandler.listByRestaurant(MENU_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10, false);
+            }
+
+            // Then
+            assertThat(usage.count()).isEqualTo(countAfterMiss);
+        }
+    }
+
+    @Nested
+    @DisplayName("Connection Hold Time With Open-Session-In-View (before)")
+    // Sin sondeo del bus de cambios: sus conexiones breves del mismo pool rebajarían la media
+    @TestPropertySource(properties = {"spring.jpa.open-in-view=true", "catalog.change-bus.poll-interval=1h"})
+    class WithOpenSessionInViewTests {
+
+        @Test
+        @DisplayName("Should hold the connection until the request completes")
+        void shouldHoldConnectionForWholeRequest(@Autowired MockMvc mockMvc, @Autowired MeterRegistry meterRegistry)
+                throws Exception {
+            double mean = meanConnectionHoldMillis(mockMvc, meterRegistry);
+            assertThat(mean).isGreaterThanOrEqualTo(COMPLETION_DELAY_MS);
+        }
+    }
+
+    @Nested
+    @DisplayName("Connection Hold Time Without Open-Session-In-View (after)")
+    class WithoutOpenSessionInViewTests {
+
+        @Test
+        @DisplayName("Should release the connection when the handler transaction ends")
+        void shouldReleaseConnectionAfterTransaction(@Autowired MockMvc mockMvc,
+                @Autowired MeterRegistry meterRegistry) throws Exception {
+            double mean = meanConnectionHoldMillis(mockMvc, meterRegistry);
+            assertThat(mean).isLessThan(COMPLETION_DELAY_MS);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.pragma.powerup.infrastructure.input.rest.cache.CatalogResponseCacheFilter;
+import com.pragma.powerup.infrastructure.out.bus.CatalogVersions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Tests unitarios para CatalogResponseCacheFilter
+ * Valida que los aciertos se escriban sin pasar por el controlador, la variante gzip, la invalidación por versión
+ * del restaurante, el 304 por ETag y el límite por bytes
+ */
+class CatalogResponseCacheFilterTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final Map<Long, Long> versions = new HashMap<>();
+    private CatalogVersions catalogVersions;
+    private MeterRegistry meterRegistry;
+    private CatalogResponseCacheFilter filter;
+    private AtomicInteger handled;
+    private String body;
+    private int status;
+
+    private final FilterChain controller = (request, response) -> {
+        handled.incrementAndGet();
+        HttpServletResponse http = (HttpServletResponse) response;
+        http.setStatus(status);
+        http.setContentType("application/json");
+        http.setHeader("X-Has-Next", "false");
+        http.setHeader("ETag", "\"restaurant-1-" + versions.get(1L) + "\"");
+        http.setHeader("Cache-Control", "max-age=0, must-revalidate, public");
+        http.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+    };
+
+    private CatalogResponseCacheFilter filter(MeterRegistry registry, DataSize maximumSize, DataSize gzipMinSize) {
+        return new CatalogResponseCacheFilter(catalogVersions, registry, maximumSize, TTL, gzipMinSize, Runnable::run);
+    }
+
+    @BeforeEach
+    void setUp() {
+        versions.clear();
+        versions.put(1L, 1L);
+        versions.put(2L, 1L);
+        catalogVersions = mock(CatalogVersions.class);
+        when(catalogVersions.restaurantVersion(any())).thenAnswer(invocation -> versions.get(invocation.getArgument(0)));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = filter(meterRegistry, DataSize.ofMegabytes(1), DataSize.ofBytes(64));
+        handled = new AtomicInteger();
+        body = "[{\"id\":1,\"name\":\"Flan\",\"price\":10000}]";
+        status = 200;
+    }
+
+    private static MockHttpServletRequest menuRequest(long restaurantId, String... params) {
+        MockHttpServletRequest request =
+                new MockHttpServletRequest("GET", "/api/v1/plates/restaurant/" + restaurantId);
+        request.setServletPath(request.getRequestURI());
+        for (int i = 0; i < params.length; i += 2) {
+            request.addParameter(params[i], params[i + 1]);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Nested
+    @DisplayName("Hit And Miss Tests")
+    class HitAndMissTests {
+
+        @Test
+        @DisplayName("Should write the stored bytes and headers without calling the controller again")
+        void shouldServeRepeatedRequestFromBytes() throws Exception {
+            // Given
+            MockHttpServletResponse first = perform(menuRequest(1, "page", "0", "size", "10"));
+
+            // When: mismos parámetros en otro orden
+            MockHttpServletResponse second = perform(menuRequest(1, "size", "10", "page", "0"));
+
+            // Then
+            assertThat(handled.get()).isEqualTo(1);
+            assertThat(second.getStatus()).isEqualTo(200);
+            assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo(body);
+            assertThat(second.getContentType()).isEqualTo("application/json");
+            assertThat(second.getHeader("X-Has-Next")).isEqualTo("false");
+            assertThat(second.getContentLength()).isEqualTo(body.length());
+        }
+
+        @Test
+        @DisplayName("Should keep pages, restaurants and totals apart")
+        void shouldKeyByPathAndParameters() throws Exception {
+            // When
+            perform(menuRequest(1, "page", "0"));
+            perform(menuRequest(1, "page", "1"));
+            perform(menuRequest(2, "page", "0"));
+            perform(menuRequest(1, "page", "0", "withTotal", "true"));
+            perform(menuRequest(1, "page", "0", "withTotal", "true"));
+
+            // Then
+            assertThat(handled.get()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should not store error responses")
+        void shouldNotStoreErrors() throws Exception {
+            // Given
+            status = 404;
+            body = "{\"message\":\"restaurant not found\"}";
+
+            // When
+            perform(menuRequest(1, "page", "0"));
+            MockHttpServletResponse second = perform(menuRequest(1, "page", "0"));
+
+            // Then
+            assertThat(handled.get()).isEqualTo(2);
+            assertThat(second.getStatus()).isEqualTo(404);
+            assertThat(second.getContentAsString()).isEqualTo(body);
+        }
+
+        @Test
+        @DisplayName("Should ask the controller again after the restaurant's menu changes")
+        void shouldMissAfterRestaurantVersionChanges() throws Exception {
+            // Given
+            perform(menuRequest(1, "page", "0"));
+            perform(menuRequest(2, "page", "0"));
+
+            // When
+            versions.put(1L, 2L);
+            body = "[{\"id\":1,\"name\":\"Flan\",\"price\":12000}]";
+            MockHttpServletResponse changed = perform(menuRequest(1, "page", "0"));
+            perform(menuRequest(2, "page", "0"));
+
+            // Then
+            assertThat(handled.get()).isEqualTo(3);
+            assertThat(changed.getContentAsString()).contains("12000");
+            assertThat(changed.getHeader("ETag")).isEqualTo("\"restaurant-1-2\"");
+        }
+
+        @Test
+        @DisplayName("Should not cache restaurants without a known version")
+        void shouldPassThroughUnknownRestaurants() throws Exception {
+            // When
+            perform(menuRequest(3, "page", "0"));
+            perform(menuRequest(3, "page", "0"));
+
+            // Then
+            assertThat(handled.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should answer 304 from the stored entry when If-None-Match matches")
+        void shouldAnswerNotModifiedFromStoredEntry() throws Exception {
+            // Given
+            MockHttpServletResponse first = perform(menuRequest(1, "page", "0"));
+            MockHttpServletRequest conditional = menuRequest(1, "page", "0");
+            conditional.addHeader("If-None-Match", first.getHeader("ETag"));
+
+            // When
+            MockHttpServletResponse notModified = perform(conditional);
+
+            // Then
+            assertThat(handled.get()).isEqualTo(1);
+            assertThat(notModified.getStatus()).isEqualTo(304);
+            assertThat(notModified.getContentAsByteArray()).isEmpty();
+            assertThat(notModified.getHeader("ETag")).isEqualTo(first.getHeader("ETag"));
+            assertThat(notModified.getHeader("Cache-Control")).isEqualTo("max-age=0, must-revalidate, public");
+        }
+    }
+
+    @Nested
+    @DisplayName("Encoding And Bounds Tests")
+    class EncodingAndBoundsTests {
+
+        @Test
+        @DisplayName("Should send the gzip variant to clients that accept it")
+        void shouldServeGzipVariant() throws Exception {
+            // Given
+            body = "[" + "{\"name\":\"Flan\",\"price\":10000},".repeat(20) + "{}]";
+            perform(menuRequest(1, "page", "0"));
+            MockHttpServletRequest gzipRequest = menuRequest(1, "page", "0");
+            gzipRequest.addHeader("Accept-Encoding", "gzip, deflate");
+
+            // When
+            MockHttpServletResponse gzipped = perform(gzipRequest);
+            MockHttpServletResponse plain = perform(menuRequest(1, "page", "0"));
+
+            // Then
+            assertThat(handled.get()).isEqualTo(1);
+            assertThat(gzipped.getHeader("Content-Encoding")).isEqualTo("gzip");
+            assertThat(gzipped.getContentAsByteArray().length).isLessThan(body.length());
+            assertThat(gunzip(gzipped.getContentAsByteArray())).isEqualTo(body);
+            assertThat(gzipped.getHeader("ETag")).isEqualTo("W/\"restaurant-1-1\"");
+            assertThat(plain.getHeader("ETag")).isEqualTo("\"restaurant-1-1\"");
+            assertThat(plain.getHeader("Content-Encoding")).isNull();
+            assertThat(plain.getContentAsString()).isEqualTo(body);
+            assertThat(plain.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        }
+
+        @Test
+        @DisplayName("Should keep the stored bodies under the configured number of bytes")
+        void shouldBoundByBytes() throws Exception {
+            // Given: unas 10 respuestas de ~1 KB caben en 10 KB
+            MeterRegistry registry = new SimpleMeterRegistry();
+            filter = filter(registry, DataSize.ofKilobytes(10), DataSize.ofMegabytes(1));
+            body = "[" + "x".repeat(1_000) + "]";
+
+            // When
+            for (int page = 0; page < 100; page++) {
+                perform(menuRequest(1, "page", String.valueOf(page)));
+            }
+
+            // Then
+            double bytes = registry.get("catalog.response.cache.bytes").gauge().value();
+            double entries = registry.get("cache.size").tag("cache", "catalog.response").gauge().value();
+            assertThat(bytes).isPositive().isLessThanOrEqualTo(10 * 1024);
+            assertThat(entries).isBetween(1.0, 10.0);
+        }
+    }
+}
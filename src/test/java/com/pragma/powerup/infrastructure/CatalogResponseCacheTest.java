@@ -0,0 +1,111 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.pragma.powerup.application.dto.request.PlateUpdateRequestDto;
+import com.pragma.powerup.application.handler.IPlateHandler;
+import com.pragma.powerup.domain.spi.ICatalogChangePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Tests de integración para la caché de respuestas serializadas
+ * Valida que los listados del menú repetidos se sirvan desde bytes con las mismas cabeceras y que una escritura del
+ * menú deje de servirlos
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CatalogResponseCacheTest {
+
+    private static final long OWNER_ID = 9_800L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IPlateHandler plateHandler;
+
+    @Autowired
+    private ICatalogChangePort catalogChangePort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private long restaurantId;
+    private long plateId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                + " values ('Bytes Bar', 'response-cache-1', 'Main St', '+573001234567', 'https://logo', ?)",
+                OWNER_ID);
+        restaurantId = jdbcTemplate.queryForObject(
+                "select id from restaurant where nit = 'response-cache-1'", Long.class);
+        jdbcTemplate.update("insert into plate (name, price, description, image_url, category, active, restaurant_id)"
+                + " values ('Nachos', 8000, 'Cheese nachos', 'https://img', 'ENTRADA', true, ?)", restaurantId);
+        plateId = jdbcTemplate.queryForObject(
+                "select id from plate where restaurant_id = ? and name = 'Nachos'", Long.class, restaurantId);
+        // Insertado por SQL: el aviso le da versión al restaurante, sin ella no se guarda en caché
+        catalogChangePort.restaurantChanged(restaurantId);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", restaurantId);
+        jdbcTemplate.update("delete from restaurant where nit = 'response-cache-1'");
+    }
+
+    private double responseGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "catalog.response").tag("result", result)
+                .functionCounter().count();
+    }
+
+    private String menuPage() throws Exception {
+        return mockMvc.perform(get("/api/v1/plates/restaurant/{id}", restaurantId).param("page", "0"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "false"))
+                .andExpect(jsonPath("$[0].id").value(plateId))
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated menu page from the stored bytes and refresh it after a write")
+    void shouldServeBytesUntilMenuChanges() throws Exception {
+        // Given
+        String first = menuPage();
+        double hits = responseGets("hit");
+
+        // When
+        String second = menuPage();
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(responseGets("hit") - hits).isEqualTo(1);
+
+        // When
+        PlateUpdateRequestDto update = new PlateUpdateRequestDto();
+        update.setPrice(8_500);
+        update.setDescription("Loaded nachos");
+        plateHandler.update(plateId, update, OWNER_ID);
+
+        // Then
+        assertThat(menuPage()).contains("8500").doesNotContain("8000");
+    }
+}
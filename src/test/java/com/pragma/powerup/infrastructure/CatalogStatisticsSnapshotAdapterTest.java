@@ -0,0 +1,133 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.infrastructure.out.cache.CatalogStatisticsSnapshotAdapter;
+import com.pragma.powerup.infrastructure.out.jpa.projection.ActivePlateCountView;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IPlateRepository;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IRestaurantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Tests unitarios para CatalogStatisticsSnapshotAdapter
+ * Valida los totales servidos desde la instantánea y que un refresco fallido conserve la anterior
+ */
+class CatalogStatisticsSnapshotAdapterTest {
+
+    private IRestaurantRepository restaurantRepository;
+    private IPlateRepository plateRepository;
+    private MeterRegistry meterRegistry;
+    private MutableClock clock;
+    private CatalogStatisticsSnapshotAdapter adapter;
+
+    /** Reloj que el test avanza a mano para comprobar la edad de la instantánea. */
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+    }
+
+    private static ActivePlateCountView row(Long restaurantId, PlateCategory category, long total) {
+        return new ActivePlateCountView() {
+            @Override
+            public Long getRestaurantId() {
+                return restaurantId;
+            }
+
+            @Override
+            public PlateCategory getCategory() {
+                return category;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        restaurantRepository = mock(IRestaurantRepository.class);
+        plateRepository = mock(IPlateRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+        adapter = new CatalogStatisticsSnapshotAdapter(
+                restaurantRepository, plateRepository, Duration.ofMinutes(1), meterRegistry, clock);
+        when(restaurantRepository.count()).thenReturn(25L);
+        when(plateRepository.countActiveByRestaurantAndCategory()).thenReturn(List.of(
+                row(1L, PlateCategory.POSTRE, 3), row(1L, PlateCategory.BEBIDA, 4), row(2L, PlateCategory.POSTRE, 1)));
+        adapter.refresh();
+    }
+
+    @Test
+    @DisplayName("Should serve restaurant and per-category plate totals from the snapshot")
+    void shouldServeTotalsFromSnapshot() {
+        assertThat(adapter.approximateRestaurantCount()).isEqualTo(25L);
+        assertThat(adapter.approximateActivePlateCount(1L, PlateCategory.POSTRE)).isEqualTo(3L);
+        assertThat(adapter.approximateActivePlateCount(1L, null)).isEqualTo(7L);
+        assertThat(adapter.approximateActivePlateCount(1L, PlateCategory.ENTRADA)).isZero();
+        assertThat(adapter.approximateActivePlateCount(99L, null)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep serving the previous snapshot when a refresh fails")
+    void shouldKeepSnapshotWhenRefreshFails() {
+        // Given
+        clock.advance(Duration.ofSeconds(90));
+        when(restaurantRepository.count()).thenThrow(new DataAccessResourceFailureException("down"));
+
+        // When
+        adapter.refresh();
+
+        // Then
+        assertThat(adapter.approximateRestaurantCount()).isEqualTo(25L);
+        assertThat(meterRegistry.get("catalog.statistics.age").gauge().value()).isEqualTo(90.0);
+    }
+
+    @Test
+    @DisplayName("Should pick up new counts on the next refresh")
+    void shouldPickUpNewCounts() {
+        // Given
+        when(restaurantRepository.count()).thenReturn(26L);
+        when(plateRepository.countActiveByRestaurantAndCategory()).thenReturn(List.of());
+
+        // When
+        adapter.refresh();
+
+        // Then
+        assertThat(adapter.approximateRestaurantCount()).isEqualTo(26L);
+        assertThat(adapter.approximateActivePlateCount(1L, null)).isZero();
+        assertThat(meterRegistry.get("catalog.statistics.age").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,127 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pragma.powerup.PowerUpApplication;
+import com.pragma.powerup.application.handler.IPlateHandler;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tests de integración para el calentamiento al arrancar
+ * Valida, con otra instancia de la aplicación sobre la misma base H2, que la readiness solo pasa a aceptar tráfico
+ * después del calentamiento y que el menú de un restaurante del directorio ya está en caché, también como bytes de
+ * respuesta HTTP
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CatalogWarmUpReadinessTest {
+
+    private static final long OWNER_ID = 9_950L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Boolean> warmedWhenReady = new ArrayList<>();
+    private ConfigurableApplicationContext node;
+    private long restaurantId;
+
+    @BeforeAll
+    void startNode() {
+        jdbcTemplate.update("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                + " values ('Aaa Warm Grill', 'warm-up-1', 'Main St', '+573001234567', 'https://logo', ?)", OWNER_ID);
+        restaurantId = jdbcTemplate.queryForObject("select id from restaurant where nit = 'warm-up-1'", Long.class);
+        jdbcTemplate.update("insert into plate (name, price, description, image_url, category, active, restaurant_id)"
+                + " values ('Ribs', 15000, 'Pork ribs', 'https://img', 'PRINCIPAL', true, ?)", restaurantId);
+
+        ApplicationListener<ApplicationEvent> readiness = event -> {
+            if (event instanceof AvailabilityChangeEvent<?> change
+                    && change.getState() == ReadinessState.ACCEPTING_TRAFFIC
+                    && change.getSource() instanceof ConfigurableApplicationContext context) {
+                warmedWhenReady.add(context.getBean(MeterRegistry.class).find("catalog.warmup").timer() != null);
+            }
+        };
+        node = new SpringApplicationBuilder(PowerUpApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("spring.application.name=powerup-warm-up")
+                .listeners(readiness)
+                // Argumentos: las properties del builder no pisan el application.yml de pruebas
+                .run("--server.port=0", "--catalog.warm-up.enabled=true", "--catalog.warm-up.top-restaurants=50",
+                        "--catalog.warm-up.iterations=50");
+    }
+
+    @AfterAll
+    void stopNode() {
+        node.close();
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", restaurantId);
+        jdbcTemplate.update("delete from restaurant where nit = 'warm-up-1'");
+    }
+
+    private double hits(String cache) {
+        return node.getBean(MeterRegistry.class).get("cache.gets").tag("cache", cache).tag("result", "hit")
+                .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("Should accept traffic only after the warm-up completed")
+    void shouldGateReadinessOnWarmUp() {
+        assertThat(warmedWhenReady).containsExactly(true);
+        assertThat(node.getBean(ApplicationAvailability.class).getReadinessState())
+                .isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        assertThat(node.getBean(MeterRegistry.class).get("catalog.warmup").tag("outcome", "completed").timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve the first menu request of a directory restaurant from the cache")
+    void shouldServeWarmedMenuFromCache() {
+        // Given
+        double hits = hits("plate.menu");
+
+        // When
+        node.getBean(IPlateHandler.class).listByRestaurant(restaurantId, null, PlateMenuView.FULL, 0, 10, false);
+
+        // Then
+        assertThat(hits("plate.menu") - hits).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer the first HTTP menu request from the response byte cache")
+    void shouldServeWarmedResponseBytes() throws Exception {
+        // Given
+        double hits = hits("catalog.response");
+        String port = node.getEnvironment().getProperty("local.server.port");
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                "http://localhost:" + port + "/api/v1/plates/restaurant/" + restaurantId + "?page=0&size=10")).build();
+
+        // When
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("Ribs");
+        assertThat(hits("catalog.response") - hits).isEqualTo(1);
+    }
+}
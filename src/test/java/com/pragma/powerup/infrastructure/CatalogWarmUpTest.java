@@ -0,0 +1,186 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.application.dto.response.SliceDto;
+import com.pragma.powerup.application.handler.IPlateHandler;
+import com.pragma.powerup.application.handler.IRestaurantHandler;
+import com.pragma.powerup.domain.api.IRestaurantQueryServicePort;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.domain.model.RestaurantSummary;
+import com.pragma.powerup.domain.model.SliceModel;
+import com.pragma.powerup.infrastructure.input.warmup.CatalogWarmUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Tests unitarios para CatalogWarmUp
+ * Valida qué se precarga, las vueltas sintéticas sobre los handlers, las peticiones al propio servidor y que un
+ * calentamiento lento o fallido no bloquee el arranque más allá del timeout
+ */
+class CatalogWarmUpTest {
+
+    private IRestaurantQueryServicePort restaurantQueryServicePort;
+    private IRestaurantHandler restaurantHandler;
+    private IPlateHandler plateHandler;
+    private MeterRegistry meterRegistry;
+    private MockEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        restaurantQueryServicePort = mock(IRestaurantQueryServicePort.class);
+        restaurantHandler = mock(IRestaurantHandler.class);
+        plateHandler = mock(IPlateHandler.class);
+        meterRegistry = new SimpleMeterRegistry();
+        environment = new MockEnvironment();
+        when(restaurantQueryServicePort.listRestaurants(0, 2)).thenReturn(new SliceModel<>(List.of(
+                new RestaurantSummary(11L, "Alpha", "https://logo"),
+                new RestaurantSummary(12L, "Beta", "https://logo")), true));
+        when(plateHandler.listByRestaurant(anyLong(), isNull(), eq(PlateMenuView.FULL), anyInt(), anyInt(), eq(false)))
+                .thenReturn(new SliceDto<>(List.of(), false, null, null));
+        when(plateHandler.listByRestaurantAfter(
+                anyLong(), isNull(), eq(PlateMenuView.FULL), isNull(), anyInt(), eq(false)))
+                .thenReturn(new SliceDto<>(List.of(), false, null, null));
+        when(restaurantHandler.list(anyInt(), anyInt(), eq(false)))
+                .thenReturn(new SliceDto<>(List.of(), false, null, null));
+        when(restaurantHandler.listAfter(isNull(), anyInt(), eq(false)))
+                .thenReturn(new SliceDto<>(List.of(), false, null, null));
+    }
+
+    private CatalogWarmUp warmUp(boolean enabled, int iterations, Duration timeout) {
+        return new CatalogWarmUp(restaurantQueryServicePort, restaurantHandler, plateHandler, new ObjectMapper(),
+                meterRegistry, enabled, 2, 3, 10, iterations, timeout, environment);
+    }
+
+    private long recorded(String outcome) {
+        return meterRegistry.get("catalog.warmup").tag("outcome", outcome).timer().count();
+    }
+
+    @Nested
+    @DisplayName("Warm-Up Tests")
+    class WarmUpTests {
+
+        @Test
+        @DisplayName("Should preload menus and directory pages once, then loop only the cached menu calls")
+        void shouldPreloadAndLoopHandlers() {
+            // When
+            warmUp(true, 4, Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+
+            // Then: una carga inicial por restaurante, más las vueltas sobre el menú ya en caché
+            verify(plateHandler, times(3)).listByRestaurant(11L, null, PlateMenuView.FULL, 0, 10, false);
+            verify(plateHandler, times(3)).listByRestaurant(12L, null, PlateMenuView.FULL, 0, 10, false);
+            verify(plateHandler, times(3)).listByRestaurantAfter(11L, null, PlateMenuView.FULL, null, 10, false);
+            verify(plateHandler, times(3)).listByRestaurantAfter(12L, null, PlateMenuView.FULL, null, 10, false);
+            verify(restaurantHandler, times(1)).list(0, 10, false);
+            verify(restaurantHandler, times(1)).list(1, 10, false);
+            verify(restaurantHandler, times(1)).list(2, 10, false);
+            verify(restaurantHandler, times(1)).listAfter(null, 10, false);
+            assertThat(recorded("completed")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should request the warmed menu pages over loopback when the server is up")
+        void shouldRequestMenusOverLoopback() throws Exception {
+            // Given
+            List<String> requested = new CopyOnWriteArrayList<>();
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", exchange -> {
+                requested.add(exchange.getRequestURI().toString());
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+            });
+            server.start();
+            environment.setProperty("local.server.port", String.valueOf(server.getAddress().getPort()));
+            environment.setProperty("server.servlet.context-path", "/menu");
+
+            // When
+            try {
+                warmUp(true, 4, Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+            } finally {
+                server.stop(0);
+            }
+
+            // Then
+            assertThat(requested).containsExactly(
+                    "/menu/api/v1/plates/restaurant/11?page=0&size=10",
+                    "/menu/api/v1/plates/restaurant/11?size=10",
+                    "/menu/api/v1/plates/restaurant/12?page=0&size=10",
+                    "/menu/api/v1/plates/restaurant/12?size=10");
+            assertThat(recorded("completed")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should do nothing when disabled")
+        void shouldSkipWhenDisabled() {
+            // When
+            warmUp(false, 4, Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+
+            // Then
+            verifyNoInteractions(restaurantQueryServicePort, restaurantHandler, plateHandler);
+            assertThat(meterRegistry.find("catalog.warmup").timer()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounded Startup Tests")
+    class BoundedStartupTests {
+
+        @Test
+        @DisplayName("Should give up after the timeout and stop the synthetic loop")
+        void shouldGiveUpAfterTimeout() throws Exception {
+            // Given: cada vuelta tarda lo bastante como para no terminar nunca a tiempo
+            when(plateHandler.listByRestaurantAfter(
+                    anyLong(), isNull(), eq(PlateMenuView.FULL), isNull(), anyInt(), eq(false)))
+                    .thenAnswer(invocation -> {
+                        Thread.sleep(20);
+                        return new SliceDto<>(List.of(), false, null, null);
+                    });
+            long start = System.nanoTime();
+
+            // When
+            warmUp(true, 1_000_000, Duration.ofMillis(200)).run(new DefaultApplicationArguments());
+
+            // Then
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+            assertThat(recorded("timed_out")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not fail the startup when a handler fails")
+        void shouldSurviveHandlerFailure() {
+            // Given
+            when(restaurantHandler.list(anyInt(), anyInt(), anyBoolean()))
+                    .thenThrow(new IllegalStateException("database unavailable"));
+
+            // When
+            warmUp(true, 4, Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+
+            // Then
+            verify(plateHandler, atLeastOnce()).listByRestaurant(11L, null, PlateMenuView.FULL, 0, 10, false);
+            assertThat(recorded("failed")).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.pragma.powerup.infrastructure.security.JwtPrincipal;
+import com.pragma.powerup.infrastructure.security.JwtValidator;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitarios para JwtValidator
+ * Valida la verificación de firma y extracción de claims en un único parseo, y el rechazo sin excepciones de check
+ */
+class JwtValidatorTest {
+
+    private static final String SECRET = "test-secret-for-hexagonal-architecture-microservices";
+
+    private JwtValidator jwtValidator;
+
+    @BeforeEach
+    void setUp() {
+        jwtValidator = new JwtValidator(SECRET);
+    }
+
+    private static String sign(String secret, Instant expiration, Object roles, String roleKey) {
+        return Jwts.builder()
+                .subject("owner@example.com")
+                .claim("userId", 7L)
+                .claim(roleKey, roles)
+                .expiration(Date.from(expiration))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    @Nested
+    @DisplayName("Verify Tests")
+    class VerifyTests {
+
+        @Test
+        @DisplayName("Should extract every claim from a single verification")
+        void shouldExtractPrincipal() {
+            // Given
+            Instant expiration = Instant.now().plus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS);
+            String token = sign(SECRET, expiration, List.of("OWNER"), "roles");
+
+            // When
+            JwtPrincipal principal = jwtValidator.verify(token);
+
+            // Then
+            assertThat(principal.userId()).isEqualTo("7");
+            assertThat(principal.email()).isEqualTo("owner@example.com");
+            assertThat(principal.role()).isEqualTo("OWNER");
+            assertThat(principal.expiresAt()).isEqualTo(expiration);
+        }
+
+        @Test
+        @DisplayName("Should fall back to the singular role claim")
+        void shouldFallBackToSingularRole() {
+            // Given
+            String token = sign(SECRET, Instant.now().plus(1, ChronoUnit.HOURS), "ADMIN", "role");
+
+            // When & Then
+            assertThat(jwtValidator.verify(token).role()).isEqualTo("ADMIN");
+            assertThat(jwtValidator.extractRole(token)).isEqualTo("ADMIN");
+        }
+
+        @Test
+        @DisplayName("Should reject tokens signed with another key")
+        void shouldRejectForgedToken() {
+            // Given
+            String token =
+                    sign(
+                            "another-secret-that-is-long-enough-for-hmac-sha-256",
+                            Instant.now().plus(1, ChronoUnit.HOURS),
+                            List.of("OWNER"),
+                            "roles");
+
+            // When & Then
+            assertThatThrownBy(() -> jwtValidator.verify(token)).isInstanceOf(JwtException.class);
+            assertThat(jwtValidator.isValid(token)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should reject expired tokens")
+        void shouldRejectExpiredToken() {
+            // Given
+            String token = sign(SECRET, Instant.now().minus(1, ChronoUnit.MINUTES), List.of("OWNER"), "roles");
+
+            // When & Then
+            assertThatThrownBy(() -> jwtValidator.verify(token)).isInstanceOf(JwtException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Check Tests")
+    class CheckTests {
+
+        @Test
+        @DisplayName("Should return the principal of a valid token")
+        void shouldVerifyValidToken() {
+            // Given
+            String token = sign(SECRET, Instant.now().plus(1, ChronoUnit.HOURS), List.of("OWNER"), "roles");
+
+            // When
+            JwtValidator.Verification verification = jwtValidator.check(token);
+
+            // Then
+            assertThat(verification.isVerified()).isTrue();
+            assertThat(verification.principal().userId()).isEqualTo("7");
+        }
+
+        @Test
+        @DisplayName("Should refuse forged and tampered tokens before the JWT parser")
+        void shouldRefuseForgedTokensWithoutParser() {
+            // Given
+            String forged = sign("another-secret-that-is-long-enough-for-hmac-sha-256",
+                    Instant.now().plus(1, ChronoUnit.HOURS), List.of("OWNER"), "roles");
+            String valid = sign(SECRET, Instant.now().plus(1, ChronoUnit.HOURS), List.of("OWNER"), "roles");
+            String[] parts = valid.split("\\.");
+            String tampered = parts[0] + "." + parts[1] + "x." + parts[2];
+
+            // When & Then
+            assertThat(jwtValidator.check(forged).failure()).isEqualTo("signature mismatch");
+            assertThat(jwtValidator.check(tampered).failure()).isEqualTo("signature mismatch");
+        }
+
+        @Test
+        @DisplayName("Should refuse tokens without an HMAC algorithm")
+        void shouldRefuseUnsignedTokens() {
+            // Given: cabecera {"alg":"none"}
+            String unsigned = "eyJhbGciOiJub25lIn0.eyJzdWIiOiJvd25lciJ9.c2ln";
+
+            // When & Then
+            assertThat(jwtValidator.check(unsigned).failure()).isEqualTo("unsupported algorithm");
+        }
+
+        @Test
+        @DisplayName("Should report expired tokens as a failure instead of throwing")
+        void shouldReportExpiredToken() {
+            // Given
+            String token = sign(SECRET, Instant.now().minus(1, ChronoUnit.MINUTES), List.of("OWNER"), "roles");
+
+            // When
+            JwtValidator.Verification verification = jwtValidator.check(token);
+
+            // Then
+            assertThat(verification.isVerified()).isFalse();
+            assertThat(verification.failure()).isEqualTo("ExpiredJwtException");
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pragma.powerup.domain.model.KeysetCursor;
+import com.pragma.powerup.domain.spi.IRestaurantQueryPort;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Prueba de carga de la paginación del directorio de restaurantes (./gradlew loadTest)
+ *
+ * <p>Con 100.000 restaurantes compara la mediana de leer la página 1, 10, 100, 1.000 y 10.000
+ * (size 10) con OFFSET y con cursor. OFFSET crece con la profundidad; el cursor debe mantenerse plano.
+ */
+@Tag("load")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeysetPaginationLoadTest {
+
+    private static final int ROWS = 100_000;
+    private static final int SIZE = 10;
+    private static final int[] PAGES = {1, 10, 100, 1_000, 10_000};
+    private static final int WARMUP = 50;
+    private static final int REPETITIONS = 100;
+
+    @Autowired
+    private IRestaurantQueryPort restaurantQueryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[] {String.format("Load %06d", (i * 7_919) % ROWS), "load-" + i});
+        }
+        jdbcTemplate.batchUpdate("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                + " values (?, ?, 'Main St', '+573001234567', 'https://logo', 1)", rows);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from restaurant where nit like 'load-%'");
+    }
+
+    /** Última fila de la página anterior a {@code page} (1-based), es decir, el cursor de esa página. */
+    private KeysetCursor cursorBefore(int page) {
+        if (page == 1) {
+            return null;
+        }
+        return jdbcTemplate.queryForObject(
+                "select name, id from restaurant order by name, id offset ? rows fetch next 1 rows only",
+                (rs, n) -> new KeysetCursor(rs.getString("name"), rs.getLong("id")),
+                (page - 1) * SIZE - 1);
+    }
+
+    /** Runs the queries interleaved so JIT warm-up and GC pauses hit every page alike. */
+    private static double[] medianMicros(List<Supplier<?>> queries) {
+        long[][] samples = new long[queries.size()][REPETITIONS];
+        for (int i = 0; i < WARMUP + REPETITIONS; i++) {
+            for (int q = 0; q < queries.size(); q++) {
+                long start = System.nanoTime();
+                queries.get(q).get();
+                if (i >= WARMUP) {
+                    samples[q][i - WARMUP] = System.nanoTime() - start;
+                }
+            }
+        }
+        double[] medians = new double[queries.size()];
+        for (int q = 0; q < queries.size(); q++) {
+            Arrays.sort(samples[q]);
+            medians[q] = samples[q][REPETITIONS / 2] / 1_000.0;
+        }
+        return medians;
+    }
+
+    @Test
+    @DisplayName("Keyset page latency should stay flat from page 1 to page 10,000")
+    void keysetLatencyIsFlat() {
+        List<Supplier<?>> offsetQueries = new ArrayList<>();
+        List<Supplier<?>> keysetQueries = new ArrayList<>();
+        for (int page : PAGES) {
+            KeysetCursor cursor = cursorBefore(page);
+            assertThat(restaurantQueryPort.findAllOrderedByNameAfter(cursor, SIZE).items())
+                    .isEqualTo(restaurantQueryPort.findAllOrderedByName(page - 1, SIZE).items());
+            offsetQueries.add(() -> restaurantQueryPort.findAllOrderedByName(page - 1, SIZE));
+            keysetQueries.add(() -> restaurantQueryPort.findAllOrderedByNameAfter(cursor, SIZE));
+        }
+        double[] offset = medianMicros(offsetQueries);
+        double[] keyset = medianMicros(keysetQueries);
+
+        System.out.printf("%n%-10s %16s %16s%n", "page", "offset p50 (us)", "keyset p50 (us)");
+        for (int i = 0; i < PAGES.length; i++) {
+            System.out.printf("%-10d %16.1f %16.1f%n", PAGES[i], offset[i], keyset[i]);
+        }
+
+        // Holgura amplia para ruido; lo que se detecta es el crecimiento lineal de OFFSET
+        assertThat(keyset[PAGES.length - 1]).isLessThan(keyset[0] * 3 + 1_000);
+    }
+}
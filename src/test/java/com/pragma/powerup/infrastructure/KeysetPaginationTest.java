@@ -0,0 +1,168 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.domain.spi.ICatalogStatisticsPort;
+import com.pragma.powerup.infrastructure.out.cache.CatalogStatisticsSnapshotAdapter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Tests de integración para la paginación por cursor de los listados del catálogo
+ * Valida que recorrer los cursores devuelve todas las filas en orden, sin huecos ni repetidos,
+ * y que los listados informan X-Has-Next y el total aproximado sin contar filas por petición
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeysetPaginationTest {
+
+    private static final long RESTAURANT_ID = 9_001L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ICatalogStatisticsPort catalogStatisticsPort;
+
+    @BeforeAll
+    void seed() {
+        // Nombres de restaurante repetidos: el desempate por id es lo que evita saltos entre páginas.
+        // Los platos no pueden repetir nombre en un restaurante (uk_plate_restaurant_name)
+        for (int i = 0; i < 23; i++) {
+            jdbcTemplate.update("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                            + " values (?, ?, 'Main St', '+573001234567', 'https://logo', 900)",
+                    i % 3 == 0 ? "Keyset Twin" : "Keyset " + (char) ('A' + i), "keyset-" + i);
+        }
+        PlateSeed[] plates = {
+            new PlateSeed("Flan", "POSTRE", true), new PlateSeed("Flan Casero", "POSTRE", true),
+            new PlateSeed("Brownie", "POSTRE", true), new PlateSeed("Tiramisu", "POSTRE", true),
+            new PlateSeed("Cheesecake", "POSTRE", false), new PlateSeed("Lemonade", "BEBIDA", true),
+            new PlateSeed("Arepa", "ENTRADA", true)
+        };
+        for (PlateSeed plate : plates) {
+            jdbcTemplate.update("insert into plate (name, price, description, image_url, category, active, restaurant_id)"
+                            + " values (?, 10000, 'description', 'https://img', ?, ?, ?)",
+                    plate.name(), plate.category(), plate.active(), RESTAURANT_ID);
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", RESTAURANT_ID);
+        jdbcTemplate.update("delete from restaurant where nit like 'keyset-%'");
+    }
+
+    private record PlateSeed(String name, String category, boolean active) {}
+
+    /** Sigue X-Next-Cursor hasta la última página y devuelve el campo pedido de cada fila. */
+    private List<String> walk(String path, String category, int size, String field) throws Exception {
+        List<String> values = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get(path).param("size", String.valueOf(size));
+            if (category != null) {
+                request.param("category", category);
+            }
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+            JsonNode items = objectMapper.readTree(result.getResponse().getContentAsString());
+            assertThat(items.size()).isLessThanOrEqualTo(size);
+            // Se lee una fila de más: nunca hay una última página vacía
+            assertThat(items.size()).isPositive();
+            items.forEach(item -> values.add(item.get(field).asText()));
+            cursor = result.getResponse().getHeader("X-Next-Cursor");
+            assertThat(result.getResponse().getHeader("X-Has-Next")).isEqualTo(String.valueOf(cursor != null));
+        } while (cursor != null);
+        return values;
+    }
+
+    @Test
+    @DisplayName("Should walk the whole restaurant directory in (name, id) order")
+    void shouldWalkRestaurantDirectory() throws Exception {
+        // Given
+        List<String> expected = jdbcTemplate.queryForList(
+                "select name from restaurant order by name, id", String.class);
+
+        // When
+        List<String> walked = walk("/api/v1/restaurants", null, 4, "name");
+
+        // Then
+        assertThat(walked).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should walk the active plates of a category without repeating or skipping")
+    void shouldWalkPlatesByCategory() throws Exception {
+        // When
+        List<String> walked = walk("/api/v1/plates/restaurant/" + RESTAURANT_ID, "POSTRE", 1, "id");
+
+        // Then
+        List<String> expected = jdbcTemplate.queryForList(
+                "select cast(id as varchar) from plate where restaurant_id = ? and active = true"
+                        + " and category = 'POSTRE' order by name, id", String.class, RESTAURANT_ID);
+        assertThat(walked).hasSize(4).doesNotHaveDuplicates().isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should keep serving the page form without a cursor header")
+    void shouldKeepPageForm() throws Exception {
+        mockMvc.perform(get("/api/v1/restaurants").param("page", "1").param("size", "4"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(header().string("X-Has-Next", "true"))
+                .andExpect(header().doesNotExist("X-Approximate-Total"));
+    }
+
+    @Test
+    @DisplayName("Should report the last page and an approximate total from the statistics snapshot")
+    void shouldReportLastPageAndApproximateTotal() throws Exception {
+        // Given
+        ((CatalogStatisticsSnapshotAdapter) catalogStatisticsPort).refresh();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/plates/restaurant/" + RESTAURANT_ID)
+                        .param("category", "POSTRE").param("page", "0").param("size", "4")
+                        .param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "false"))
+                .andExpect(header().string("X-Approximate-Total", "4"));
+        mockMvc.perform(get("/api/v1/plates/restaurant/" + RESTAURANT_ID)
+                        .param("size", "2").param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "true"))
+                .andExpect(header().string("X-Approximate-Total", "6"));
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for a tampered cursor")
+    void shouldRejectInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/restaurants").param("cursor", "%%%"))
+                .andExpect(status().isBadRequest());
+    }
+}
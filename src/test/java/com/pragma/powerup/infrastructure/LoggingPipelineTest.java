@@ -0,0 +1,149 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.spi.FilterReply;
+import com.pragma.powerup.infrastructure.logging.DroppedEventsListener;
+import com.pragma.powerup.infrastructure.logging.LoggingMetricsBinder;
+import com.pragma.powerup.infrastructure.logging.LoggingPipelineStats;
+import com.pragma.powerup.infrastructure.logging.SamplingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitarios para el pipeline de logging de producción
+ * Valida el muestreo por logger y el descarte contado cuando el ring buffer está lleno
+ */
+class LoggingPipelineTest {
+
+    private static final LoggerContext CONTEXT = new LoggerContext();
+
+    private static ILoggingEvent event(String logger, Level level) {
+        return new LoggingEvent(
+                LoggingPipelineTest.class.getName(), CONTEXT.getLogger(logger), level, "message", null, null);
+    }
+
+    @Nested
+    @DisplayName("Sampling Filter Tests")
+    class SamplingFilterTests {
+
+        private SamplingFilter filter(String rules) {
+            SamplingFilter filter = new SamplingFilter();
+            filter.setContext(CONTEXT);
+            filter.setRules(rules);
+            filter.start();
+            return filter;
+        }
+
+        @Test
+        @DisplayName("Should drop INFO events of a logger sampled at zero")
+        void shouldDropSampledLogger() {
+            SamplingFilter filter = filter("com.example.noisy=0");
+            long before = LoggingPipelineStats.sampledOut();
+
+            assertThat(filter.decide(event("com.example.noisy.Filter", Level.INFO)))
+                    .isEqualTo(FilterReply.DENY);
+            assertThat(filter.decide(event("com.example.noisy", Level.DEBUG))).isEqualTo(FilterReply.DENY);
+            assertThat(LoggingPipelineStats.sampledOut() - before).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should never sample WARN or ERROR events")
+        void shouldKeepWarnAndError() {
+            SamplingFilter filter = filter("com.example.noisy=0");
+
+            assertThat(filter.decide(event("com.example.noisy", Level.WARN))).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(event("com.example.noisy", Level.ERROR))).isEqualTo(FilterReply.NEUTRAL);
+        }
+
+        @Test
+        @DisplayName("Should apply the longest matching prefix and ignore unrelated loggers")
+        void shouldApplyLongestPrefix() {
+            SamplingFilter filter = filter("com.example=0, com.example.important=1");
+
+            assertThat(filter.decide(event("com.example.important.Service", Level.INFO)))
+                    .isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(event("com.example.Other", Level.INFO))).isEqualTo(FilterReply.DENY);
+            assertThat(filter.decide(event("com.examples.Other", Level.INFO)))
+                    .isEqualTo(FilterReply.NEUTRAL);
+        }
+
+        @Test
+        @DisplayName("Should skip rules with a non numeric rate and keep the valid ones")
+        void shouldSkipNonNumericRate() {
+            SamplingFilter filter = filter("com.example.typo=abc, com.example.nan=NaN, com.example.noisy=0");
+
+            assertThat(filter.decide(event("com.example.typo", Level.INFO))).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(event("com.example.nan", Level.INFO))).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(event("com.example.noisy", Level.INFO))).isEqualTo(FilterReply.DENY);
+        }
+    }
+
+    @Nested
+    @DisplayName("Async Appender Tests")
+    class AsyncAppenderTests {
+
+        /** Appender que bloquea al consumidor hasta que el test lo libera. */
+        private static class BlockedAppender extends AppenderBase<ILoggingEvent> {
+            private final CountDownLatch release = new CountDownLatch(1);
+
+            @Override
+            protected void append(ILoggingEvent eventObject) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should drop and count events instead of blocking when the buffer is full")
+        void shouldDropWhenRingBufferIsFull() {
+            // Given
+            BlockedAppender blocked = new BlockedAppender();
+            blocked.setContext(CONTEXT);
+            blocked.start();
+            LoggingEventAsyncDisruptorAppender async = new LoggingEventAsyncDisruptorAppender();
+            async.setContext(CONTEXT);
+            async.setRingBufferSize(8);
+            async.setAppendTimeout(ch.qos.logback.core.util.Duration.buildByMilliseconds(0));
+            async.setWaitStrategyType("sleeping");
+            async.addListener(new DroppedEventsListener());
+            async.addAppender(blocked);
+            async.start();
+            long before = LoggingPipelineStats.dropped();
+
+            // When: el consumidor sigue bloqueado, así que solo terminamos si el productor nunca espera
+            assertTimeoutPreemptively(
+                    Duration.ofSeconds(10),
+                    () -> {
+                        for (int i = 0; i < 100; i++) {
+                            async.doAppend(event("com.example.burst", Level.INFO));
+                        }
+                    });
+            blocked.release.countDown();
+            async.stop();
+
+            // Then
+            assertThat(LoggingPipelineStats.dropped() - before).isGreaterThanOrEqualTo(100 - 8 - 1);
+
+            MeterRegistry registry = new SimpleMeterRegistry();
+            new LoggingMetricsBinder().bindTo(registry);
+            assertThat(registry.get("logging.events.dropped").functionCounter().count())
+                    .isEqualTo(LoggingPipelineStats.dropped());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pragma.powerup.domain.model.PlateModel;
+import com.pragma.powerup.domain.spi.IPlatePersistencePort;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Prueba de carga del alta de un menú completo (./gradlew loadTest)
+ *
+ * <p>Compara guardar plato a plato (una transacción y un INSERT por plato, como al crear el menú
+ * con un POST por plato) con {@code saveAll} (una transacción, INSERT en lotes JDBC) para menús de
+ * 10, 50 y 200 platos. Informa la mediana y las sentencias preparadas por menú.
+ */
+@Tag("load")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PlateBatchInsertLoadTest {
+
+    private static final long RESTAURANT_ID = 9_202L;
+    private static final int[] MENU_SIZES = {10, 50, 200};
+    private static final int WARMUP = 10;
+    private static final int REPETITIONS = 30;
+
+    @Autowired
+    private IPlatePersistencePort platePersistencePort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        statistics.setStatisticsEnabled(false);
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", RESTAURANT_ID);
+    }
+
+    private void savePlateByPlate(List<PlateModel> menu) {
+        menu.forEach(platePersistencePort::save);
+    }
+
+    private void saveBatched(List<PlateModel> menu) {
+        platePersistencePort.saveAll(menu);
+    }
+
+    /** Mediana en microsegundos y sentencias preparadas por menú; borra el menú tras cada medición. */
+    private double[] measure(int menuSize, boolean batched) {
+        long[] samples = new long[REPETITIONS];
+        long statements = 0;
+        for (int i = 0; i < WARMUP + REPETITIONS; i++) {
+            List<PlateModel> menu = PlateBatchInsertTest.menu(RESTAURANT_ID, menuSize);
+            statistics.clear();
+            long start = System.nanoTime();
+            if (batched) {
+                saveBatched(menu);
+            } else {
+                savePlateByPlate(menu);
+            }
+            long elapsed = System.nanoTime() - start;
+            statements = statistics.getPrepareStatementCount();
+            if (i >= WARMUP) {
+                samples[i - WARMUP] = elapsed;
+            }
+            jdbcTemplate.update("delete from plate where restaurant_id = ?", RESTAURANT_ID);
+        }
+        Arrays.sort(samples);
+        return new double[] {samples[REPETITIONS / 2] / 1_000.0, statements};
+    }
+
+    @Test
+    @DisplayName("Batched menu insert should beat plate-by-plate saves")
+    void batchedInsertIsFaster() {
+        System.out.printf("%n%-10s %18s %12s %18s %12s%n",
+                "plates", "one-by-one (us)", "statements", "batched (us)", "statements");
+        for (int menuSize : MENU_SIZES) {
+            double[] oneByOne = measure(menuSize, false);
+            double[] batched = measure(menuSize, true);
+            System.out.printf("%-10d %18.1f %12.0f %18.1f %12.0f%n",
+                    menuSize, oneByOne[0], oneByOne[1], batched[0], batched[1]);
+
+            assertThat(batched[1]).isLessThan(oneByOne[1]);
+            assertThat(batched[0]).isLessThan(oneByOne[0]);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateModel;
+import com.pragma.powerup.domain.spi.IPlatePersistencePort;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tests de integración para el guardado en lote de platos
+ * Valida que un menú completo se inserta con unas pocas sentencias y convive con INSERT fuera de Hibernate
+ */
+@SpringBootTest
+class PlateBatchInsertTest {
+
+    private static final long RESTAURANT_ID = 9_201L;
+    private static final int MENU_SIZE = 120;
+
+    @Autowired
+    private IPlatePersistencePort platePersistencePort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    static List<PlateModel> menu(long restaurantId, int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> new PlateModel(null, "Plate " + i, 10_000 + i, "Description " + i, "https://img",
+                        PlateCategory.PRINCIPAL, true, restaurantId))
+                .toList();
+    }
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        statistics.setStatisticsEnabled(false);
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", RESTAURANT_ID);
+    }
+
+    @Test
+    @DisplayName("Should insert a full menu with a handful of statements")
+    void shouldInsertMenuInBatches() {
+        // When
+        List<PlateModel> saved = platePersistencePort.saveAll(menu(RESTAURANT_ID, MENU_SIZE));
+
+        // Then: 3 lotes de INSERT (batch_size 50) y 3 nextval (bloques de 50), no 120 sentencias
+        assertThat(saved).hasSize(MENU_SIZE);
+        assertThat(saved).extracting(PlateModel::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from plate where restaurant_id = ?", Long.class, RESTAURANT_ID))
+                .isEqualTo(MENU_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should not collide with ids taken by inserts outside Hibernate")
+    void shouldShareSequenceWithPlainInserts() {
+        // Given
+        platePersistencePort.saveAll(menu(RESTAURANT_ID, 10));
+        jdbcTemplate.update("insert into plate (name, price, description, image_url, category, active, restaurant_id)"
+                + " values ('Plain', 9000, 'Plain insert', 'https://img', 'ENTRADA', true, ?)", RESTAURANT_ID);
+
+        // When
+        platePersistencePort.saveAll(menu(RESTAURANT_ID, 70).subList(10, 70));
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(distinct id) from plate where restaurant_id = ?", Long.class, RESTAURANT_ID))
+                .isEqualTo(71);
+    }
+}
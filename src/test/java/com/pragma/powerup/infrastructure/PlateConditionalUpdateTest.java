@@ -0,0 +1,167 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Tests de integración para las actualizaciones condicionales de platos
+ * Valida que precio/descripción y estado se actualicen con una sola sentencia y el motivo del rechazo
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PlateConditionalUpdateTest {
+
+    private static final long OWNER_ID = 9_500L;
+    private static final long OTHER_OWNER_ID = 9_501L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    private Statistics statistics;
+    private long restaurantId;
+    private long plateId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                + " values ('Update Diner', 'update-1', 'Main St', '+573001234567', 'https://logo', ?)", OWNER_ID);
+        restaurantId = jdbcTemplate.queryForObject("select id from restaurant where nit = 'update-1'", Long.class);
+        jdbcTemplate.update("insert into plate (name, price, description, image_url, category, active, restaurant_id)"
+                + " values ('Soup', 9000, 'Tomato soup', 'https://img', 'ENTRADA', true, ?)", restaurantId);
+        plateId = jdbcTemplate.queryForObject(
+                "select id from plate where restaurant_id = ? and name = 'Soup'", Long.class, restaurantId);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", restaurantId);
+        jdbcTemplate.update("delete from restaurant where nit = 'update-1'");
+    }
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    private String bearer(long userId) {
+        return "Bearer "
+                + Jwts.builder()
+                        .subject("owner@example.com")
+                        .claim("userId", userId)
+                        .claim("roles", List.of("OWNER"))
+                        .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                        .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                        .compact();
+    }
+
+    /** Performs the request counting only the JDBC statements it prepares. */
+    private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        statistics.clear();
+        return mockMvc.perform(request);
+    }
+
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    @Test
+    @DisplayName("Should update price and description with one statement and return the new state")
+    void shouldUpdatePriceWithOneStatement() throws Exception {
+        perform(json(put("/api/v1/plates/{id}", plateId)
+                        .header("Authorization", bearer(OWNER_ID)), "{\"price\":12000,\"description\":\"Roasted\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(12000))
+                .andExpect(jsonPath("$.description").value("Roasted"))
+                .andExpect(jsonPath("$.name").value("Soup"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select price from plate where id = ?", Integer.class, plateId))
+                .isEqualTo(12000);
+    }
+
+    @Test
+    @DisplayName("Should toggle the active flag with one statement and return the new state")
+    void shouldToggleActiveWithOneStatement() throws Exception {
+        perform(json(patch("/api/v1/plates/{id}/status", plateId)
+                        .header("Authorization", bearer(OWNER_ID)), "{\"active\":false}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active").value(false));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        perform(json(patch("/api/v1/plates/{id}/status", plateId)
+                        .header("Authorization", bearer(OWNER_ID)), "{\"active\":true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active").value(true));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should leave the plate untouched and answer 403 when another owner updates it")
+    void shouldRejectOtherOwner() throws Exception {
+        Integer before = jdbcTemplate.queryForObject("select price from plate where id = ?", Integer.class, plateId);
+
+        perform(json(put("/api/v1/plates/{id}", plateId)
+                        .header("Authorization", bearer(OTHER_OWNER_ID)), "{\"price\":1,\"description\":\"Hijacked\"}"))
+                .andExpect(status().isForbidden());
+
+        // UPDATE sin filas + lectura del plato para saber el motivo (el dueño sale del índice en memoria)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select price from plate where id = ?", Integer.class, plateId))
+                .isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should answer 404 when the plate does not exist")
+    void shouldReportMissingPlate() throws Exception {
+        perform(json(patch("/api/v1/plates/{id}/status", 987_654_321L)
+                        .header("Authorization", bearer(OWNER_ID)), "{\"active\":false}"))
+                .andExpect(status().isNotFound());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,151 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Tests de integración para la importación masiva del menú
+ * Valida el informe por fila de NDJSON y CSV, la propiedad del restaurante y el tiempo de un menú de 5.000 platos
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PlateImportTest {
+
+    private static final long OWNER_ID = 9_300L;
+    private static final int LARGE_MENU = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    private long restaurantId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                + " values ('Import Bistro', 'import-1', 'Main St', '+573001234567', 'https://logo', ?)", OWNER_ID);
+        restaurantId = jdbcTemplate.queryForObject("select id from restaurant where nit = 'import-1'", Long.class);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", restaurantId);
+        jdbcTemplate.update("delete from restaurant where nit = 'import-1'");
+    }
+
+    private String bearer(long userId) {
+        return "Bearer "
+                + Jwts.builder()
+                        .subject("owner@example.com")
+                        .claim("userId", userId)
+                        .claim("roles", List.of("OWNER"))
+                        .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                        .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                        .compact();
+    }
+
+    private long plateCount() {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from plate where restaurant_id = ?", Long.class, restaurantId);
+    }
+
+    @Test
+    @DisplayName("Should import a 5,000-dish NDJSON menu in seconds")
+    void shouldImportLargeMenu() throws Exception {
+        // Given
+        StringBuilder document = new StringBuilder();
+        for (int i = 0; i < LARGE_MENU; i++) {
+            document.append("{\"name\":\"Dish ").append(i).append("\",\"price\":").append(10_000 + i)
+                    .append(",\"description\":\"Dish number ").append(i)
+                    .append("\",\"imageUrl\":\"https://img\",\"category\":\"PRINCIPAL\"}\n");
+        }
+        long before = plateCount();
+
+        // When
+        long start = System.nanoTime();
+        mockMvc.perform(post("/api/v1/plates/restaurant/{id}/import", restaurantId)
+                        .header("Authorization", bearer(OWNER_ID))
+                        .contentType("application/x-ndjson")
+                        .content(document.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(LARGE_MENU))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andExpect(jsonPath("$.rows.length()").value(LARGE_MENU));
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(plateCount() - before).isEqualTo(LARGE_MENU);
+        assertThat(millis).isLessThan(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Test
+    @DisplayName("Should report created and rejected CSV rows by line")
+    void shouldReportCsvRows() throws Exception {
+        String document = """
+                name,price,description,imageUrl,category
+                Lemonade,4000,"Fresh, cold",https://img,BEBIDA
+                Lemonade,4000,Duplicate in file,https://img,BEBIDA
+                Flan,free,Caramel,https://img,POSTRE
+                """;
+
+        mockMvc.perform(post("/api/v1/plates/restaurant/{id}/import", restaurantId)
+                        .header("Authorization", bearer(OWNER_ID))
+                        .contentType("text/csv")
+                        .content(document))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rows[0].line").value(2))
+                .andExpect(jsonPath("$.rows[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.rows[0].plateId").isNumber())
+                .andExpect(jsonPath("$.rows[1].error").value("plate name already exists in restaurant"))
+                .andExpect(jsonPath("$.rows[2].status").value("REJECTED"))
+                .andExpect(jsonPath("$.rows[2].error").value("invalid price: free"));
+    }
+
+    @Test
+    @DisplayName("Should forbid imports into another owner's restaurant")
+    void shouldRejectNonOwner() throws Exception {
+        mockMvc.perform(post("/api/v1/plates/restaurant/{id}/import", restaurantId)
+                        .header("Authorization", bearer(OWNER_ID + 1))
+                        .contentType("text/csv")
+                        .content("name,price,description,imageUrl,category\n"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should refuse unsupported content types")
+    void shouldRefuseUnsupportedFormat() throws Exception {
+        mockMvc.perform(post("/api/v1/plates/restaurant/{id}/import", restaurantId)
+                        .header("Authorization", bearer(OWNER_ID))
+                        .contentType("application/xml")
+                        .content("<plates/>"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+}
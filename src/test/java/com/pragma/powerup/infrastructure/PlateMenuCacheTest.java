@@ -0,0 +1,166 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pragma.powerup.application.dto.request.PlateCreateRequestDto;
+import com.pragma.powerup.application.dto.request.PlateStatusUpdateRequestDto;
+import com.pragma.powerup.application.dto.request.PlateUpdateRequestDto;
+import com.pragma.powerup.application.dto.response.PlateMenuItemDto;
+import com.pragma.powerup.application.handler.IPlateHandler;
+import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tests de integración para la caché del menú
+ * Valida que tras cada escritura confirmada ningún lector vea el menú anterior y que las lecturas repetidas no vayan a la base
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PlateMenuCacheTest {
+
+    private static final long OWNER_ID = 9_600L;
+    private static final int READERS = 6;
+    private static final int WRITES = 60;
+
+    @Autowired
+    private IPlateHandler plateHandler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private long restaurantId;
+    private long plateId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                + " values ('Cached Cantina', 'menu-cache-1', 'Main St', '+573001234567', 'https://logo', ?)", OWNER_ID);
+        restaurantId = jdbcTemplate.queryForObject("select id from restaurant where nit = 'menu-cache-1'", Long.class);
+        plateId = plateHandler.create(plateRequest("Taco", 1_000), OWNER_ID).getId();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", restaurantId);
+        jdbcTemplate.update("delete from restaurant where nit = 'menu-cache-1'");
+    }
+
+    private PlateCreateRequestDto plateRequest(String name, int price) {
+        PlateCreateRequestDto request = new PlateCreateRequestDto();
+        request.setName(name);
+        request.setPrice(price);
+        request.setDescription("Description");
+        request.setImageUrl("https://img");
+        request.setCategory(PlateCategory.PRINCIPAL);
+        request.setRestaurantId(restaurantId);
+        return request;
+    }
+
+    private List<PlateMenuItemDto> menu() {
+        return plateHandler.listByRestaurant(restaurantId, null, PlateMenuView.FULL, 0, 20, false).getItems();
+    }
+
+    private int tacoPrice() {
+        return menu().stream().filter(item -> item.getId().equals(plateId)).findFirst().orElseThrow().getPrice();
+    }
+
+    private double menuGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "plate.menu").tag("result", result)
+                .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("Should never serve a menu older than the last write that returned")
+    void shouldNotServeStaleMenuAfterWriteReturns() throws Exception {
+        // Given: el precio solo sube, así que un precio menor al último confirmado es un menú obsoleto
+        AtomicInteger committedPrice = new AtomicInteger(tacoPrice());
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger staleReads = new AtomicInteger();
+        AtomicInteger reads = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(READERS);
+        List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            readers.add(pool.submit(() -> {
+                while (writing.get()) {
+                    int floor = committedPrice.get();
+                    if (tacoPrice() < floor) {
+                        staleReads.incrementAndGet();
+                    }
+                    reads.incrementAndGet();
+                }
+            }));
+        }
+
+        // When
+        for (int i = 1; i <= WRITES; i++) {
+            PlateUpdateRequestDto update = new PlateUpdateRequestDto();
+            update.setPrice(1_000 + i);
+            update.setDescription("Price " + i);
+            plateHandler.update(plateId, update, OWNER_ID);
+            committedPrice.set(1_000 + i);
+            assertThat(tacoPrice()).isEqualTo(1_000 + i);
+        }
+        writing.set(false);
+        for (Future<?> reader : readers) {
+            reader.get();
+        }
+        pool.shutdown();
+
+        // Then: los lectores corrieron durante las escrituras y ninguno vio un precio ya superado
+        assertThat(reads.get()).isPositive();
+        assertThat(staleReads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should show created and deactivated plates as soon as the write returns")
+    void shouldReflectCreateAndToggle() {
+        // Given
+        menu();
+
+        // When & Then
+        long burritoId = plateHandler.create(plateRequest("Burrito", 2_000), OWNER_ID).getId();
+        assertThat(menu()).extracting(PlateMenuItemDto::getId).contains(burritoId);
+
+        PlateStatusUpdateRequestDto deactivate = new PlateStatusUpdateRequestDto();
+        deactivate.setActive(false);
+        plateHandler.updateStatus(burritoId, deactivate, OWNER_ID);
+        assertThat(menu()).extracting(PlateMenuItemDto::getId).doesNotContain(burritoId);
+    }
+
+    @Test
+    @DisplayName("Should answer repeated reads of an unchanged menu from the cache")
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        menu();
+        double hits = menuGets("hit");
+        double misses = menuGets("miss");
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            menu();
+        }
+
+        // Then
+        assertThat(menuGets("hit") - hits).isEqualTo(10);
+        assertThat(menuGets("miss") - misses).isZero();
+    }
+}
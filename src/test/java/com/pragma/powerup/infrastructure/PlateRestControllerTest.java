@@ -4,18 +4,25 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.pragma.powerup.TestDataFactory;
 import com.pragma.powerup.application.dto.request.PlateCreateRequestDto;
 import com.pragma.powerup.application.dto.request.PlateStatusUpdateRequestDto;
 import com.pragma.powerup.application.dto.request.PlateUpdateRequestDto;
+import com.pragma.powerup.application.dto.response.PlateMenuItemDto;
 import com.pragma.powerup.application.dto.response.PlateResponseDto;
+import com.pragma.powerup.application.dto.response.SliceDto;
 import com.pragma.powerup.application.handler.IPlateHandler;
 import com.pragma.powerup.application.util.JwtSecurityUtils;
 import com.pragma.powerup.domain.exception.DomainException;
 import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateMenuView;
+import com.pragma.powerup.infrastructure.input.rest.CatalogETags;
 import com.pragma.powerup.infrastructure.input.rest.PlateRestController;
+import com.pragma.powerup.infrastructure.out.bus.CatalogVersions;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +30,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
@@ -33,13 +42,24 @@ class PlateRestControllerTest {
 
     private IPlateHandler plateHandler;
     private JwtSecurityUtils jwtSecurityUtils;
+    private CatalogVersions catalogVersions;
     private PlateRestController restController;
 
     @BeforeEach
     void setUp() {
         plateHandler = mock(IPlateHandler.class);
         jwtSecurityUtils = mock(JwtSecurityUtils.class);
-        restController = new PlateRestController(plateHandler, jwtSecurityUtils);
+        catalogVersions = mock(CatalogVersions.class);
+        restController = new PlateRestController(plateHandler, jwtSecurityUtils,
+                new CatalogETags(catalogVersions, Duration.ZERO));
+    }
+
+    private static ServletWebRequest webRequest(String... ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        for (String etag : ifNoneMatch) {
+            request.addHeader("If-None-Match", etag);
+        }
+        return new ServletWebRequest(request);
     }
 
     @Nested
@@ -200,14 +220,16 @@ class PlateRestControllerTest {
         @DisplayName("Should list plates by restaurant and return 200 OK")
         void shouldListPlatesByRestaurantAndReturn200OK() {
             // Given
-            List<PlateResponseDto> plateList = TestDataFactory.createPlateResponseList();
+            List<PlateMenuItemDto> plateList = TestDataFactory.createPlateMenuItemDtoList();
 
             when(plateHandler.listByRestaurant(TestDataFactory.Constants.VALID_RESTAURANT_ID,
-                    PlateCategory.PRINCIPAL, 0, 10)).thenReturn(plateList);
+                    PlateCategory.PRINCIPAL, PlateMenuView.FULL, 0, 10, false))
+                    .thenReturn(new SliceDto<>(plateList, false, null, null));
 
             // When
-            ResponseEntity<List<PlateResponseDto>> response = restController.listByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, 0, 10);
+            ResponseEntity<List<PlateMenuItemDto>> response = restController.listByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, PlateCategory.PRINCIPAL, PlateMenuView.FULL,
+                    0, 10, false, webRequest());
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -215,21 +237,23 @@ class PlateRestControllerTest {
             assertThat(response.getBody()).hasSize(2);
 
             verify(plateHandler).listByRestaurant(TestDataFactory.Constants.VALID_RESTAURANT_ID,
-                    PlateCategory.PRINCIPAL, 0, 10);
+                    PlateCategory.PRINCIPAL, PlateMenuView.FULL, 0, 10, false);
         }
 
         @Test
         @DisplayName("Should list plates without category filter")
         void shouldListPlatesWithoutCategoryFilter() {
             // Given
-            List<PlateResponseDto> plateList = TestDataFactory.createPlateResponseList();
+            List<PlateMenuItemDto> plateList = TestDataFactory.createPlateMenuItemDtoList();
 
             when(plateHandler.listByRestaurant(TestDataFactory.Constants.VALID_RESTAURANT_ID,
-                    null, 0, 10)).thenReturn(plateList);
+                    null, PlateMenuView.FULL, 0, 10, false))
+                    .thenReturn(new SliceDto<>(plateList, false, null, null));
 
             // When
-            ResponseEntity<List<PlateResponseDto>> response = restController.listByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 10);
+            ResponseEntity<List<PlateMenuItemDto>> response = restController.listByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL,
+                    0, 10, false, webRequest());
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -237,7 +261,7 @@ class PlateRestControllerTest {
             assertThat(response.getBody()).hasSize(2);
 
             verify(plateHandler).listByRestaurant(TestDataFactory.Constants.VALID_RESTAURANT_ID,
-                    null, 0, 10);
+                    null, PlateMenuView.FULL, 0, 10, false);
         }
 
         @Test
@@ -245,11 +269,13 @@ class PlateRestControllerTest {
         void shouldHandleEmptyPlateList() {
             // Given
             when(plateHandler.listByRestaurant(TestDataFactory.Constants.INVALID_RESTAURANT_ID,
-                    null, 0, 10)).thenReturn(List.of());
+                    null, PlateMenuView.FULL, 0, 10, false))
+                    .thenReturn(new SliceDto<>(List.of(), false, null, null));
 
             // When
-            ResponseEntity<List<PlateResponseDto>> response = restController.listByRestaurant(
-                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, 0, 10);
+            ResponseEntity<List<PlateMenuItemDto>> response = restController.listByRestaurant(
+                    TestDataFactory.Constants.INVALID_RESTAURANT_ID, null, PlateMenuView.FULL,
+                    0, 10, false, webRequest());
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -257,28 +283,69 @@ class PlateRestControllerTest {
             assertThat(response.getBody()).isEmpty();
 
             verify(plateHandler).listByRestaurant(TestDataFactory.Constants.INVALID_RESTAURANT_ID,
-                    null, 0, 10);
+                    null, PlateMenuView.FULL, 0, 10, false);
         }
 
         @Test
         @DisplayName("Should use default pagination parameters")
         void shouldUseDefaultPaginationParameters() {
             // Given
-            List<PlateResponseDto> plateList = TestDataFactory.createPlateResponseList();
+            List<PlateMenuItemDto> plateList = TestDataFactory.createPlateMenuItemDtoList();
 
             when(plateHandler.listByRestaurant(TestDataFactory.Constants.VALID_RESTAURANT_ID,
-                    null, 0, 10)).thenReturn(plateList);
+                    null, PlateMenuView.FULL, 0, 10, false))
+                    .thenReturn(new SliceDto<>(plateList, false, null, null));
 
             // When - Simulating default values for page=0, size=10
-            ResponseEntity<List<PlateResponseDto>> response = restController.listByRestaurant(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, 0, 10);
+            ResponseEntity<List<PlateMenuItemDto>> response = restController.listByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL,
+                    0, 10, false, webRequest());
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
 
             verify(plateHandler).listByRestaurant(TestDataFactory.Constants.VALID_RESTAURANT_ID,
-                    null, 0, 10);
+                    null, PlateMenuView.FULL, 0, 10, false);
+        }
+
+        @Test
+        @DisplayName("Should tag the menu page with the restaurant version")
+        void shouldTagMenuPageWithRestaurantVersion() {
+            // Given
+            when(catalogVersions.restaurantVersion(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(3L);
+            when(plateHandler.listByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL, 0, 10, false))
+                    .thenReturn(new SliceDto<>(TestDataFactory.createPlateMenuItemDtoList(), false, null, null));
+
+            // When
+            ResponseEntity<List<PlateMenuItemDto>> response = restController.listByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL,
+                    0, 10, false, webRequest());
+
+            // Then
+            assertThat(response.getHeaders().getETag())
+                    .isEqualTo("\"restaurant-" + TestDataFactory.Constants.VALID_RESTAURANT_ID + "-3\"");
+            assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=0, must-revalidate, public");
+        }
+
+        @Test
+        @DisplayName("Should answer 304 without calling the handler when the ETag matches")
+        void shouldAnswerNotModifiedWithoutHandler() {
+            // Given
+            when(catalogVersions.restaurantVersion(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(3L);
+            String etag = "\"restaurant-" + TestDataFactory.Constants.VALID_RESTAURANT_ID + "-3\"";
+
+            // When
+            ResponseEntity<List<PlateMenuItemDto>> response = restController.listByRestaurant(
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, null, PlateMenuView.FULL,
+                    0, 10, false, webRequest(etag));
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getBody()).isNull();
+            assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+            verifyNoInteractions(plateHandler);
         }
     }
 }
@@ -0,0 +1,124 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Prueba de carga de las lecturas públicas del catálogo (./gradlew loadTest)
+ *
+ * <p>Compara p50/p99 de peticiones anónimas frente a peticiones con un bearer válido y con bearers
+ * falsos distintos en cada petición (el peor caso: antes del camino rápido cada uno costaba una
+ * verificación HMAC fallida y una excepción). Con el camino rápido las tres deben costar lo mismo.
+ */
+@Tag("load")
+@SpringBootTest
+@AutoConfigureMockMvc
+class PublicCatalogLoadTest {
+
+    private static final int WARMUP = 1_000;
+    private static final int REQUESTS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    private String validBearer() {
+        return "Bearer "
+                + Jwts.builder()
+                        .subject("owner@example.com")
+                        .claim("userId", 100L)
+                        .claim("roles", List.of("OWNER"))
+                        .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                        .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                        .compact();
+    }
+
+    private static String forgedBearer() {
+        String random = UUID.randomUUID().toString().replace("-", "");
+        return "Bearer eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ" + random + "In0.c2lnbmF0dXJl" + random;
+    }
+
+    /** Runs the scenarios interleaved so JIT warm-up and GC pauses hit all of them alike. */
+    private long[][] measure(String path, List<Supplier<String>> scenarios) throws Exception {
+        long[][] samples = new long[scenarios.size()][REQUESTS];
+        for (int i = 0; i < WARMUP + REQUESTS; i++) {
+            for (int s = 0; s < scenarios.size(); s++) {
+                MockHttpServletRequestBuilder request = get(path);
+                String header = scenarios.get(s).get();
+                if (header != null) {
+                    request.header("Authorization", header);
+                }
+                long start = System.nanoTime();
+                mockMvc.perform(request).andExpect(status().isOk());
+                if (i >= WARMUP) {
+                    samples[s][i - WARMUP] = System.nanoTime() - start;
+                }
+            }
+        }
+        for (long[] scenario : samples) {
+            Arrays.sort(scenario);
+        }
+        return samples;
+    }
+
+    private static double percentileMicros(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000.0;
+    }
+
+    private void report(String path) throws Exception {
+        String valid = validBearer();
+        long[][] samples =
+                measure(path, List.of(() -> null, () -> valid, PublicCatalogLoadTest::forgedBearer));
+        long[] anonymous = samples[0];
+        long[] withValidToken = samples[1];
+        long[] withForgedTokens = samples[2];
+
+        System.out.printf("%n%-32s %12s %12s%n", path, "p50 (us)", "p99 (us)");
+        String[] names = {"anonymous", "valid bearer", "fresh forged bearer"};
+        for (int s = 0; s < names.length; s++) {
+            System.out.printf(
+                    "%-32s %12.1f %12.1f%n",
+                    names[s], percentileMicros(samples[s], 0.50), percentileMicros(samples[s], 0.99));
+        }
+
+        // Holgura amplia: el objetivo es detectar que vuelva a verificarse el token, no medir ruido
+        double anonymousP99 = percentileMicros(anonymous, 0.99);
+        assertThat(percentileMicros(withForgedTokens, 0.99)).isLessThan(anonymousP99 * 3 + 500);
+        assertThat(percentileMicros(withValidToken, 0.99)).isLessThan(anonymousP99 * 3 + 500);
+    }
+
+    @Test
+    @DisplayName("Restaurant directory p99 should not depend on the bearer header")
+    void restaurantDirectoryLatency() throws Exception {
+        report("/api/v1/restaurants");
+    }
+
+    @Test
+    @DisplayName("Plate menu p99 should not depend on the bearer header")
+    void plateMenuLatency() throws Exception {
+        report("/api/v1/plates/restaurant/1");
+    }
+}
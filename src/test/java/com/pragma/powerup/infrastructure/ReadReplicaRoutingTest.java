@@ -0,0 +1,237 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateModel;
+import com.pragma.powerup.domain.spi.ICatalogChangePort;
+import com.pragma.powerup.domain.spi.IPlatePersistencePort;
+import com.pragma.powerup.infrastructure.out.jpa.routing.CatalogReadRouting;
+import com.pragma.powerup.infrastructure.out.jpa.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests de integración para el enrutado de lecturas a réplicas
+ * Valida con dos bases H2 embebidas (primario y réplica) que los listados leen de la réplica, que las
+ * escrituras van al primario, la lectura de lo propio tras escribir y la vuelta al primario si la
+ * réplica cae
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+    "catalog.datasource.replicas.urls=" + ReadReplicaRoutingTest.REPLICA_URL,
+    "catalog.datasource.replicas.health-check-interval=1h",
+    "spring.datasource.hikari.maximum-pool-size=7",
+    "catalog.datasource.replicas.hikari.maximum-pool-size=3"
+})
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:powerup-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private static final long REPLICA_RESTAURANT_ID = 9_101L;
+    private static final long WRITTEN_RESTAURANT_ID = 9_103L;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IPlatePersistencePort platePersistencePort;
+
+    @Autowired
+    private ICatalogChangePort catalogChangePort;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @BeforeAll
+    void seedReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        replica.update("insert into restaurant (id, name, nit, address, phone, logo_url, owner_id)"
+                + " values (?, 'Replica Bistro', 'replica-1', 'Main St', '+573001234567', 'https://logo', 900)",
+                REPLICA_RESTAURANT_ID);
+        replica.update("insert into plate (name, price, description, image_url, category, active, restaurant_id)"
+                + " values ('Replica Soup', 9000, 'Soup', 'https://img', 'ENTRADA', true, ?)", REPLICA_RESTAURANT_ID);
+        replica.update("insert into plate (name, price, description, image_url, category, active, restaurant_id)"
+                + " values ('Stale Soup', 9000, 'Soup', 'https://img', 'ENTRADA', true, ?)", WRITTEN_RESTAURANT_ID);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", WRITTEN_RESTAURANT_ID);
+        jdbcTemplate.update("delete from restaurant where nit = 'replica-primary-1'");
+    }
+
+    @Test
+    @DisplayName("Should serve the directory and menus from the replica")
+    void shouldReadCatalogFromReplica() throws Exception {
+        mockMvc.perform(get("/api/v1/restaurants").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Replica Bistro"));
+        mockMvc.perform(get("/api/v1/plates/restaurant/{id}", REPLICA_RESTAURANT_ID).param("page", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Replica Soup"));
+    }
+
+    @Test
+    @DisplayName("Should keep writes and non-catalog reads on the primary")
+    void shouldWriteToPrimary() {
+        // When
+        jdbcTemplate.update("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                + " values ('Primary Only', 'replica-primary-1', 'Main St', '+573001234567', 'https://logo', 900)");
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from restaurant where nit = 'replica-primary-1'", Long.class)).isEqualTo(1);
+        assertThat(replica.queryForObject(
+                "select count(*) from restaurant where nit = 'replica-primary-1'", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read a just-written menu from the primary")
+    void shouldReadYourWrites() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/v1/plates/restaurant/{id}", WRITTEN_RESTAURANT_ID).param("page", "0"))
+                .andExpect(jsonPath("$[0].name").value("Stale Soup"));
+
+        // When: como PlateUseCase, la escritura también avisa a la caché del menú
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            platePersistencePort.save(new PlateModel(null, "Fresh Soup", 9000, "Soup", "https://img",
+                    PlateCategory.ENTRADA, true, WRITTEN_RESTAURANT_ID));
+            catalogChangePort.menuChanged(WRITTEN_RESTAURANT_ID);
+        });
+
+        // Then
+        mockMvc.perform(get("/api/v1/plates/restaurant/{id}", WRITTEN_RESTAURANT_ID).param("page", "0"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Fresh Soup"));
+    }
+
+    @Test
+    @DisplayName("Should tune the primary and the replica pools from their own hikari properties")
+    void shouldBindPoolSettings() {
+        // Then
+        HikariDataSource replicaPool = (HikariDataSource) replicaRoutingDataSource.replicas().get(0).dataSource();
+        assertThat(primaryDataSource.getMaximumPoolSize()).isEqualTo(7);
+        assertThat(primaryDataSource.getPoolName()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(replicaPool.getMaximumPoolSize()).isEqualTo(3);
+        assertThat(replicaPool.getPoolName()).isEqualTo("replica-0");
+        assertThat(replicaPool.isReadOnly()).isTrue();
+    }
+
+    @Nested
+    @DisplayName("Replica Failover Tests")
+    class FailoverTests {
+
+        private final DataSource primary =
+                new DriverManagerDataSource("jdbc:h2:mem:failover-primary;DB_CLOSE_DELAY=-1", "sa", "");
+        private final DataSource replicaPool = mock(DataSource.class);
+        private final CatalogReadRouting readRouting = new CatalogReadRouting(Duration.ZERO);
+        private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, List.of(new ReplicaRoutingDataSource.Replica("replica-0", replicaPool)),
+                Duration.ofHours(1), new SimpleMeterRegistry());
+
+        private Connection readOnlyConnection() {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            try {
+                return readRouting.onReplica(() -> {
+                    try {
+                        return routing.getConnection();
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            } finally {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+        }
+
+        @Test
+        @DisplayName("Should fall back to the primary and leave rotation when the replica fails")
+        void shouldFallBackToPrimary() throws Exception {
+            // Given
+            when(replicaPool.getConnection()).thenThrow(new SQLException("replica down"));
+
+            // When
+            try (Connection connection = readOnlyConnection()) {
+                // Then
+                assertThat(connection.isValid(1)).isTrue();
+            }
+            assertThat(routing.replicas().get(0).healthy()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should bring the replica back once the health check passes")
+        void shouldRejoinAfterHealthCheck() throws Exception {
+            // Given
+            Connection replicaConnection = mock(Connection.class);
+            when(replicaPool.getConnection())
+                    .thenThrow(new SQLException("replica down"))
+                    .thenReturn(replicaConnection);
+            when(replicaConnection.isValid(2)).thenReturn(true);
+            readOnlyConnection().close();
+
+            // When
+            routing.checkReplicas();
+
+            // Then
+            assertThat(routing.replicas().get(0).healthy()).isTrue();
+            when(replicaPool.getConnection()).thenReturn(replicaConnection);
+            assertThat(readOnlyConnection()).isSameAs(replicaConnection);
+        }
+
+        @Test
+        @DisplayName("Should use the primary outside read-only catalog reads")
+        void shouldUsePrimaryForWrites() throws Exception {
+            try (Connection connection = routing.getConnection()) {
+                assertThat(connection).isNotNull();
+            }
+            assertThat(routing.replicas().get(0).healthy()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.pragma.powerup.infrastructure.security.RequestIdGenerator;
+import com.pragma.powerup.infrastructure.security.TraceIdRequestIdGenerator;
+import com.pragma.powerup.infrastructure.security.UlidRequestIdGenerator;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitarios para los generadores de requestId
+ * Valida el formato ULID, su orden temporal y la reutilización del traceId activo
+ */
+class RequestIdGeneratorTest {
+
+    @Nested
+    @DisplayName("ULID Generator Tests")
+    class UlidTests {
+
+        private final UlidRequestIdGenerator generator = new UlidRequestIdGenerator();
+
+        @Test
+        @DisplayName("Should produce 26 Crockford base32 characters")
+        void shouldProduceCrockfordBase32() {
+            assertThat(generator.nextId()).hasSize(26).matches("[0-9A-HJKMNP-TV-Z]{26}");
+        }
+
+        @Test
+        @DisplayName("Should sort by creation time")
+        void shouldSortByCreationTime() throws InterruptedException {
+            // Given
+            String earlier = generator.nextId();
+            Thread.sleep(2);
+
+            // When
+            String later = generator.nextId();
+
+            // Then
+            assertThat(later.substring(0, 10)).isGreaterThan(earlier.substring(0, 10));
+            assertThat(later).isGreaterThan(earlier);
+        }
+
+        @Test
+        @DisplayName("Should not repeat ids across concurrent threads")
+        void shouldBeUniqueAcrossThreads() throws Exception {
+            // Given
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            List<Future<?>> tasks = new ArrayList<>();
+
+            // When
+            for (int t = 0; t < 8; t++) {
+                tasks.add(
+                        pool.submit(
+                                () -> {
+                                    for (int i = 0; i < 10_000; i++) {
+                                        ids.add(generator.nextId());
+                                    }
+                                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+            pool.shutdown();
+
+            // Then
+            assertThat(ids).hasSize(80_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Trace Id Generator Tests")
+    class TraceIdTests {
+
+        @Test
+        @DisplayName("Should reuse the active trace id")
+        void shouldReuseActiveTraceId() {
+            // Given
+            Tracer tracer = mock(Tracer.class);
+            Span span = mock(Span.class);
+            TraceContext context = mock(TraceContext.class);
+            when(tracer.currentSpan()).thenReturn(span);
+            when(span.context()).thenReturn(context);
+            when(context.traceId()).thenReturn("4bf92f3577b34da6a3ce929d0e0e4736");
+            RequestIdGenerator generator = new TraceIdRequestIdGenerator(tracer, () -> "fallback");
+
+            // When & Then
+            assertThat(generator.nextId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        }
+
+        @Test
+        @DisplayName("Should fall back when no span is active")
+        void shouldFallBackWithoutSpan() {
+            // Given
+            Tracer tracer = mock(Tracer.class);
+            when(tracer.currentSpan()).thenReturn(null);
+            RequestIdGenerator generator = new TraceIdRequestIdGenerator(tracer, () -> "fallback");
+
+            // When & Then
+            assertThat(generator.nextId()).isEqualTo("fallback");
+        }
+    }
+}
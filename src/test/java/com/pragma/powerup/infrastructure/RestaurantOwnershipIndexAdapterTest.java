@@ -0,0 +1,148 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.pragma.powerup.infrastructure.out.cache.RestaurantOwnershipIndexAdapter;
+import com.pragma.powerup.infrastructure.out.jpa.projection.RestaurantOwnerView;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IRestaurantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tests unitarios para RestaurantOwnershipIndexAdapter
+ * Valida la carga inicial, el respaldo a base de datos y el registro tras el commit
+ */
+class RestaurantOwnershipIndexAdapterTest {
+
+    private IRestaurantRepository repository;
+    private MeterRegistry meterRegistry;
+    private RestaurantOwnershipIndexAdapter adapter;
+
+    private static RestaurantOwnerView view(Long id, Long ownerId) {
+        return new RestaurantOwnerView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getOwnerId() {
+                return ownerId;
+            }
+        };
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("restaurant.ownership.lookups").tag("result", result).counter().count();
+    }
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IRestaurantRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new RestaurantOwnershipIndexAdapter(repository, meterRegistry);
+        when(repository.findAllOwners()).thenReturn(List.of(view(1L, 100L), view(2L, 200L)));
+        adapter.afterSingletonsInstantiated();
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should answer loaded restaurants without querying the database")
+        void shouldAnswerFromIndex() {
+            // When & Then
+            assertThat(adapter.findOwnerId(1L)).isEqualTo(100L);
+            assertThat(adapter.findOwnerId(2L)).isEqualTo(200L);
+
+            verify(repository, never()).findOwnerIdById(1L);
+            assertThat(lookups("hit")).isEqualTo(2);
+            assertThat(meterRegistry.get("restaurant.ownership.index.size").gauge().value()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should fall back to the database once and cache existing restaurants")
+        void shouldFallBackAndCache() {
+            // Given
+            when(repository.findOwnerIdById(3L)).thenReturn(Optional.of(300L));
+
+            // When
+            Long first = adapter.findOwnerId(3L);
+            Long second = adapter.findOwnerId(3L);
+
+            // Then
+            assertThat(first).isEqualTo(300L);
+            assertThat(second).isEqualTo(300L);
+            verify(repository, times(1)).findOwnerIdById(3L);
+            assertThat(lookups("miss")).isEqualTo(1);
+            assertThat(lookups("hit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should return null and not cache unknown restaurants")
+        void shouldNotCacheUnknownRestaurants() {
+            // Given
+            when(repository.findOwnerIdById(99L)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThat(adapter.findOwnerId(99L)).isNull();
+            assertThat(adapter.findOwnerId(99L)).isNull();
+            verify(repository, times(2)).findOwnerIdById(99L);
+            assertThat(meterRegistry.get("restaurant.ownership.index.size").gauge().value()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Register Owner Tests")
+    class RegisterOwnerTests {
+
+        @AfterEach
+        void tearDown() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("Should register immediately outside a transaction")
+        void shouldRegisterWithoutTransaction() {
+            // When
+            adapter.registerOwner(5L, 500L);
+
+            // Then
+            assertThat(adapter.findOwnerId(5L)).isEqualTo(500L);
+            verify(repository, never()).findOwnerIdById(5L);
+        }
+
+        @Test
+        @DisplayName("Should register only after the transaction commits")
+        void shouldRegisterAfterCommit() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+            when(repository.findOwnerIdById(6L)).thenReturn(Optional.empty());
+
+            // When
+            adapter.registerOwner(6L, 600L);
+
+            // Then
+            assertThat(adapter.findOwnerId(6L)).isNull();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(adapter.findOwnerId(6L)).isEqualTo(600L);
+        }
+    }
+}
@@ -5,15 +5,20 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.pragma.powerup.TestDataFactory;
 import com.pragma.powerup.application.dto.request.RestaurantCreateRequestDto;
 import com.pragma.powerup.application.dto.response.RestaurantListItemDto;
 import com.pragma.powerup.application.dto.response.RestaurantResponseDto;
+import com.pragma.powerup.application.dto.response.SliceDto;
 import com.pragma.powerup.application.handler.IRestaurantHandler;
 import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.infrastructure.input.rest.CatalogETags;
 import com.pragma.powerup.infrastructure.input.rest.RestaurantRestController;
+import com.pragma.powerup.infrastructure.out.bus.CatalogVersions;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +26,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
@@ -30,12 +37,23 @@ import org.springframework.web.util.UriComponentsBuilder;
 class RestaurantRestControllerTest {
 
     private IRestaurantHandler restaurantHandler;
+    private CatalogVersions catalogVersions;
     private RestaurantRestController restController;
 
     @BeforeEach
     void setUp() {
         restaurantHandler = mock(IRestaurantHandler.class);
-        restController = new RestaurantRestController(restaurantHandler);
+        catalogVersions = mock(CatalogVersions.class);
+        restController = new RestaurantRestController(restaurantHandler,
+                new CatalogETags(catalogVersions, Duration.ZERO));
+    }
+
+    private static ServletWebRequest webRequest(String... ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        for (String etag : ifNoneMatch) {
+            request.addHeader("If-None-Match", etag);
+        }
+        return new ServletWebRequest(request);
     }
 
     @Nested
@@ -93,10 +111,10 @@ class RestaurantRestControllerTest {
             // Given
             List<RestaurantListItemDto> restaurantList = TestDataFactory.createRestaurantListItems();
 
-            when(restaurantHandler.list(0, 10)).thenReturn(restaurantList);
+            when(restaurantHandler.list(0, 10, false)).thenReturn(new SliceDto<>(restaurantList, false, null, null));
 
             // When
-            ResponseEntity<List<RestaurantListItemDto>> response = restController.list(0, 10);
+            ResponseEntity<List<RestaurantListItemDto>> response = restController.list(0, 10, false, webRequest());
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -105,24 +123,24 @@ class RestaurantRestControllerTest {
             assertThat(response.getBody().get(0).getName()).isEqualTo("Pizza Palace");
             assertThat(response.getBody().get(1).getName()).isEqualTo("Burger House");
 
-            verify(restaurantHandler).list(0, 10);
+            verify(restaurantHandler).list(0, 10, false);
         }
 
         @Test
         @DisplayName("Should handle empty list and return 200 OK")
         void shouldHandleEmptyListAndReturn200OK() {
             // Given
-            when(restaurantHandler.list(0, 10)).thenReturn(List.of());
+            when(restaurantHandler.list(0, 10, false)).thenReturn(new SliceDto<>(List.of(), false, null, null));
 
             // When
-            ResponseEntity<List<RestaurantListItemDto>> response = restController.list(0, 10);
+            ResponseEntity<List<RestaurantListItemDto>> response = restController.list(0, 10, false, webRequest());
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
             assertThat(response.getBody()).isEmpty();
 
-            verify(restaurantHandler).list(0, 10);
+            verify(restaurantHandler).list(0, 10, false);
         }
 
         @Test
@@ -131,16 +149,54 @@ class RestaurantRestControllerTest {
             // Given
             List<RestaurantListItemDto> restaurantList = TestDataFactory.createRestaurantListItems();
 
-            when(restaurantHandler.list(0, 10)).thenReturn(restaurantList);
+            when(restaurantHandler.list(0, 10, false)).thenReturn(new SliceDto<>(restaurantList, false, null, null));
 
             // When - Simulating default parameters
-            ResponseEntity<List<RestaurantListItemDto>> response = restController.list(0, 10);
+            ResponseEntity<List<RestaurantListItemDto>> response = restController.list(0, 10, false, webRequest());
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
 
-            verify(restaurantHandler).list(0, 10);
+            verify(restaurantHandler).list(0, 10, false);
+        }
+
+        @Test
+        @DisplayName("Should expose has-next and approximate total as headers")
+        void shouldExposeSliceHeaders() {
+            // Given
+            List<RestaurantListItemDto> restaurantList = TestDataFactory.createRestaurantListItems();
+            when(restaurantHandler.list(0, 2, true)).thenReturn(new SliceDto<>(restaurantList, true, null, 57L));
+
+            // When
+            ResponseEntity<List<RestaurantListItemDto>> response = restController.list(0, 2, true, webRequest());
+
+            // Then
+            assertThat(response.getBody()).hasSize(2);
+            assertThat(response.getHeaders().getFirst("X-Has-Next")).isEqualTo("true");
+            assertThat(response.getHeaders().getFirst("X-Approximate-Total")).isEqualTo("57");
+            assertThat(response.getHeaders().containsKey("X-Next-Cursor")).isFalse();
+            assertThat(response.getHeaders().getETag()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should tag directory pages and answer 304 when the directory did not change")
+        void shouldAnswerNotModifiedForUnchangedDirectory() {
+            // Given
+            when(catalogVersions.directoryVersion()).thenReturn(7L);
+            when(restaurantHandler.list(0, 10, false))
+                    .thenReturn(new SliceDto<>(TestDataFactory.createRestaurantListItems(), false, null, null));
+            ResponseEntity<List<RestaurantListItemDto>> first = restController.list(0, 10, false, webRequest());
+
+            // When
+            ResponseEntity<List<RestaurantListItemDto>> second =
+                    restController.list(0, 10, false, webRequest(first.getHeaders().getETag()));
+
+            // Then
+            assertThat(first.getHeaders().getETag()).isEqualTo("\"directory-7\"");
+            assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(second.getHeaders().getCacheControl()).isEqualTo("max-age=0, must-revalidate, public");
+            verify(restaurantHandler).list(0, 10, false);
         }
     }
 
@@ -159,7 +215,7 @@ class RestaurantRestControllerTest {
 
             // When
             ResponseEntity<RestaurantResponseDto> response = restController.findById(
-                    TestDataFactory.Constants.VALID_RESTAURANT_ID);
+                    TestDataFactory.Constants.VALID_RESTAURANT_ID, webRequest());
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -179,11 +235,29 @@ class RestaurantRestControllerTest {
                             TestDataFactory.Constants.INVALID_RESTAURANT_ID));
 
             // When & Then
-            assertThatThrownBy(() -> restController.findById(TestDataFactory.Constants.INVALID_RESTAURANT_ID))
+            assertThatThrownBy(() -> restController.findById(TestDataFactory.Constants.INVALID_RESTAURANT_ID,
+                    webRequest()))
                     .isInstanceOf(DomainException.class)
                     .hasMessage("Restaurant not found with id: " + TestDataFactory.Constants.INVALID_RESTAURANT_ID);
 
             verify(restaurantHandler).findById(TestDataFactory.Constants.INVALID_RESTAURANT_ID);
         }
+
+        @Test
+        @DisplayName("Should answer 304 with private caching when the restaurant did not change")
+        void shouldAnswerNotModifiedForUnchangedRestaurant() {
+            // Given
+            when(catalogVersions.restaurantVersion(TestDataFactory.Constants.VALID_RESTAURANT_ID)).thenReturn(2L);
+            String etag = "\"restaurant-" + TestDataFactory.Constants.VALID_RESTAURANT_ID + "-2\"";
+
+            // When
+            ResponseEntity<RestaurantResponseDto> response =
+                    restController.findById(TestDataFactory.Constants.VALID_RESTAURANT_ID, webRequest(etag));
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=0, must-revalidate, private");
+            verifyNoInteractions(restaurantHandler);
+        }
     }
 }
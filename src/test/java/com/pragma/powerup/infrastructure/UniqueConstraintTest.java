@@ -0,0 +1,150 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.pragma.powerup.application.dto.request.PlateCreateRequestDto;
+import com.pragma.powerup.application.handler.IPlateHandler;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.PlateCategory;
+import com.pragma.powerup.domain.model.PlateModel;
+import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.spi.IPlatePersistencePort;
+import com.pragma.powerup.domain.spi.IRestaurantPersistencePort;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tests de integración para la unicidad de nombres de plato y NITs
+ * Valida que, con inserciones concurrentes, la base de datos deje pasar una sola y las demás reciban el error de dominio
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UniqueConstraintTest {
+
+    private static final long OWNER_ID = 9_400L;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private IPlateHandler plateHandler;
+
+    @Autowired
+    private IPlatePersistencePort platePersistencePort;
+
+    @Autowired
+    private IRestaurantPersistencePort restaurantPersistencePort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long restaurantId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("insert into restaurant (name, nit, address, phone, logo_url, owner_id)"
+                + " values ('Unique Grill', 'unique-1', 'Main St', '+573001234567', 'https://logo', ?)", OWNER_ID);
+        restaurantId = jdbcTemplate.queryForObject("select id from restaurant where nit = 'unique-1'", Long.class);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from plate where restaurant_id = ?", restaurantId);
+        jdbcTemplate.update("delete from restaurant where nit like 'unique-%'");
+    }
+
+    private PlateCreateRequestDto plateRequest(String name) {
+        PlateCreateRequestDto request = new PlateCreateRequestDto();
+        request.setName(name);
+        request.setPrice(12_000);
+        request.setDescription("Description");
+        request.setImageUrl("https://img");
+        request.setCategory(PlateCategory.PRINCIPAL);
+        request.setRestaurantId(restaurantId);
+        return request;
+    }
+
+    /** Runs the same insert on every thread at once and returns the messages of the rejected ones. */
+    private static List<String> race(Callable<?> insert) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(pool.submit(() -> {
+                start.await();
+                return insert.call();
+            }));
+        }
+        start.countDown();
+        List<String> rejections = new ArrayList<>();
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(DomainException.class);
+                rejections.add(e.getCause().getMessage());
+            }
+        }
+        pool.shutdown();
+        return rejections;
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent plates with the same name through")
+    void shouldRejectConcurrentDuplicatePlates() throws Exception {
+        // When
+        List<String> rejections = race(() -> plateHandler.create(plateRequest("Contested Dish"), OWNER_ID));
+
+        // Then
+        assertThat(rejections).hasSize(THREADS - 1).containsOnly("plate name already exists in restaurant");
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from plate where restaurant_id = ? and name = 'Contested Dish'",
+                Long.class, restaurantId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent restaurants with the same NIT through")
+    void shouldRejectConcurrentDuplicateNits() throws Exception {
+        // When
+        List<String> rejections = race(() -> restaurantPersistencePort.save(new RestaurantModel(
+                null, "Twin Grill", "unique-2", "Main St", "+573001234567", "https://logo", OWNER_ID)));
+
+        // Then
+        assertThat(rejections).hasSize(THREADS - 1).containsOnly("NIT already exists");
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from restaurant where nit = 'unique-2'", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject a batch that repeats an existing name without inserting any of it")
+    void shouldRejectWholeBatchOnDuplicateName() {
+        // Given
+        plateHandler.create(plateRequest("Batch Dish"), OWNER_ID);
+        List<PlateModel> batch = List.of(
+                new PlateModel(null, "Fresh Dish", 9_000, "Description", "https://img", PlateCategory.PRINCIPAL,
+                        true, restaurantId),
+                new PlateModel(null, "Batch Dish", 9_000, "Description", "https://img", PlateCategory.PRINCIPAL,
+                        true, restaurantId));
+
+        // When & Then
+        assertThatThrownBy(() -> platePersistencePort.saveAll(batch))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("plate name already exists in restaurant");
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from plate where restaurant_id = ? and name = 'Fresh Dish'",
+                Long.class, restaurantId)).isZero();
+    }
+}
@@ -0,0 +1,98 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.pragma.powerup.UsersServiceStandIn;
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.infrastructure.out.feign.adapter.UserFeignAdapter;
+import com.pragma.powerup.infrastructure.out.feign.client.IUsersFeignClient;
+import feign.RetryableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Tests de integración para el transporte Feign hacia users-service
+ * Valida la descompresión gzip, el timeout de lectura y las métricas de pool y latencia
+ */
+@SpringBootTest
+class UsersFeignTransportTest {
+
+    private static final UsersServiceStandIn USERS_SERVICE = UsersServiceStandIn.start();
+
+    @Autowired
+    private UserFeignAdapter userFeignAdapter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void usersService(DynamicPropertyRegistry registry) {
+        registry.add("feign.clients.users-service.url", USERS_SERVICE::url);
+        registry.add("spring.cloud.openfeign.client.config.users-service.read-timeout", () -> 300);
+    }
+
+    @BeforeEach
+    void setUp() {
+        USERS_SERVICE.reset();
+    }
+
+    @AfterAll
+    static void stopUsersService() {
+        USERS_SERVICE.close();
+    }
+
+    @Test
+    @DisplayName("Should decode gzip responses and record per-endpoint latency")
+    void shouldDecodeGzipAndRecordLatency() {
+        // When
+        UserModel user = userFeignAdapter.getUserById(1L);
+
+        // Then
+        assertThat(user.getEmail()).isEqualTo("user1@example.com");
+        assertThat(user.getRole()).isEqualTo(RoleEnum.OWNER);
+        assertThat(USERS_SERVICE.gzippedResponses()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.client.requests")
+                .tag("clientName", IUsersFeignClient.class.getName())
+                .tag("http.url", "/api/v1/users/{id}")
+                .timer()
+                .count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give up when the users service exceeds the read timeout")
+    void shouldEnforceReadTimeout() {
+        // Given: el cliente Feign se crea en la primera llamada; no debe contar en la medición
+        userFeignAdapter.getUserById(1L);
+        USERS_SERVICE.withLatency(Duration.ofSeconds(3));
+
+        // When & Then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> userFeignAdapter.getUserById(2L)).isInstanceOf(RetryableException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should expose connection pool gauges")
+    void shouldExposePoolMetrics() {
+        // Given
+        userFeignAdapter.getUserById(1L);
+
+        // When & Then
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "feign")
+                .gauge()
+                .value())
+                .isEqualTo(200);
+    }
+}
@@ -0,0 +1,216 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.TestDataFactory;
+import com.pragma.powerup.UsersServiceStandIn;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.spi.IUserServicePort;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Tests de integración para el bulkhead y el circuit breaker de users-service
+ * Valida el fallo rápido con 503 contra un users-service degradado (errores y latencia)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class UsersServiceResilienceTest {
+
+    private static final UsersServiceStandIn USERS_SERVICE = UsersServiceStandIn.start();
+    private static final AtomicLong NEXT_USER_ID = new AtomicLong(1_000);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IUserServicePort userServicePort;
+
+    @Autowired
+    private CircuitBreaker usersServiceCircuitBreaker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @DynamicPropertySource
+    static void usersService(DynamicPropertyRegistry registry) {
+        registry.add("feign.clients.users-service.url", USERS_SERVICE::url);
+        registry.add("feign.clients.users-service.resilience.sliding-window-size", () -> 4);
+        registry.add("feign.clients.users-service.resilience.minimum-number-of-calls", () -> 4);
+        registry.add("feign.clients.users-service.resilience.wait-in-open-state", () -> "1m");
+        registry.add("feign.clients.users-service.resilience.slow-call-duration", () -> "5s");
+        registry.add("feign.clients.users-service.resilience.max-concurrent-calls", () -> 2);
+    }
+
+    @BeforeEach
+    void setUp() {
+        USERS_SERVICE.reset();
+        usersServiceCircuitBreaker.reset();
+    }
+
+    @AfterAll
+    static void stopUsersService() {
+        USERS_SERVICE.close();
+    }
+
+    /** Cada llamada usa un usuario nuevo para que la caché de usuarios no la responda. */
+    private static long newUserId() {
+        return NEXT_USER_ID.incrementAndGet();
+    }
+
+    private double transitions(String from, String to) {
+        Counter counter = meterRegistry.find("users.service.circuit.transitions")
+                .tag("from", from)
+                .tag("to", to)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private String adminBearer() {
+        return "Bearer "
+                + Jwts.builder()
+                        .subject("admin@example.com")
+                        .claim("userId", 1L)
+                        .claim("roles", List.of("ADMIN"))
+                        .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                        .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                        .compact();
+    }
+
+    @Nested
+    @DisplayName("Circuit Breaker Tests")
+    class CircuitBreakerTests {
+
+        @Test
+        @DisplayName("Should open after repeated failures and stop calling the users service")
+        void shouldOpenAndFailFast() {
+            // Given
+            USERS_SERVICE.failingWith(500);
+            double opened = transitions("closed", "open");
+
+            // When
+            for (int i = 0; i < 4; i++) {
+                assertThatThrownBy(() -> userServicePort.isOwnerRole(newUserId()))
+                        .isInstanceOf(DomainException.class)
+                        .hasMessage("users service unavailable");
+            }
+            int callsWhenOpened = USERS_SERVICE.requests();
+            assertThatThrownBy(() -> userServicePort.isOwnerRole(newUserId()))
+                    .isInstanceOf(DomainException.class)
+                    .hasMessage("users service unavailable");
+
+            // Then
+            assertThat(usersServiceCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThat(USERS_SERVICE.requests()).isEqualTo(callsWhenOpened);
+            assertThat(transitions("closed", "open") - opened).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should keep answering false for unknown users without opening")
+        void shouldIgnoreClientErrors() {
+            // Given
+            USERS_SERVICE.failingWith(404);
+
+            // When & Then
+            for (int i = 0; i < 6; i++) {
+                assertThat(userServicePort.isOwnerRole(newUserId())).isFalse();
+            }
+            assertThat(usersServiceCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("Should answer 503 on restaurant creation while the users service is down")
+        void shouldAnswerServiceUnavailable() throws Exception {
+            // Given
+            USERS_SERVICE.failingWith(503);
+            var request = TestDataFactory.createValidRestaurantCreateRequest();
+            request.setOwnerId(newUserId());
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/restaurants")
+                            .header("Authorization", adminBearer())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.message").value("users service unavailable"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulkhead Tests")
+    class BulkheadTests {
+
+        @Test
+        @DisplayName("Should reject calls beyond the concurrency limit without waiting")
+        void shouldRejectBeyondConcurrencyLimit() throws Exception {
+            // Given
+            USERS_SERVICE.withLatency(Duration.ofMillis(1_500));
+            ExecutorService pool = Executors.newFixedThreadPool(6);
+            List<Future<Long>> rejectedAfterMillis = new ArrayList<>();
+
+            // When
+            for (int i = 0; i < 6; i++) {
+                long userId = newUserId();
+                rejectedAfterMillis.add(pool.submit(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        userServicePort.isOwnerRole(userId);
+                        return -1L;
+                    } catch (DomainException e) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                }));
+            }
+            List<Long> rejections = new ArrayList<>();
+            for (Future<Long> result : rejectedAfterMillis) {
+                long millis = result.get(10, TimeUnit.SECONDS);
+                if (millis >= 0) {
+                    rejections.add(millis);
+                }
+            }
+            pool.shutdown();
+
+            // Then: como mucho 2 llamadas llegan a users-service; el resto falla sin esperar
+            assertThat(rejections).hasSizeGreaterThanOrEqualTo(4).allSatisfy(millis -> assertThat(millis)
+                    .isLessThan(1_000));
+            assertThat(USERS_SERVICE.requests()).isLessThanOrEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.pragma.powerup.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.pragma.powerup.infrastructure.security.JwtAuthenticationFilter;
+import com.pragma.powerup.infrastructure.security.JwtPrincipal;
+import com.pragma.powerup.infrastructure.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Tests unitarios para VerifiedTokenCache
+ * Valida aciertos, expiración por claim exp y métricas expuestas
+ */
+class VerifiedTokenCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(meterRegistry, 100, Duration.ofMinutes(15));
+    }
+
+    private static UsernamePasswordAuthenticationToken authExpiringAt(Instant expiresAt) {
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(
+                        "owner@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_OWNER")));
+        auth.setDetails(
+                new JwtAuthenticationFilter.AuthDetails(
+                        new JwtPrincipal("7", "owner@example.com", "OWNER", expiresAt)));
+        return auth;
+    }
+
+    private double counter(String name, String result) {
+        var search = meterRegistry.find(name).tag("cache", "jwt.verified");
+        if (result != null) {
+            search = search.tag("result", result);
+        }
+        var meter = search.functionCounter();
+        return meter == null ? 0 : meter.count();
+    }
+
+    @Test
+    @DisplayName("Should return the same authentication for a verified token")
+    void shouldReturnCachedAuthentication() {
+        // Given
+        UsernamePasswordAuthenticationToken auth = authExpiringAt(Instant.now().plusSeconds(3600));
+
+        // When
+        UsernamePasswordAuthenticationToken miss = cache.get("token-a");
+        cache.put("token-a", auth);
+        UsernamePasswordAuthenticationToken hit = cache.get("token-a");
+
+        // Then
+        assertThat(miss).isNull();
+        assertThat(hit).isSameAs(auth);
+        assertThat(hit.getAuthorities()).extracting("authority").containsExactly("ROLE_OWNER");
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(counter("cache.gets", "hit")).isEqualTo(1);
+        assertThat(counter("cache.gets", "miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not cache tokens that are already expired")
+    void shouldNotCacheExpiredToken() {
+        // When
+        cache.put("expired", authExpiringAt(Instant.now().minusSeconds(1)));
+
+        // Then
+        assertThat(cache.get("expired")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict the entry when the token exp passes")
+    void shouldEvictWhenTokenExpires() throws InterruptedException {
+        // Given
+        cache.put("short-lived", authExpiringAt(Instant.now().plusMillis(100)));
+        assertThat(cache.get("short-lived")).isNotNull();
+
+        // When
+        Thread.sleep(250);
+
+        // Then
+        assertThat(cache.get("short-lived")).isNull();
+        // Las expiraciones variables se barren por bloques de ~1s en cada mantenimiento de la caché
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(
+                        () -> {
+                            cache.get("short-lived");
+                            assertThat(counter("cache.evictions", null)).isEqualTo(1);
+                        });
+    }
+}